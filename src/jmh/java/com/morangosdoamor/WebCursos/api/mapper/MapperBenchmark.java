@@ -0,0 +1,122 @@
+package com.morangosdoamor.WebCursos.api.mapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.morangosdoamor.WebCursos.api.dto.AlunoDetailResponse;
+import com.morangosdoamor.WebCursos.api.dto.CursoDetailResponse;
+import com.morangosdoamor.WebCursos.api.dto.CursoResponse;
+import com.morangosdoamor.WebCursos.api.dto.MatriculaResponse;
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
+import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+
+/**
+ * Benchmarks dos mappers usados nas respostas da API.
+ *
+ * O parâmetro matriculas controla o tamanho do histórico do aluno convertido em
+ * toDetailResponse e da lista convertida por MatriculaMapper.toResponse(List).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"5", "50"})
+    private int matriculas;
+
+    private CursoMapper cursoMapper;
+    private MatriculaMapper matriculaMapper;
+    private AlunoMapper alunoMapper;
+
+    private Curso curso;
+    private Aluno aluno;
+    private List<Matricula> listaMatriculas;
+
+    @Setup
+    public void setup() {
+        cursoMapper = new CursoMapper();
+        matriculaMapper = new MatriculaMapper(cursoMapper);
+        alunoMapper = new AlunoMapper(matriculaMapper);
+
+        curso = curso(0);
+        aluno = Aluno.builder()
+            .id(UUID.randomUUID())
+            .nome("Maria Silva")
+            .email(new Email("maria.silva@webcursos.com"))
+            .matricula("MAT2024001")
+            .criadoEm(LocalDateTime.now())
+            .build();
+
+        listaMatriculas = new ArrayList<>(matriculas);
+        Set<Matricula> historico = new HashSet<>();
+        for (int i = 0; i < matriculas; i++) {
+            Matricula matricula = Matricula.builder()
+                .id(UUID.randomUUID())
+                .aluno(aluno)
+                .curso(curso(i))
+                .status(MatriculaStatus.CONCLUIDO)
+                .notaFinal(7.0 + (i % 3))
+                .dataMatricula(LocalDateTime.now().minusMonths(2))
+                .dataConclusao(LocalDateTime.now())
+                .build();
+            listaMatriculas.add(matricula);
+            historico.add(matricula);
+        }
+        aluno.setMatriculas(historico);
+    }
+
+    private static Curso curso(int indice) {
+        return Curso.builder()
+            .id(UUID.randomUUID())
+            .codigo("CURSO" + indice)
+            .nome("Curso " + indice)
+            .descricao("Descrição do curso " + indice + " com conteúdo prático e projetos.")
+            .cargaHoraria(new CargaHoraria(40 + indice))
+            .prerequisitos(new HashSet<>(Set.of("JAVA001", "SQL001")))
+            .build();
+    }
+
+    @Benchmark
+    public CursoResponse cursoToResponse() {
+        return cursoMapper.toResponse(curso);
+    }
+
+    @Benchmark
+    public CursoDetailResponse cursoToDetailResponse() {
+        return cursoMapper.toDetailResponse(curso);
+    }
+
+    @Benchmark
+    public List<MatriculaResponse> matriculasToResponse() {
+        return matriculaMapper.toResponse(listaMatriculas);
+    }
+
+    @Benchmark
+    public AlunoDetailResponse alunoToDetailResponse() {
+        return alunoMapper.toDetailResponse(aluno);
+    }
+}
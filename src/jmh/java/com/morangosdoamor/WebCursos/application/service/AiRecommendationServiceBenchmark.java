@@ -0,0 +1,70 @@
+package com.morangosdoamor.WebCursos.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.morangosdoamor.WebCursos.application.dto.CursoCompletoDTO;
+import com.morangosdoamor.WebCursos.application.dto.CursoDisponivelDTO;
+import com.morangosdoamor.WebCursos.infrastructure.cache.AiRecommendationCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks da montagem de prompt e da mensagem de fallback do AiRecommendationService.
+ *
+ * O parâmetro cursosDisponiveis segue o limite usado pelo CursoConcluidoProcessor (10).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiRecommendationServiceBenchmark {
+
+    @Param({"0", "10"})
+    private int cursosDisponiveis;
+
+    private AiRecommendationService service;
+    private List<CursoCompletoDTO> ultimos;
+    private List<CursoDisponivelDTO> disponiveis;
+
+    @Setup
+    public void setup() {
+        service = new AiRecommendationService(null, new AiRecommendationCache(new SimpleMeterRegistry(), 1, 1),
+            new SimpleMeterRegistry());
+        ultimos = List.of(
+            new CursoCompletoDTO("Java Básico", "JAVA001", 8.5),
+            new CursoCompletoDTO("Spring Boot", "SPRING001", 9.0),
+            new CursoCompletoDTO("SQL", "SQL001", 7.5)
+        );
+        disponiveis = new ArrayList<>(cursosDisponiveis);
+        for (int i = 0; i < cursosDisponiveis; i++) {
+            disponiveis.add(new CursoDisponivelDTO("Curso " + i, "CURSO" + i,
+                "Descrição detalhada do curso " + i + ", com projetos práticos e exercícios guiados para fixação.", 40));
+        }
+    }
+
+    @Benchmark
+    public String buildPrompt() {
+        return service.buildPrompt("Maria Silva", "Spring Boot", 9.0, ultimos, disponiveis);
+    }
+
+    @Benchmark
+    public String generateFallbackMessage() {
+        return service.generateFallbackMessage("Maria Silva", "Spring Boot", 9.0, disponiveis);
+    }
+}
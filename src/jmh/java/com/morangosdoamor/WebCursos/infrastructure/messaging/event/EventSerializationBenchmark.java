@@ -0,0 +1,67 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.config.RabbitMQConfig;
+
+/**
+ * Benchmarks da serialização JSON dos eventos publicados no RabbitMQ,
+ * usando o mesmo ObjectMapper configurado em RabbitMQConfig.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CursoConcluidoEvent cursoConcluidoEvent;
+    private EmailNotificationEvent emailNotificationEvent;
+    private String cursoConcluidoJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        objectMapper = new RabbitMQConfig().objectMapper();
+        cursoConcluidoEvent = CursoConcluidoEvent.of(
+            UUID.randomUUID(), "Maria Silva", "maria.silva@webcursos.com",
+            UUID.randomUUID(), "Spring Boot", "SPRING001", 9.0, LocalDateTime.now());
+        emailNotificationEvent = EmailNotificationEvent.forCourseCompletion(
+            UUID.randomUUID(),
+            "maria.silva@webcursos.com", "Maria Silva", "Spring Boot",
+            "Olá, Maria! Parabéns pela conclusão do curso. ".repeat(10),
+            UUID.randomUUID(), UUID.randomUUID());
+        cursoConcluidoJson = objectMapper.writeValueAsString(cursoConcluidoEvent);
+    }
+
+    @Benchmark
+    public byte[] serializarCursoConcluido() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cursoConcluidoEvent);
+    }
+
+    @Benchmark
+    public CursoConcluidoEvent desserializarCursoConcluido() throws JsonProcessingException {
+        return objectMapper.readValue(cursoConcluidoJson, CursoConcluidoEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serializarEmailNotification() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(emailNotificationEvent);
+    }
+}
@@ -0,0 +1,132 @@
+package com.morangosdoamor.WebCursos.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.morangosdoamor.WebCursos.domain.persistence.UuidV7Generator;
+
+/**
+ * Teste de carga de inserts na tabela de matrículas, medindo linhas inseridas por segundo.
+ *
+ * Compara as combinações de:
+ * - geracao: UUID v4 aleatório (antigo GenerationType.UUID) x UUID v7 (UuidV7Generator)
+ * - tamanhoLote: 1 (um round trip por insert) x 50 (hibernate.jdbc.batch_size)
+ *
+ * A tabela reproduz a de matrícula (PK uuid + índice (aluno_id, curso_id)) e cresce ao longo
+ * das iterações, expondo o custo de inserir chaves aleatórias em um índice B-tree grande.
+ *
+ * Por padrão roda contra H2 em memória (perfis dev/test). Para o PostgreSQL do perfil staging:
+ * BENCH_JDBC_URL=jdbc:postgresql://localhost:5432/webcursos?reWriteBatchedInserts=true
+ * BENCH_JDBC_USER=postgres BENCH_JDBC_PASSWORD=postgres
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertThroughputBenchmark {
+
+    private static final int LINHAS_POR_TRANSACAO = 1000;
+
+    @Param({"V4", "V7"})
+    private String geracao;
+
+    @Param({"1", "50"})
+    private int tamanhoLote;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private final UUID[] alunos = new UUID[100];
+    private final UUID[] cursos = new UUID[20];
+    private int sequencia;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+            env("BENCH_JDBC_URL", "jdbc:h2:mem:bench_insert;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+            env("BENCH_JDBC_USER", "sa"),
+            env("BENCH_JDBC_PASSWORD", ""));
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS bench_matricula");
+            ddl.execute("CREATE TABLE bench_matricula (id uuid PRIMARY KEY, aluno_id uuid NOT NULL, "
+                + "curso_id uuid NOT NULL, status varchar(20) NOT NULL, data_matricula timestamp NOT NULL)");
+            ddl.execute("CREATE INDEX idx_bench_matricula_aluno_curso ON bench_matricula (aluno_id, curso_id)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO bench_matricula "
+            + "(id, aluno_id, curso_id, status, data_matricula) VALUES (?, ?, ?, ?, ?)");
+
+        UuidV7Generator v7 = new UuidV7Generator();
+        ids = "V7".equals(geracao) ? v7::gerar : UUID::randomUUID;
+        for (int i = 0; i < alunos.length; i++) {
+            alunos[i] = v7.gerar();
+        }
+        for (int i = 0; i < cursos.length; i++) {
+            cursos[i] = v7.gerar();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE bench_matricula");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS_POR_TRANSACAO)
+    public void inserirMatriculas() throws SQLException {
+        Timestamp agora = new Timestamp(System.currentTimeMillis());
+        for (int i = 1; i <= LINHAS_POR_TRANSACAO; i++) {
+            int n = sequencia++;
+            insert.setObject(1, ids.get());
+            insert.setObject(2, alunos[n % alunos.length]);
+            insert.setObject(3, cursos[(n / alunos.length) % cursos.length]);
+            insert.setString(4, "MATRICULADO");
+            insert.setTimestamp(5, agora);
+            if (tamanhoLote == 1) {
+                insert.executeUpdate();
+            } else {
+                insert.addBatch();
+                if (i % tamanhoLote == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        if (tamanhoLote > 1) {
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static String env(String nome, String padrao) {
+        String valor = System.getenv(nome);
+        return valor != null && !valor.isBlank() ? valor : padrao;
+    }
+}
@@ -1,10 +1,13 @@
 package com.morangosdoamor.WebCursos.api.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,9 +17,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import com.morangosdoamor.WebCursos.api.dto.AlunoDetailResponse;
 import com.morangosdoamor.WebCursos.api.dto.AlunoRequest;
 import com.morangosdoamor.WebCursos.api.dto.AlunoResponse;
@@ -28,6 +38,8 @@ import com.morangosdoamor.WebCursos.api.dto.MatriculaResponse;
 import com.morangosdoamor.WebCursos.api.mapper.AlunoMapper;
 import com.morangosdoamor.WebCursos.api.mapper.CursoMapper;
 import com.morangosdoamor.WebCursos.api.mapper.MatriculaMapper;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.application.service.AlunoService;
 import com.morangosdoamor.WebCursos.application.service.CursoService;
 import com.morangosdoamor.WebCursos.application.service.MatriculaService;
@@ -54,6 +66,7 @@ public class AlunoController {
     private final AlunoMapper alunoMapper;
     private final MatriculaMapper matriculaMapper;
     private final CursoMapper cursoMapper;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Criar novo aluno", description = "Cria um novo aluno no sistema")
@@ -75,13 +88,21 @@ public class AlunoController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os alunos", description = "Retorna lista de todos os alunos cadastrados")
-    @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
-    public ResponseEntity<List<AlunoResponse>> listarTodos() {
-        List<AlunoResponse> alunos = alunoService.listarTodos().stream()
+    @Operation(summary = "Listar alunos", description = "Retorna uma página de alunos ordenados por nome. "
+        + "O cursor da próxima página é devolvido no header X-Next-Cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor de paginação inválido")
+    })
+    public ResponseEntity<List<AlunoResponse>> listarTodos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Paginacao.TAMANHO_PADRAO) int tamanho) {
+        Pagina<Aluno> pagina = alunoService.listarPagina(
+            CursorPaginacao.decodificar(cursor), Paginacao.limitarTamanho(tamanho));
+        List<AlunoResponse> alunos = pagina.itens().stream()
             .map(alunoMapper::toResponse)
             .toList();
-        return ResponseEntity.ok(alunos);
+        return Paginacao.responder(pagina, alunos);
     }
 
     @GetMapping("/{id}")
@@ -95,6 +116,33 @@ public class AlunoController {
         return ResponseEntity.ok(alunoMapper.toDetailResponse(aluno));
     }
 
+    @GetMapping(value = "/exportacao", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar alunos com matrículas",
+        description = "Exporta todos os alunos em NDJSON (um AlunoDetailResponse por linha), em streaming "
+            + "a partir de um cursor do banco, com memória constante independentemente da quantidade de alunos")
+    @ApiResponse(responseCode = "200", description = "Exportação iniciada")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody corpo = saida -> {
+            ObjectWriter writer = objectMapper.writerFor(AlunoDetailResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator gerador = objectMapper.createGenerator(saida)) {
+                gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                gerador.setRootValueSeparator(null);
+                alunoService.exportar(aluno -> escreverLinha(gerador, writer, alunoMapper.toDetailResponse(aluno)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+    }
+
+    private static void escreverLinha(JsonGenerator gerador, ObjectWriter writer, AlunoDetailResponse aluno) {
+        try {
+            writer.writeValue(gerador, aluno);
+            gerador.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @GetMapping("/email/{email}")
     @Operation(summary = "Buscar aluno por email", description = "Busca aluno pelo endereço de email")
     @ApiResponses({
@@ -21,7 +21,10 @@ import com.morangosdoamor.WebCursos.api.dto.CursoRequest;
 import com.morangosdoamor.WebCursos.api.dto.CursoResponse;
 import com.morangosdoamor.WebCursos.api.dto.CursoUpdateRequest;
 import com.morangosdoamor.WebCursos.api.mapper.CursoMapper;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.application.service.CursoService;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -52,13 +55,21 @@ public class CursoController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os cursos", description = "Retorna lista de todos os cursos cadastrados")
-    @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
-    public ResponseEntity<List<CursoResponse>> listarTodos() {
-        List<CursoResponse> cursos = cursoService.listarTodos().stream()
+    @Operation(summary = "Listar cursos", description = "Retorna uma página de cursos ordenados por nome. "
+        + "O cursor da próxima página é devolvido no header X-Next-Cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor de paginação inválido")
+    })
+    public ResponseEntity<List<CursoResponse>> listarTodos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Paginacao.TAMANHO_PADRAO) int tamanho) {
+        Pagina<Curso> pagina = cursoService.listarPagina(
+            CursorPaginacao.decodificar(cursor), Paginacao.limitarTamanho(tamanho));
+        List<CursoResponse> cursos = pagina.itens().stream()
             .map(cursoMapper::toResponse)
             .toList();
-        return ResponseEntity.ok(cursos);
+        return Paginacao.responder(pagina, cursos);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,53 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.morangosdoamor.WebCursos.api.dto.ReprocessamentoDlqRequest;
+import com.morangosdoamor.WebCursos.api.dto.ReprocessamentoDlqResponse;
+import com.morangosdoamor.WebCursos.application.dto.FiltroReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.application.service.ReprocessamentoDlqService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Operações administrativas sobre a DLQ (curso.concluido.dlq).
+ * 
+ * O reprocessamento é síncrono: a resposta só é enviada após a varredura da fila,
+ * cuja duração é limitada pela taxa e pela quantidade máxima de mensagens.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/dlq")
+@RequiredArgsConstructor
+@Tag(name = "DLQ", description = "Reprocessamento de mensagens da Dead Letter Queue")
+public class DlqController {
+
+    private final ReprocessamentoDlqService reprocessamentoDlqService;
+
+    @PostMapping("/reprocessamento")
+    @Operation(summary = "Reprocessar mensagens da DLQ",
+        description = "Reenvia ao exchange e routing key de origem as mensagens da DLQ que atendem ao filtro "
+            + "(tipo do evento, aluno e janela de chegada na DLQ), respeitando o limite de mensagens por segundo. "
+            + "As demais mensagens permanecem na DLQ")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Reprocessamento concluído; totais na resposta"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+        @ApiResponse(responseCode = "422", description = "Janela de tempo inválida")
+    })
+    public ResponseEntity<ReprocessamentoDlqResponse> reprocessar(@Valid @RequestBody ReprocessamentoDlqRequest request) {
+        ResultadoReprocessamentoDlq resultado = reprocessamentoDlqService.reprocessar(new FiltroReprocessamentoDlq(
+            request.tipo(), request.alunoId(), request.de(), request.ate(),
+            request.mensagensPorSegundo(), request.maxMensagens()));
+        return ResponseEntity.ok(new ReprocessamentoDlqResponse(
+            resultado.lidas(), resultado.reenviadas(), resultado.mantidas(), resultado.mensagensPorSegundo()));
+    }
+}
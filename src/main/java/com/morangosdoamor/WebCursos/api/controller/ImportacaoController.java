@@ -0,0 +1,79 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.morangosdoamor.WebCursos.api.dto.ImportacaoResponse;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoImportacao;
+import com.morangosdoamor.WebCursos.application.importacao.FormatoImportacao;
+import com.morangosdoamor.WebCursos.application.service.ImportacaoService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Upload de arquivos para importação em lote.
+ * 
+ * O corpo da requisição é o próprio arquivo (sem multipart), lido em streaming pelo
+ * ImportacaoService à medida que chega; o formato é definido pelo Content-Type.
+ */
+@RestController
+@RequestMapping("/api/v1/importacao")
+@RequiredArgsConstructor
+@Tag(name = "Importação", description = "Importação em lote de alunos e cursos")
+public class ImportacaoController {
+
+    private final ImportacaoService importacaoService;
+
+    @PostMapping(value = "/alunos", consumes = {FormatoImportacao.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+        FormatoImportacao.APPLICATION_JSONL_VALUE})
+    @Operation(summary = "Importar alunos",
+        description = "Importa alunos de um arquivo CSV (cabeçalho nome,email,matricula) ou NDJSON. "
+            + "Linhas inválidas ou duplicadas são rejeitadas sem interromper a importação")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Arquivo processado; totais e rejeições na resposta")
+    })
+    public ResponseEntity<ImportacaoResponse> importarAlunos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream corpo) throws IOException {
+        ResultadoImportacao resultado = importacaoService.importarAlunos(corpo, FormatoImportacao.doContentType(contentType));
+        return ResponseEntity.ok(toResponse(resultado));
+    }
+
+    @PostMapping(value = "/cursos", consumes = {FormatoImportacao.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+        FormatoImportacao.APPLICATION_JSONL_VALUE})
+    @Operation(summary = "Importar cursos",
+        description = "Importa cursos de um arquivo CSV (cabeçalho codigo,nome,descricao,cargaHoraria,prerequisitos, "
+            + "com pré-requisitos separados por ';') ou NDJSON. Linhas inválidas ou duplicadas são rejeitadas "
+            + "sem interromper a importação")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Arquivo processado; totais e rejeições na resposta")
+    })
+    public ResponseEntity<ImportacaoResponse> importarCursos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream corpo) throws IOException {
+        ResultadoImportacao resultado = importacaoService.importarCursos(corpo, FormatoImportacao.doContentType(contentType));
+        return ResponseEntity.ok(toResponse(resultado));
+    }
+
+    private static ImportacaoResponse toResponse(ResultadoImportacao resultado) {
+        return new ImportacaoResponse(
+            resultado.linhasLidas(),
+            resultado.importados(),
+            resultado.rejeitados(),
+            resultado.rejeicoes().stream()
+                .map(rejeicao -> new ImportacaoResponse.Rejeicao(rejeicao.linha(), rejeicao.motivo()))
+                .toList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.morangosdoamor.WebCursos.api.dto.ConclusaoLoteRequest;
+import com.morangosdoamor.WebCursos.api.dto.ConclusaoLoteResponse;
+import com.morangosdoamor.WebCursos.api.dto.MatriculaLoteRequest;
+import com.morangosdoamor.WebCursos.api.dto.MatriculaLoteResponse;
+import com.morangosdoamor.WebCursos.api.mapper.MatriculaMapper;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoMatricula;
+import com.morangosdoamor.WebCursos.application.service.MatriculaService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/matriculas")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Matrículas", description = "Operações em lote sobre matrículas")
+public class MatriculaController {
+
+    private final MatriculaService matriculaService;
+    private final MatriculaMapper matriculaMapper;
+
+    @PostMapping("/lote")
+    @Operation(summary = "Matricular alunos em lote",
+        description = "Matricula até " + MatriculaLoteRequest.MAX_ITENS + " pares (aluno, curso) em uma única "
+            + "transação. Itens inválidos são rejeitados individualmente sem interromper o lote")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lote processado; o resultado de cada item está na resposta"),
+        @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou com itens incompletos")
+    })
+    public ResponseEntity<MatriculaLoteResponse> matricularEmLote(@Valid @RequestBody MatriculaLoteRequest request) {
+        List<ResultadoMatricula> resultados = matriculaService.matricularEmLote(matriculaMapper.toSolicitacoes(request));
+        return ResponseEntity.ok(matriculaMapper.toLoteResponse(resultados));
+    }
+
+    @PostMapping("/conclusao/lote")
+    @Operation(summary = "Concluir matrículas em lote",
+        description = "Registra a nota final de até " + ConclusaoLoteRequest.MAX_ITENS + " matrículas em uma única "
+            + "transação, como no lançamento das notas de uma turma. Os eventos de conclusão são gravados "
+            + "na outbox de uma vez. Itens inválidos são rejeitados individualmente sem interromper o lote")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lote processado; o resultado de cada item está na resposta"),
+        @ApiResponse(responseCode = "400", description = "Lote vazio, acima do limite ou com notas inválidas")
+    })
+    public ResponseEntity<ConclusaoLoteResponse> concluirEmLote(@Valid @RequestBody ConclusaoLoteRequest request) {
+        List<ResultadoConclusao> resultados = matriculaService.concluirEmLote(matriculaMapper.toSolicitacoes(request));
+        return ResponseEntity.ok(matriculaMapper.toConclusaoLoteResponse(resultados));
+    }
+}
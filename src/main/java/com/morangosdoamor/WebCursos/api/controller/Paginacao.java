@@ -0,0 +1,49 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
+
+/**
+ * Utilitário dos controllers para listagens paginadas por cursor.
+ * 
+ * O corpo da resposta continua sendo um array JSON (limitado ao tamanho da página);
+ * o cursor opaco da próxima página é devolvido no header {@value #HEADER_PROXIMO_CURSOR}
+ * e deve ser reenviado no parâmetro {@code cursor}. A ausência do header indica a última página.
+ */
+final class Paginacao {
+
+    static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
+    static final int TAMANHO_PADRAO = 20;
+    static final int TAMANHO_MAXIMO = 100;
+
+    private Paginacao() {
+    }
+
+    /**
+     * Restringe o tamanho de página solicitado ao intervalo [1, TAMANHO_MAXIMO].
+     * 
+     * @param tamanho Tamanho solicitado pelo cliente
+     * @return Tamanho efetivo da página
+     */
+    static int limitarTamanho(int tamanho) {
+        return Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO));
+    }
+
+    /**
+     * Monta a resposta HTTP 200 com os itens convertidos e o header do próximo cursor, se houver.
+     * 
+     * @param pagina Página retornada pelo serviço
+     * @param itens Itens da página já convertidos para DTOs
+     * @return Resposta HTTP com corpo e header de paginação
+     */
+    static <T> ResponseEntity<List<T>> responder(Pagina<?> pagina, List<T> itens) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (pagina.proximoCursor() != null) {
+            response.header(HEADER_PROXIMO_CURSOR, pagina.proximoCursor().codificar());
+        }
+        return response.body(itens);
+    }
+}
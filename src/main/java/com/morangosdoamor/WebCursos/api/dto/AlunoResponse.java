@@ -8,5 +8,9 @@ public record AlunoResponse(
     String nome,
     String email,
     String matricula,
-    LocalDateTime criadoEm
+    LocalDateTime criadoEm,
+    int totalMatriculas,
+    int totalConcluidos,
+    int totalAprovados,
+    Double mediaNotas
 ) {}
@@ -0,0 +1,30 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ConclusaoLoteRequest(
+    @NotEmpty(message = "Informe ao menos uma conclusão")
+    @Size(max = ConclusaoLoteRequest.MAX_ITENS, message = "Máximo de " + ConclusaoLoteRequest.MAX_ITENS + " conclusões por lote")
+    List<@Valid Item> itens
+) {
+
+    public static final int MAX_ITENS = 5000;
+
+    public record Item(
+        @NotNull(message = "ID da matrícula é obrigatório")
+        UUID matriculaId,
+
+        @NotNull(message = "Nota final é obrigatória")
+        @Min(value = 0, message = "Nota mínima é 0")
+        @Max(value = 10, message = "Nota máxima é 10")
+        Double notaFinal
+    ) {}
+}
@@ -0,0 +1,20 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ConclusaoLoteResponse(
+    int total,
+    int concluidas,
+    int rejeitadas,
+    List<Item> resultados
+) {
+
+    public record Item(
+        UUID matriculaId,
+        Double notaFinal,
+        boolean sucesso,
+        Boolean aprovado,
+        String motivo
+    ) {}
+}
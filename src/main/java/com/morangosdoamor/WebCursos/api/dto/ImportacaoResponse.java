@@ -0,0 +1,16 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+import java.util.List;
+
+public record ImportacaoResponse(
+    long linhasLidas,
+    long importados,
+    long rejeitados,
+    List<Rejeicao> rejeicoes
+) {
+
+    public record Rejeicao(
+        long linha,
+        String motivo
+    ) {}
+}
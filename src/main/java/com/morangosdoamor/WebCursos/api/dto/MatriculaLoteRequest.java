@@ -0,0 +1,27 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record MatriculaLoteRequest(
+    @NotEmpty(message = "Informe ao menos uma matrícula")
+    @Size(max = MatriculaLoteRequest.MAX_ITENS, message = "Máximo de " + MatriculaLoteRequest.MAX_ITENS + " matrículas por lote")
+    List<@Valid Item> itens
+) {
+
+    public static final int MAX_ITENS = 5000;
+
+    public record Item(
+        @NotNull(message = "ID do aluno é obrigatório")
+        UUID alunoId,
+
+        @NotBlank(message = "Código do curso é obrigatório")
+        String codigoCurso
+    ) {}
+}
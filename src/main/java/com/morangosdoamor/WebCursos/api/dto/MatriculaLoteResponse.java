@@ -0,0 +1,20 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MatriculaLoteResponse(
+    int total,
+    int matriculadas,
+    int rejeitadas,
+    List<Item> resultados
+) {
+
+    public record Item(
+        UUID alunoId,
+        String codigoCurso,
+        boolean sucesso,
+        UUID matriculaId,
+        String motivo
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record ReprocessamentoDlqRequest(
+    @Size(max = 255, message = "Tipo do evento deve ter no máximo 255 caracteres")
+    String tipo,
+
+    UUID alunoId,
+
+    LocalDateTime de,
+
+    LocalDateTime ate,
+
+    @Positive(message = "Mensagens por segundo deve ser positivo")
+    Integer mensagensPorSegundo,
+
+    @Positive(message = "Quantidade máxima de mensagens deve ser positiva")
+    Integer maxMensagens
+) {}
@@ -0,0 +1,8 @@
+package com.morangosdoamor.WebCursos.api.dto;
+
+public record ReprocessamentoDlqResponse(
+    int lidas,
+    int reenviadas,
+    int mantidas,
+    int mensagensPorSegundo
+) {}
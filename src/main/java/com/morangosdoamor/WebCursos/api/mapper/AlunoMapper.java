@@ -12,6 +12,7 @@ import com.morangosdoamor.WebCursos.api.dto.AlunoUpdateRequest;
 import com.morangosdoamor.WebCursos.api.dto.MatriculaResponse;
 import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+import com.morangosdoamor.WebCursos.domain.valueobject.EstatisticasAluno;
 
 import lombok.RequiredArgsConstructor;
 
@@ -54,18 +55,27 @@ public class AlunoMapper {
     /**
      * Converte Entidade para DTO de Resposta resumido.
      * Extrai valores dos Value Objects para tipos primitivos.
-     * Não inclui informações detalhadas como matrículas.
+     * Não inclui informações detalhadas como matrículas, apenas as estatísticas agregadas,
+     * lidas da própria linha do aluno sem consultar as matrículas.
      * 
      * @param aluno Entidade de domínio Aluno
      * @return DTO de resposta resumido com dados básicos do aluno
      */
     public AlunoResponse toResponse(Aluno aluno) {
+        EstatisticasAluno estatisticas = aluno.getEstatisticas() != null
+            ? aluno.getEstatisticas()
+            : new EstatisticasAluno();
+
         return new AlunoResponse(
             aluno.getId(),
             aluno.getNome(),
             aluno.getEmail() != null ? aluno.getEmail().getValue() : null,
             aluno.getMatricula(),
-            aluno.getCriadoEm()
+            aluno.getCriadoEm(),
+            estatisticas.getTotalMatriculas(),
+            estatisticas.getTotalConcluidos(),
+            estatisticas.getTotalAprovados(),
+            estatisticas.getMediaNotas()
         );
     }
 
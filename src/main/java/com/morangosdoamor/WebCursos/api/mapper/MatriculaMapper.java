@@ -4,7 +4,15 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.morangosdoamor.WebCursos.api.dto.ConclusaoLoteRequest;
+import com.morangosdoamor.WebCursos.api.dto.ConclusaoLoteResponse;
+import com.morangosdoamor.WebCursos.api.dto.MatriculaLoteRequest;
+import com.morangosdoamor.WebCursos.api.dto.MatriculaLoteResponse;
 import com.morangosdoamor.WebCursos.api.dto.MatriculaResponse;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoMatricula;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoMatricula;
 import com.morangosdoamor.WebCursos.domain.entity.Matricula;
 
 import lombok.RequiredArgsConstructor;
@@ -20,6 +28,7 @@ import lombok.RequiredArgsConstructor;
  * Responsabilidades:
  * - Conversão de entidades de domínio para DTOs de Response
  * - Conversão de coleções de matrículas
+ * - Conversão das solicitações e resultados da matrícula e da conclusão em lote
  * - Inclusão de dados relacionados (curso) nos DTOs de resposta
  */
 @Component
@@ -57,4 +66,68 @@ public class MatriculaMapper {
     public List<MatriculaResponse> toResponse(List<Matricula> matriculas) {
         return matriculas.stream().map(this::toResponse).toList();
     }
+
+    /**
+     * Converte o DTO de matrícula em lote para as solicitações do serviço.
+     * 
+     * @param request DTO com os pares (aluno, curso)
+     * @return Solicitações na mesma ordem
+     */
+    public List<SolicitacaoMatricula> toSolicitacoes(MatriculaLoteRequest request) {
+        return request.itens().stream()
+            .map(item -> new SolicitacaoMatricula(item.alunoId(), item.codigoCurso()))
+            .toList();
+    }
+
+    /**
+     * Converte os resultados da matrícula em lote para DTO de resposta.
+     * Cada item traz apenas o ID da matrícula criada, mantendo a resposta compacta
+     * para lotes com milhares de itens.
+     * 
+     * @param resultados Resultados por item, na ordem da solicitação
+     * @return DTO com totais e resultado de cada item
+     */
+    public MatriculaLoteResponse toLoteResponse(List<ResultadoMatricula> resultados) {
+        List<MatriculaLoteResponse.Item> itens = resultados.stream()
+            .map(resultado -> new MatriculaLoteResponse.Item(
+                resultado.solicitacao().alunoId(),
+                resultado.solicitacao().codigoCurso(),
+                resultado.sucesso(),
+                resultado.sucesso() ? resultado.matricula().getId() : null,
+                resultado.motivo()))
+            .toList();
+        int matriculadas = (int) itens.stream().filter(MatriculaLoteResponse.Item::sucesso).count();
+        return new MatriculaLoteResponse(itens.size(), matriculadas, itens.size() - matriculadas, itens);
+    }
+
+    /**
+     * Converte o DTO de conclusão em lote para as solicitações do serviço.
+     * 
+     * @param request DTO com os pares (matrícula, nota final)
+     * @return Solicitações na mesma ordem
+     */
+    public List<SolicitacaoConclusao> toSolicitacoes(ConclusaoLoteRequest request) {
+        return request.itens().stream()
+            .map(item -> new SolicitacaoConclusao(item.matriculaId(), item.notaFinal()))
+            .toList();
+    }
+
+    /**
+     * Converte os resultados da conclusão em lote para DTO de resposta.
+     * 
+     * @param resultados Resultados por item, na ordem da solicitação
+     * @return DTO com totais e resultado de cada item
+     */
+    public ConclusaoLoteResponse toConclusaoLoteResponse(List<ResultadoConclusao> resultados) {
+        List<ConclusaoLoteResponse.Item> itens = resultados.stream()
+            .map(resultado -> new ConclusaoLoteResponse.Item(
+                resultado.solicitacao().matriculaId(),
+                resultado.solicitacao().notaFinal(),
+                resultado.sucesso(),
+                resultado.sucesso() ? resultado.matricula().estaAprovado() : null,
+                resultado.motivo()))
+            .toList();
+        int concluidas = (int) itens.stream().filter(ConclusaoLoteResponse.Item::sucesso).count();
+        return new ConclusaoLoteResponse(itens.size(), concluidas, itens.size() - concluidas, itens);
+    }
 }
@@ -0,0 +1,61 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.morangosdoamor.WebCursos.domain.exception.DomainException;
+
+/**
+ * Cursor opaco de paginação por keyset (nome, id).
+ * Representa a posição do último item entregue, permitindo buscar a próxima página
+ * com {@code WHERE (nome, id) > (:nome, :id)} em vez de OFFSET, de modo que o custo
+ * de cada página não depende da profundidade da navegação.
+ * 
+ * O token trafega para o cliente codificado em Base64 URL-safe e não deve ser interpretado por ele.
+ * 
+ * @param nome Nome do último item da página anterior
+ * @param id ID do último item da página anterior (desempate para nomes iguais)
+ */
+public record CursorPaginacao(
+    String nome,
+    UUID id
+) {
+
+    private static final char SEPARADOR = ':';
+
+    /**
+     * Codifica o cursor em um token opaco para ser devolvido ao cliente.
+     * 
+     * @return Token Base64 URL-safe sem padding
+     */
+    public String codificar() {
+        String bruto = id.toString() + SEPARADOR + nome;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente.
+     * 
+     * @param token Token opaco gerado por {@link #codificar()}
+     * @return Cursor decodificado, ou null se o token for nulo ou vazio (primeira página)
+     * @throws DomainException se o token estiver malformado
+     */
+    public static CursorPaginacao decodificar(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String bruto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = bruto.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new DomainException("Cursor de paginação inválido");
+            }
+            UUID id = UUID.fromString(bruto.substring(0, separador));
+            return new CursorPaginacao(bruto.substring(separador + 1), id);
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Cursor de paginação inválido");
+        }
+    }
+}
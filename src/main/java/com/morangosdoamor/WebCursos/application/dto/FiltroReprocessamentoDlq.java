@@ -0,0 +1,23 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Critérios de seleção das mensagens da DLQ a reenviar. Critérios nulos não filtram.
+ * 
+ * @param tipo Tipo do evento (nome simples ou qualificado da classe, ex: CursoConcluidoEvent)
+ * @param alunoId Aluno do evento
+ * @param de Início da janela de chegada na DLQ (inclusivo)
+ * @param ate Fim da janela de chegada na DLQ (inclusivo)
+ * @param mensagensPorSegundo Taxa de reenvio desejada, limitada pelo teto configurado
+ * @param maxMensagens Máximo de mensagens reenviadas, limitado pelo teto configurado
+ */
+public record FiltroReprocessamentoDlq(
+    String tipo,
+    UUID alunoId,
+    LocalDateTime de,
+    LocalDateTime ate,
+    Integer mensagensPorSegundo,
+    Integer maxMensagens
+) {}
@@ -0,0 +1,34 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados obtida por paginação keyset.
+ * 
+ * @param <T> Tipo dos itens da página
+ * @param itens Itens da página, na ordem (nome, id)
+ * @param proximoCursor Cursor para a próxima página, ou null se esta for a última
+ */
+public record Pagina<T>(
+    List<T> itens,
+    CursorPaginacao proximoCursor
+) {
+
+    /**
+     * Monta uma página a partir de uma consulta que buscou {@code tamanho + 1} itens.
+     * O item excedente apenas sinaliza que existe uma próxima página e não é devolvido.
+     * 
+     * @param itens Itens retornados pelo repositório (até tamanho + 1)
+     * @param tamanho Tamanho solicitado da página
+     * @param cursorDe Função que extrai o cursor de um item
+     * @return Página com no máximo {@code tamanho} itens
+     */
+    public static <T> Pagina<T> de(List<T> itens, int tamanho, Function<T, CursorPaginacao> cursorDe) {
+        if (itens.size() <= tamanho) {
+            return new Pagina<>(itens, null);
+        }
+        List<T> pagina = itens.subList(0, tamanho);
+        return new Pagina<>(pagina, cursorDe.apply(pagina.get(tamanho - 1)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+
+/**
+ * Resultado de um item da conclusão em lote.
+ * 
+ * @param solicitacao Item solicitado
+ * @param matricula Matrícula concluída, ou null se o item foi rejeitado
+ * @param motivo Motivo da rejeição, ou null se a matrícula foi concluída
+ */
+public record ResultadoConclusao(
+    SolicitacaoConclusao solicitacao,
+    Matricula matricula,
+    String motivo
+) {
+
+    public static ResultadoConclusao concluida(SolicitacaoConclusao solicitacao, Matricula matricula) {
+        return new ResultadoConclusao(solicitacao, matricula, null);
+    }
+
+    public static ResultadoConclusao rejeitada(SolicitacaoConclusao solicitacao, String motivo) {
+        return new ResultadoConclusao(solicitacao, null, motivo);
+    }
+
+    public boolean sucesso() {
+        return matricula != null;
+    }
+}
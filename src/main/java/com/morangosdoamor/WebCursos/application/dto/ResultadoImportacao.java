@@ -0,0 +1,27 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote.
+ * 
+ * @param linhasLidas Registros lidos do arquivo (sem contar cabeçalho e linhas em branco)
+ * @param importados Registros gravados
+ * @param rejeitados Registros rejeitados
+ * @param rejeicoes Primeiras rejeições, com linha e motivo (limitadas a webcursos.importacao.max-rejeicoes-reportadas)
+ */
+public record ResultadoImportacao(
+    long linhasLidas,
+    long importados,
+    long rejeitados,
+    List<Rejeicao> rejeicoes
+) {
+
+    /**
+     * Linha rejeitada na importação.
+     * 
+     * @param linha Número da linha no arquivo
+     * @param motivo Motivo da rejeição
+     */
+    public record Rejeicao(long linha, String motivo) {}
+}
@@ -0,0 +1,29 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+
+/**
+ * Resultado de um item da matrícula em lote.
+ * 
+ * @param solicitacao Item solicitado
+ * @param matricula Matrícula criada, ou null se o item foi rejeitado
+ * @param motivo Motivo da rejeição, ou null se a matrícula foi criada
+ */
+public record ResultadoMatricula(
+    SolicitacaoMatricula solicitacao,
+    Matricula matricula,
+    String motivo
+) {
+
+    public static ResultadoMatricula criada(SolicitacaoMatricula solicitacao, Matricula matricula) {
+        return new ResultadoMatricula(solicitacao, matricula, null);
+    }
+
+    public static ResultadoMatricula rejeitada(SolicitacaoMatricula solicitacao, String motivo) {
+        return new ResultadoMatricula(solicitacao, null, motivo);
+    }
+
+    public boolean sucesso() {
+        return matricula != null;
+    }
+}
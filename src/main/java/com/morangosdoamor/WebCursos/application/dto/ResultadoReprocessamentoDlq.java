@@ -0,0 +1,16 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+/**
+ * Resultado de um reprocessamento da DLQ.
+ * 
+ * @param lidas Mensagens examinadas
+ * @param reenviadas Mensagens reenviadas ao exchange de origem e removidas da DLQ
+ * @param mantidas Mensagens que não atenderam ao filtro (ou sem destino original) e permaneceram na DLQ
+ * @param mensagensPorSegundo Taxa de reenvio aplicada
+ */
+public record ResultadoReprocessamentoDlq(
+    int lidas,
+    int reenviadas,
+    int mantidas,
+    int mensagensPorSegundo
+) {}
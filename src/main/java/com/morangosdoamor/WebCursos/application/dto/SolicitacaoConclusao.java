@@ -0,0 +1,14 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Item de uma conclusão em lote: matrícula a ser concluída e nota final.
+ * 
+ * @param matriculaId ID da matrícula
+ * @param notaFinal Nota final do curso (0 a 10)
+ */
+public record SolicitacaoConclusao(
+    UUID matriculaId,
+    double notaFinal
+) {}
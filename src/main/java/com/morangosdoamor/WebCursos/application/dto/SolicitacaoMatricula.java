@@ -0,0 +1,14 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Item de uma matrícula em lote: aluno a ser matriculado e código do curso.
+ * 
+ * @param alunoId ID do aluno
+ * @param codigoCurso Código do curso (ex: JAVA001)
+ */
+public record SolicitacaoMatricula(
+    UUID alunoId,
+    String codigoCurso
+) {}
@@ -0,0 +1,55 @@
+package com.morangosdoamor.WebCursos.application.importacao;
+
+import java.util.Locale;
+
+/**
+ * Formatos aceitos pela importação em lote.
+ * 
+ * - CSV: primeira linha com os nomes das colunas (mesmos nomes dos campos do request de criação);
+ *   listas (ex: prerequisitos) separadas por ';'
+ * - NDJSON: um objeto JSON por linha, no mesmo formato do request de criação
+ *   (application/x-ndjson ou application/jsonl)
+ */
+public enum FormatoImportacao {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_JSONL_VALUE = "application/jsonl";
+
+    /**
+     * Identifica o formato pelo Content-Type da requisição.
+     * 
+     * @param contentType Valor do header Content-Type
+     * @return Formato correspondente
+     * @throws IllegalArgumentException se o Content-Type não for suportado
+     */
+    public static FormatoImportacao doContentType(String contentType) {
+        String tipo = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (tipo.startsWith(TEXT_CSV_VALUE)) {
+            return CSV;
+        }
+        if (tipo.startsWith("application/x-ndjson") || tipo.startsWith(APPLICATION_JSONL_VALUE)) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Formato de importação não suportado: " + contentType);
+    }
+
+    /**
+     * Identifica o formato pela extensão do arquivo (.csv, .ndjson ou .jsonl).
+     * 
+     * @param arquivo Nome ou caminho do arquivo
+     * @return Formato correspondente
+     * @throws IllegalArgumentException se a extensão não for suportada
+     */
+    public static FormatoImportacao doArquivo(String arquivo) {
+        String nome = arquivo.toLowerCase(Locale.ROOT);
+        if (nome.endsWith(".csv")) {
+            return CSV;
+        }
+        if (nome.endsWith(".ndjson") || nome.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Extensão de arquivo não suportada para importação: " + arquivo);
+    }
+}
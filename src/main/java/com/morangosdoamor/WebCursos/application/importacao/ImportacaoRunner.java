@@ -0,0 +1,86 @@
+package com.morangosdoamor.WebCursos.application.importacao;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntConsumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.application.dto.ResultadoImportacao;
+import com.morangosdoamor.WebCursos.application.service.ImportacaoService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Execução da importação em lote pela linha de comando.
+ * 
+ * Ativado quando webcursos.importacao.arquivo é informado; importa o arquivo e encerra a
+ * aplicação (código de saída 0 sem rejeições, 2 com rejeições). Exemplo:
+ * 
+ * java -jar webcursos.jar --spring.main.web-application-type=none \
+ *     --webcursos.importacao.tipo=alunos --webcursos.importacao.arquivo=/dados/alunos.csv
+ * 
+ * O formato é definido pela extensão do arquivo (.csv, .ndjson ou .jsonl).
+ */
+@Component
+@ConditionalOnProperty(name = "webcursos.importacao.arquivo")
+@Slf4j
+public class ImportacaoRunner implements ApplicationRunner {
+
+    static final int SAIDA_COM_REJEICOES = 2;
+
+    private final ImportacaoService importacaoService;
+    private final ConfigurableApplicationContext context;
+    private final String arquivo;
+    private final String tipo;
+    private final IntConsumer saida;
+
+    @Autowired
+    public ImportacaoRunner(ImportacaoService importacaoService,
+                            ConfigurableApplicationContext context,
+                            @Value("${webcursos.importacao.arquivo}") String arquivo,
+                            @Value("${webcursos.importacao.tipo:alunos}") String tipo) {
+        this(importacaoService, context, arquivo, tipo, System::exit);
+    }
+
+    ImportacaoRunner(ImportacaoService importacaoService,
+                     ConfigurableApplicationContext context,
+                     String arquivo,
+                     String tipo,
+                     IntConsumer saida) {
+        this.importacaoService = importacaoService;
+        this.context = context;
+        this.arquivo = arquivo;
+        this.tipo = tipo;
+        this.saida = saida;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        FormatoImportacao formato = FormatoImportacao.doArquivo(arquivo);
+        log.info("Iniciando importação de {} a partir de {} ({})", tipo, arquivo, formato);
+
+        ResultadoImportacao resultado;
+        try (InputStream entrada = Files.newInputStream(Path.of(arquivo))) {
+            resultado = switch (tipo) {
+                case "alunos" -> importacaoService.importarAlunos(entrada, formato);
+                case "cursos" -> importacaoService.importarCursos(entrada, formato);
+                default -> throw new IllegalArgumentException(
+                    "webcursos.importacao.tipo deve ser 'alunos' ou 'cursos': " + tipo);
+            };
+        }
+
+        resultado.rejeicoes().forEach(rejeicao ->
+            log.warn("Linha {} rejeitada: {}", rejeicao.linha(), rejeicao.motivo()));
+        int codigo = resultado.rejeitados() > 0 ? SAIDA_COM_REJEICOES : 0;
+        saida.accept(SpringApplication.exit(context, () -> codigo));
+    }
+}
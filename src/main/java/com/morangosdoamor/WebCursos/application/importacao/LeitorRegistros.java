@@ -0,0 +1,110 @@
+package com.morangosdoamor.WebCursos.application.importacao;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+/**
+ * Leitor incremental dos registros de um arquivo de importação (CSV ou NDJSON).
+ * 
+ * Lê uma linha por vez, sem carregar o arquivo em memória, e converte cada linha no tipo
+ * informado. Linhas em branco são ignoradas. Erros de conversão afetam apenas a própria
+ * linha, que é devolvida com o motivo, permitindo que a importação continue.
+ * 
+ * No CSV, a primeira linha é o cabeçalho; colunas desconhecidas são ignoradas e campos
+ * entre aspas não podem conter quebras de linha.
+ * 
+ * @param <T> Tipo de cada registro (ex: AlunoRequest)
+ */
+public class LeitorRegistros<T> implements Closeable {
+
+    static final String SEPARADOR_LISTA = ";";
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final BufferedReader entrada;
+    private final FormatoImportacao formato;
+    private final Class<T> tipo;
+    private final ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private long linha;
+
+    /**
+     * Registro lido de uma linha: valor convertido ou motivo da falha de conversão.
+     * 
+     * @param linha Número da linha no arquivo (começando em 1, incluindo o cabeçalho)
+     * @param valor Registro convertido, ou null se a linha for inválida
+     * @param erro Motivo da falha de conversão, ou null se a linha for válida
+     */
+    public record Registro<T>(long linha, T valor, String erro) {}
+
+    public LeitorRegistros(InputStream entrada, FormatoImportacao formato, Class<T> tipo, ObjectMapper objectMapper) {
+        this.entrada = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        this.formato = formato;
+        this.tipo = tipo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Lê o próximo registro não vazio.
+     * 
+     * @return Próximo registro, ou null ao fim do arquivo
+     * @throws IOException se a leitura da entrada falhar
+     */
+    public Registro<T> proximo() throws IOException {
+        String texto;
+        while ((texto = entrada.readLine()) != null) {
+            linha++;
+            if (texto.isBlank()) {
+                continue;
+            }
+            if (reader == null) {
+                reader = criarReader(texto);
+                if (formato == FormatoImportacao.CSV) {
+                    continue;
+                }
+            }
+            try {
+                return new Registro<>(linha, reader.readValue(texto), null);
+            } catch (JsonProcessingException e) {
+                return new Registro<>(linha, null, "Linha inválida: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    private ObjectReader criarReader(String primeiraLinha) throws IOException {
+        if (formato == FormatoImportacao.NDJSON) {
+            return objectMapper.readerFor(tipo).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+        return CSV_MAPPER.readerFor(tipo)
+            .with(cabecalho(primeiraLinha))
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static CsvSchema cabecalho(String primeiraLinha) throws IOException {
+        String[] nomes = CSV_MAPPER.readerFor(String[].class)
+            .with(CsvSchema.emptySchema().withoutHeader())
+            .readValue(primeiraLinha);
+        CsvSchema.Builder schema = CsvSchema.builder().setArrayElementSeparator(SEPARADOR_LISTA);
+        for (String nome : nomes) {
+            schema.addColumn(nome.trim());
+        }
+        return schema.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        entrada.close();
+    }
+}
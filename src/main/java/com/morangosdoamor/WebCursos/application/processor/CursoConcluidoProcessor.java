@@ -1,9 +1,18 @@
 package com.morangosdoamor.WebCursos.application.processor;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.morangosdoamor.WebCursos.application.dto.CursoCompletoDTO;
 import com.morangosdoamor.WebCursos.application.dto.CursoDisponivelDTO;
@@ -15,7 +24,6 @@ import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluid
 import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.MatriculaRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -32,15 +40,43 @@ import lombok.extern.slf4j.Slf4j;
  * - Buscar cursos disponíveis para recomendação
  * - Chamar serviço de IA para gerar mensagem personalizada
  * - Retornar mensagem de recomendação
+ * 
+ * Suporta processamento individual (process) e em lote (processBatch); no modo em lote,
+ * histórico e cursos disponíveis de todos os alunos são carregados com consultas únicas.
+ * 
+ * As consultas e a montagem dos DTOs ocorrem em uma transação somente leitura curta; a chamada
+ * à IA (que pode esperar o bulkhead e o timeout do modelo) é feita depois que a transação
+ * termina, sem manter uma conexão JDBC do pool.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CursoConcluidoProcessor {
 
+    /**
+     * Quantidade máxima de cursos disponíveis enviados ao prompt de recomendação.
+     */
+    static final int MAX_CURSOS_DISPONIVEIS = 10;
+
+    /**
+     * Quantidade de cursos concluídos mais recentes considerados no histórico do aluno.
+     */
+    private static final int ULTIMOS_CURSOS = 3;
+
     private final MatriculaRepository matriculaRepository;
     private final CursoRepository cursoRepository;
     private final AiRecommendationService aiRecommendationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public CursoConcluidoProcessor(MatriculaRepository matriculaRepository,
+                                   CursoRepository cursoRepository,
+                                   AiRecommendationService aiRecommendationService,
+                                   PlatformTransactionManager transactionManager) {
+        this.matriculaRepository = matriculaRepository;
+        this.cursoRepository = cursoRepository;
+        this.aiRecommendationService = aiRecommendationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
 
     /**
      * Processa um evento de conclusão de curso, gerando uma recomendação personalizada.
@@ -48,33 +84,94 @@ public class CursoConcluidoProcessor {
      * Fluxo:
      * 1. Busca os últimos 3 cursos concluídos pelo aluno
      * 2. Busca cursos disponíveis (não matriculados)
-     * 3. Gera recomendação via IA
+     * 3. Encerra a transação de leitura e gera recomendação via IA
      * 4. Retorna mensagem de recomendação
      * 
      * @param event Evento de conclusão de curso
      * @return Mensagem de recomendação gerada
      */
-    @Transactional(readOnly = true)
     public String process(CursoConcluidoEvent event) {
         log.info("Processando conclusão de curso para aluno: {} ({}), curso: {} ({})",
                 event.alunoNome(), event.alunoId(), event.cursoNome(), event.cursoCodigo());
 
-        // 1. Buscar últimos cursos concluídos
-        List<CursoCompletoDTO> ultimosCursos = fetchUltimosCursos(event.alunoId());
-        log.debug("Últimos {} cursos concluídos encontrados para aluno {}", 
-                ultimosCursos.size(), event.alunoId());
+        Contexto contexto = transactionTemplate.execute(status -> {
+            // 1. Buscar últimos cursos concluídos
+            List<CursoCompletoDTO> ultimosCursos = fetchUltimosCursos(event.alunoId());
+            log.debug("Últimos {} cursos concluídos encontrados para aluno {}",
+                    ultimosCursos.size(), event.alunoId());
+
+            // 2. Buscar cursos disponíveis
+            List<CursoDisponivelDTO> cursosDisponiveis = fetchCursosDisponiveis(event.alunoId());
+            log.debug("{} cursos disponíveis para recomendação", cursosDisponiveis.size());
+
+            return new Contexto(ultimosCursos, cursosDisponiveis);
+        });
+
+        // 3. Gerar recomendação via IA, fora da transação
+        return gerarRecomendacao(event, contexto);
+    }
+
+    /**
+     * Processa um lote de eventos de conclusão de curso.
+     * 
+     * Em vez de duas consultas por evento, carrega em uma consulta as matrículas (com curso)
+     * de todos os alunos do lote e em outra o início do catálogo ordenado por nome, grande o
+     * suficiente para que cada aluno tenha até {@link #MAX_CURSOS_DISPONIVEIS} cursos não
+     * matriculados. A chamada à IA continua sendo feita por evento, após o fim da transação.
+     * 
+     * @param events Eventos de conclusão de curso do lote
+     * @return Mensagens de recomendação, na mesma ordem dos eventos
+     */
+    public List<String> processBatch(List<CursoConcluidoEvent> events) {
+        log.info("Processando lote de {} conclusões de curso", events.size());
+
+        List<Contexto> contextos = transactionTemplate.execute(status -> carregarContextos(events));
+
+        List<String> recomendacoes = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            recomendacoes.add(gerarRecomendacao(events.get(i), contextos.get(i)));
+        }
+        return recomendacoes;
+    }
+
+    /**
+     * Carrega histórico e cursos disponíveis de todos os eventos do lote com duas consultas.
+     * 
+     * @return Contextos de recomendação, na mesma ordem dos eventos
+     */
+    private List<Contexto> carregarContextos(List<CursoConcluidoEvent> events) {
+        Set<UUID> alunoIds = events.stream()
+                .map(CursoConcluidoEvent::alunoId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // 2. Buscar cursos disponíveis
-        List<CursoDisponivelDTO> cursosDisponiveis = fetchCursosDisponiveis(event.alunoId());
-        log.debug("{} cursos disponíveis para recomendação", cursosDisponiveis.size());
+        Map<UUID, List<Matricula>> matriculasPorAluno = matriculaRepository.findAllByAlunoIdIn(alunoIds).stream()
+                .collect(Collectors.groupingBy(m -> m.getAluno().getId()));
 
-        // 3. Gerar recomendação via IA
+        int maiorQuantidadeDeMatriculas = matriculasPorAluno.values().stream()
+                .mapToInt(List::size)
+                .max()
+                .orElse(0);
+        List<Curso> catalogo = cursoRepository.findAllByOrderByNomeAscIdAsc(
+                Limit.of(MAX_CURSOS_DISPONIVEIS + maiorQuantidadeDeMatriculas));
+
+        return events.stream()
+                .map(event -> {
+                    List<Matricula> matriculas = matriculasPorAluno.getOrDefault(event.alunoId(), List.of());
+                    return new Contexto(ultimosCursos(matriculas), cursosDisponiveis(catalogo, matriculas));
+                })
+                .toList();
+    }
+
+    /**
+     * Gera a recomendação via IA para o evento a partir do histórico e dos cursos disponíveis.
+     */
+    private String gerarRecomendacao(CursoConcluidoEvent event, Contexto contexto) {
         String mensagemRecomendacao = aiRecommendationService.generateRecommendation(
                 event.alunoNome(),
                 event.cursoNome(),
                 event.notaFinal(),
-                ultimosCursos,
-                cursosDisponiveis
+                contexto.ultimosCursos(),
+                contexto.cursosDisponiveis()
         );
 
         log.info("Recomendação gerada com sucesso para aluno: {}", event.alunoNome());
@@ -82,10 +179,38 @@ public class CursoConcluidoProcessor {
         return mensagemRecomendacao;
     }
 
+    /**
+     * Seleciona, entre as matrículas já carregadas do aluno, os últimos 3 cursos concluídos.
+     */
+    private List<CursoCompletoDTO> ultimosCursos(List<Matricula> matriculas) {
+        return matriculas.stream()
+                .filter(m -> MatriculaStatus.CONCLUIDO.equals(m.getStatus()))
+                .sorted(Comparator.comparing(Matricula::getDataConclusao,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(ULTIMOS_CURSOS)
+                .map(this::toCursoCompletoDTO)
+                .toList();
+    }
+
+    /**
+     * Seleciona, no início do catálogo, os cursos em que o aluno não está matriculado.
+     */
+    private List<CursoDisponivelDTO> cursosDisponiveis(List<Curso> catalogo, List<Matricula> matriculas) {
+        Set<UUID> matriculados = matriculas.stream()
+                .map(m -> m.getCurso().getId())
+                .collect(Collectors.toSet());
+
+        return catalogo.stream()
+                .filter(curso -> !matriculados.contains(curso.getId()))
+                .limit(MAX_CURSOS_DISPONIVEIS)
+                .map(this::toCursoDisponivelDTO)
+                .toList();
+    }
+
     /**
      * Busca os últimos 3 cursos concluídos pelo aluno.
      */
-    private List<CursoCompletoDTO> fetchUltimosCursos(java.util.UUID alunoId) {
+    private List<CursoCompletoDTO> fetchUltimosCursos(UUID alunoId) {
         List<Matricula> matriculas = matriculaRepository
                 .findTop3ByAlunoIdAndStatusOrderByDataConclusaoDesc(alunoId, MatriculaStatus.CONCLUIDO);
 
@@ -95,10 +220,11 @@ public class CursoConcluidoProcessor {
     }
 
     /**
-     * Busca cursos disponíveis para o aluno (não matriculados).
+     * Busca até {@link #MAX_CURSOS_DISPONIVEIS} cursos disponíveis para o aluno (não matriculados).
      */
-    private List<CursoDisponivelDTO> fetchCursosDisponiveis(java.util.UUID alunoId) {
-        List<Curso> cursos = cursoRepository.findCursosNotEnrolledByAluno(alunoId);
+    private List<CursoDisponivelDTO> fetchCursosDisponiveis(UUID alunoId) {
+        List<Curso> cursos = cursoRepository.findCursosNotEnrolledByAluno(
+                alunoId, Limit.of(MAX_CURSOS_DISPONIVEIS));
 
         return cursos.stream()
                 .map(this::toCursoDisponivelDTO)
@@ -128,6 +254,9 @@ public class CursoConcluidoProcessor {
                 curso.getCargaHoraria().getCargaHoraria()
         );
     }
-}
-
 
+    /**
+     * Histórico e cursos disponíveis do aluno, já convertidos em DTOs (desacoplados da sessão JPA).
+     */
+    private record Contexto(List<CursoCompletoDTO> ultimosCursos, List<CursoDisponivelDTO> cursosDisponiveis) {}
+}
@@ -1,14 +1,19 @@
 package com.morangosdoamor.WebCursos.application.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import com.morangosdoamor.WebCursos.application.dto.CursoCompletoDTO;
 import com.morangosdoamor.WebCursos.application.dto.CursoDisponivelDTO;
+import com.morangosdoamor.WebCursos.infrastructure.cache.AiRecommendationCache;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -16,22 +21,40 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * Princípios aplicados:
  * - Clean Architecture: encapsula lógica de integração com IA
- * - Graceful degradation: fallback para mensagem padrão se IA indisponível
+ * - Graceful degradation: fallback para mensagem padrão se IA indisponível, lenta ou com
+ *   o circuito aberto (ver ResilientChatLanguageModel)
  * - Prompt engineering: construção estruturada de prompts para melhor qualidade
  * 
  * Responsabilidades:
  * - Construir prompts contextualizados com histórico do aluno
  * - Chamar API do Gemini para gerar recomendações
+ * - Reaproveitar recomendações já geradas para entradas equivalentes (AiRecommendationCache)
  * - Prover fallback se a IA não estiver disponível
+ * 
+ * Métricas: ai.recomendacoes (contador por origem: modelo, cache ou fallback, de onde se
+ * obtém a taxa de fallback) e ai.recomendacoes.modelo (latência das chamadas ao modelo,
+ * com histograma para percentis).
  */
 @Service
 @Slf4j
 public class AiRecommendationService {
 
     private final ChatLanguageModel chatModel;
-
-    public AiRecommendationService(@Nullable ChatLanguageModel chatModel) {
+    private final AiRecommendationCache recommendationCache;
+    private final MeterRegistry meterRegistry;
+    private final Counter geradasPeloModelo;
+    private final Counter reaproveitadasDoCache;
+    private final Counter fallbacks;
+
+    public AiRecommendationService(@Nullable ChatLanguageModel chatModel,
+                                   AiRecommendationCache recommendationCache,
+                                   MeterRegistry meterRegistry) {
         this.chatModel = chatModel;
+        this.recommendationCache = recommendationCache;
+        this.meterRegistry = meterRegistry;
+        this.geradasPeloModelo = contadorPorOrigem("modelo");
+        this.reaproveitadasDoCache = contadorPorOrigem("cache");
+        this.fallbacks = contadorPorOrigem("fallback");
         if (chatModel == null) {
             log.warn("AiRecommendationService inicializado sem modelo de IA. Usando mensagens de fallback.");
         }
@@ -39,6 +62,8 @@ public class AiRecommendationService {
 
     /**
      * Gera uma mensagem de recomendação personalizada para o aluno.
+     * Respostas do modelo são armazenadas em cache pela impressão digital do prompt;
+     * mensagens de fallback não são armazenadas, para não mascarar a volta da IA.
      * 
      * @param alunoNome Nome do aluno
      * @param cursoConcluidoNome Nome do curso recém-concluído
@@ -56,6 +81,7 @@ public class AiRecommendationService {
     ) {
         if (chatModel == null) {
             log.info("Modelo de IA não disponível. Gerando mensagem de fallback para: {}", alunoNome);
+            fallbacks.increment();
             return generateFallbackMessage(alunoNome, cursoConcluidoNome, notaFinal, cursosDisponiveis);
         }
 
@@ -63,20 +89,58 @@ public class AiRecommendationService {
             String prompt = buildPrompt(alunoNome, cursoConcluidoNome, notaFinal, ultimosCursos, cursosDisponiveis);
             log.debug("Prompt gerado para IA: {}", prompt);
 
-            String response = chatModel.generate(prompt);
+            String chave = AiRecommendationCache.fingerprint(prompt);
+            Optional<String> cached = recommendationCache.buscar(chave);
+            if (cached.isPresent()) {
+                log.info("Recomendação reaproveitada do cache para aluno: {}", alunoNome);
+                reaproveitadasDoCache.increment();
+                return cached.get();
+            }
+
+            String response = chamarModelo(prompt);
+            recommendationCache.armazenar(chave, response);
+            geradasPeloModelo.increment();
             log.info("Recomendação gerada com sucesso para aluno: {}", alunoNome);
 
             return response;
         } catch (Exception e) {
             log.error("Erro ao gerar recomendação com IA para aluno: {}. Usando fallback.", alunoNome, e);
+            fallbacks.increment();
             return generateFallbackMessage(alunoNome, cursoConcluidoNome, notaFinal, cursosDisponiveis);
         }
     }
 
+    /**
+     * Chama o modelo registrando a latência, com o resultado (sucesso ou erro) como tag.
+     */
+    private String chamarModelo(String prompt) {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        String resultado = "erro";
+        try {
+            String response = chatModel.generate(prompt);
+            resultado = "sucesso";
+            return response;
+        } finally {
+            amostra.stop(Timer.builder("ai.recomendacoes.modelo")
+                .description("Latência das chamadas ao modelo de IA")
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    private Counter contadorPorOrigem(String origem) {
+        return Counter.builder("ai.recomendacoes")
+            .description("Recomendações entregues, por origem")
+            .tag("origem", origem)
+            .register(meterRegistry);
+    }
+
     /**
      * Constrói o prompt estruturado para o modelo de IA.
+     * Visível no pacote para os benchmarks JMH (src/jmh/java).
      */
-    private String buildPrompt(
+    String buildPrompt(
             String alunoNome,
             String cursoConcluidoNome,
             Double notaFinal,
@@ -128,8 +192,9 @@ public class AiRecommendationService {
 
     /**
      * Gera mensagem de fallback quando a IA não está disponível.
+     * Visível no pacote para os benchmarks JMH (src/jmh/java).
      */
-    private String generateFallbackMessage(
+    String generateFallbackMessage(
             String alunoNome,
             String cursoConcluidoNome,
             Double notaFinal,
@@ -2,18 +2,25 @@ package com.morangosdoamor.WebCursos.application.service;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.morangosdoamor.WebCursos.api.dto.AlunoUpdateRequest;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.domain.entity.Aluno;
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
 import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
 import com.morangosdoamor.WebCursos.domain.exception.ResourceNotFoundException;
 import com.morangosdoamor.WebCursos.domain.valueobject.Email;
 import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -28,12 +35,16 @@ import lombok.RequiredArgsConstructor;
  * - Validação de unicidade de matrícula e email
  * - CRUD completo de alunos
  * - Busca por diferentes critérios (ID, email, matrícula)
+ * - Exportação de todos os alunos com matrículas em streaming
+ * - Recálculo das estatísticas agregadas de matrículas
  */
 @Service
+@Timed(value = "webcursos.servico", histogram = true)
 @RequiredArgsConstructor
 public class AlunoService {
 
     private final AlunoRepository alunoRepository;
+    private final EntityManager entityManager;
 
     /**
      * Cria um novo aluno no sistema.
@@ -56,8 +67,9 @@ public class AlunoService {
     }
 
     /**
-     * Busca um aluno por seu identificador único.
-     * Inicializa a coleção lazy de matrículas para visualização detalhada.
+     * Busca um aluno por seu identificador único para visualização detalhada.
+     * Matrículas, cursos e pré-requisitos são carregados em uma única consulta (entity graph),
+     * de modo que o mapeamento para o DTO detalhado não dispara consultas adicionais.
      * 
      * @param alunoId UUID do aluno a ser buscado
      * @return Aluno encontrado com matrículas inicializadas
@@ -65,22 +77,62 @@ public class AlunoService {
      */
     @Transactional(readOnly = true)
     public Aluno buscarPorId(UUID alunoId) {
-        Aluno aluno = alunoRepository.findById(alunoId)
+        return alunoRepository.findDetalhadoById(alunoId)
             .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado"));
-        // Force initialization of lazy collection for detail view
-        aluno.getMatriculas().size();
-        return aluno;
     }
 
     /**
-     * Lista todos os alunos cadastrados no sistema.
-     * Retorna lista ordenada alfabeticamente por nome.
+     * Lista os alunos cadastrados no sistema em páginas, ordenados por nome (e id como desempate).
+     * Usa paginação keyset: cada página parte do cursor da anterior, sem OFFSET,
+     * mantendo a latência constante independentemente da profundidade da página.
      * 
-     * @return Lista de todos os alunos ordenados por nome
+     * @param cursor Posição após a qual a página começa, ou null para a primeira página
+     * @param tamanho Quantidade máxima de alunos na página
+     * @return Página de alunos com o cursor da próxima página (null se for a última)
      */
     @Transactional(readOnly = true)
-    public List<Aluno> listarTodos() {
-        return alunoRepository.findAll(Sort.by("nome").ascending());
+    public Pagina<Aluno> listarPagina(CursorPaginacao cursor, int tamanho) {
+        Limit limite = Limit.of(tamanho + 1);
+        List<Aluno> alunos = cursor == null
+            ? alunoRepository.findAllByOrderByNomeAscIdAsc(limite)
+            : alunoRepository.findPaginaApos(cursor.nome(), cursor.id(), limite);
+        return Pagina.de(alunos, tamanho, aluno -> new CursorPaginacao(aluno.getNome(), aluno.getId()));
+    }
+
+    /**
+     * Percorre todos os alunos, com matrículas e cursos, entregando um aluno por vez ao consumidor.
+     * 
+     * Os alunos são lidos por um cursor forward-only (AlunoRepository.streamExportacao) e
+     * desanexados do contexto de persistência logo após serem consumidos, junto com suas
+     * matrículas (cascade). A memória usada é portanto constante em relação à quantidade de
+     * alunos: apenas os cursos, limitados ao tamanho do catálogo, permanecem no contexto.
+     * 
+     * @param consumidor Recebe cada aluno com as matrículas inicializadas, em ordem de id
+     * @return Quantidade de alunos exportados
+     */
+    @Transactional(readOnly = true)
+    public long exportar(Consumer<Aluno> consumidor) {
+        long exportados = 0;
+        try (Stream<Aluno> alunos = alunoRepository.streamExportacao()) {
+            for (Aluno aluno : (Iterable<Aluno>) alunos::iterator) {
+                consumidor.accept(aluno);
+                entityManager.detach(aluno);
+                exportados++;
+            }
+        }
+        return exportados;
+    }
+
+    /**
+     * Recalcula as estatísticas agregadas de todos os alunos a partir das matrículas.
+     * No fluxo normal os contadores são mantidos incrementalmente pelo MatriculaService;
+     * o recálculo serve para preencher bases anteriores a eles ou corrigir divergências.
+     * 
+     * @return Quantidade de alunos atualizados
+     */
+    @Transactional
+    public int recalcularEstatisticas() {
+        return alunoRepository.recalcularEstatisticas(Matricula.NOTA_MINIMA_APROVACAO);
     }
 
     /**
@@ -122,7 +174,7 @@ public class AlunoService {
      */
     @Transactional
     public Aluno atualizar(UUID id, AlunoUpdateRequest dto) {
-        Aluno aluno = buscarPorId(id);
+        Aluno aluno = buscarAluno(id);
 
         if (dto.nome() != null && !dto.nome().isBlank()) {
             aluno.setNome(dto.nome());
@@ -158,7 +210,20 @@ public class AlunoService {
      */
     @Transactional
     public void excluir(UUID id) {
-        Aluno aluno = buscarPorId(id);
+        Aluno aluno = buscarAluno(id);
         alunoRepository.delete(aluno);
     }
+
+    /**
+     * Busca a entidade Aluno sem carregar o grafo de matrículas.
+     * Usado pelas operações de escrita, que não precisam da visualização detalhada.
+     * 
+     * @param id UUID do aluno
+     * @return Aluno encontrado
+     * @throws ResourceNotFoundException se o aluno não for encontrado
+     */
+    private Aluno buscarAluno(UUID id) {
+        return alunoRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado"));
+    }
 }
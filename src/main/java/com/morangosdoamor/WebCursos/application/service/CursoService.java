@@ -1,26 +1,32 @@
 package com.morangosdoamor.WebCursos.application.service;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.morangosdoamor.WebCursos.api.dto.CursoRequest;
 import com.morangosdoamor.WebCursos.api.dto.CursoUpdateRequest;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
 import com.morangosdoamor.WebCursos.domain.entity.Matricula;
-import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
 import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
 import com.morangosdoamor.WebCursos.domain.exception.ResourceNotFoundException;
 import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
 import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.MatriculaRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -33,30 +39,43 @@ import lombok.RequiredArgsConstructor;
  * 
  * Responsabilidades:
  * - CRUD completo de cursos
- * - Validação de unicidade de código de curso
+ * - Validação de unicidade de código de curso e de ciclos entre pré-requisitos
  * - Sistema de liberação automática: cada curso concluído com média ≥ 7.0 libera 3 novos cursos
  * - Busca por diferentes critérios (ID, código, carga horária)
  */
 @Service
+@Timed(value = "webcursos.servico", histogram = true)
 @RequiredArgsConstructor
 public class CursoService {
 
+    private static final int CURSOS_LIBERADOS_POR_APROVACAO = 3;
+    private static final int TAMANHO_MINIMO_PAGINA_CANDIDATOS = 20;
+
     private final CursoRepository cursoRepository;
+    private final CursoCatalogCache cursoCatalogCache;
+    private final GrafoPrerequisitos grafoPrerequisitos;
     private final MatriculaRepository matriculaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Lista todos os cursos cadastrados no sistema.
-     * Retorna lista ordenada alfabeticamente por nome.
+     * Lista os cursos cadastrados no sistema em páginas, ordenados por nome (e id como desempate).
+     * Usa paginação keyset: cada página parte do cursor da anterior, sem OFFSET.
      * 
-     * @return Lista de todos os cursos ordenados por nome
+     * @param cursor Posição após a qual a página começa, ou null para a primeira página
+     * @param tamanho Quantidade máxima de cursos na página
+     * @return Página de cursos com o cursor da próxima página (null se for a última)
      */
     @Transactional(readOnly = true)
-    public List<Curso> listarTodos() {
-        return cursoRepository.findAll(Sort.by("nome").ascending());
+    public Pagina<Curso> listarPagina(CursorPaginacao cursor, int tamanho) {
+        Limit limite = Limit.of(tamanho + 1);
+        List<Curso> cursos = cursor == null
+            ? cursoRepository.findAllByOrderByNomeAscIdAsc(limite)
+            : cursoRepository.findPaginaApos(cursor.nome(), cursor.id(), limite);
+        return Pagina.de(cursos, tamanho, curso -> new CursorPaginacao(curso.getNome(), curso.getId()));
     }
 
     /**
-     * Busca um curso pelo código único.
+     * Busca um curso pelo código único, via cache do catálogo.
      * 
      * @param codigo Código único do curso (ex: "JAVA001")
      * @return Curso encontrado com o código informado
@@ -64,7 +83,7 @@ public class CursoService {
      */
     @Transactional(readOnly = true)
     public Curso buscarPorCodigo(String codigo) {
-        return cursoRepository.findByCodigo(codigo)
+        return cursoCatalogCache.buscarPorCodigo(codigo)
             .orElseThrow(() -> new ResourceNotFoundException("Curso não encontrado"));
     }
 
@@ -74,41 +93,52 @@ public class CursoService {
      * Regra de negócio: Cada curso concluído com média ≥ 7.0 libera automaticamente 3 novos cursos.
      * A liberação é acumulativa (ex: 2 cursos aprovados = 6 cursos liberados).
      * 
-     * Cursos já matriculados ou concluídos pelo aluno são excluídos da lista.
+     * Cursos já matriculados ou concluídos pelo aluno são excluídos da lista, assim como cursos
+     * cujos pré-requisitos o aluno ainda não concluiu. Os cursos não matriculados são lidos em
+     * páginas por keyset (nome, id) e cada um é verificado no grafo de pré-requisitos, em memória,
+     * até completar o limite; a consulta não recebe a lista de cursos bloqueados, cujo tamanho
+     * cresceria com o catálogo.
      * 
      * @param alunoId UUID do aluno para o qual buscar cursos liberados
      * @return Lista de cursos liberados para matrícula, ordenados por nome. Lista vazia se o aluno não tiver cursos aprovados.
      */
     @Transactional(readOnly = true)
     public List<Curso> buscarCursosLiberados(UUID alunoId) {
-        long cursosAprovados = matriculaRepository
-            .countByAlunoIdAndStatusAndNotaFinalGreaterThanEqual(alunoId, MatriculaStatus.CONCLUIDO, 7.0);
-
-        if (cursosAprovados == 0) {
+        List<String> aprovados = matriculaRepository.findCodigosAprovados(alunoId, Matricula.NOTA_MINIMA_APROVACAO);
+        if (aprovados.isEmpty()) {
             return List.of();
         }
+        int limite = aprovados.size() * CURSOS_LIBERADOS_POR_APROVACAO;
+        Limit pagina = Limit.of(Math.max(limite, TAMANHO_MINIMO_PAGINA_CANDIDATOS));
+        Predicate<String> liberado = grafoPrerequisitos.liberados(aprovados);
 
-        List<Matricula> matriculas = matriculaRepository.findAllByAlunoId(alunoId);
-        Set<UUID> cursosIndisponiveis = matriculas.stream()
-            .map(m -> m.getCurso().getId())
-            .collect(Collectors.toSet());
-
-        long limite = Math.min(Integer.MAX_VALUE, cursosAprovados * 3L);
-
-        return cursoRepository.findAll(Sort.by("nome").ascending()).stream()
-            .filter(curso -> !cursosIndisponiveis.contains(curso.getId()))
-            .limit(limite)
-            .toList();
+        List<Curso> liberados = new ArrayList<>(limite);
+        List<Curso> candidatos = cursoRepository.findCursosNotEnrolledByAluno(alunoId, pagina);
+        while (true) {
+            for (Curso candidato : candidatos) {
+                if (liberado.test(candidato.getCodigo())) {
+                    liberados.add(candidato);
+                    if (liberados.size() == limite) {
+                        return liberados;
+                    }
+                }
+            }
+            if (candidatos.size() < pagina.max()) {
+                return liberados;
+            }
+            Curso ultimo = candidatos.get(candidatos.size() - 1);
+            candidatos = cursoRepository.findCursosNotEnrolledByAlunoApos(alunoId, ultimo.getNome(), ultimo.getId(), pagina);
+        }
     }
 
     /**
      * Cria um novo curso no sistema.
-     * Valida unicidade do código antes de persistir.
+     * Valida unicidade do código e ausência de ciclos nos pré-requisitos antes de persistir.
      * Cria Value Object CargaHoraria a partir do valor primitivo.
      * 
      * @param dto DTO contendo os dados do curso a ser criado
      * @return Curso criado e persistido
-     * @throws BusinessRuleException se o código já estiver cadastrado para outro curso
+     * @throws BusinessRuleException se o código já estiver cadastrado para outro curso ou os pré-requisitos formarem um ciclo
      */
     @Transactional
     public Curso criar(CursoRequest dto) {
@@ -116,6 +146,9 @@ public class CursoService {
             .ifPresent(existing -> {
                 throw new BusinessRuleException("Código já cadastrado para outro curso");
             });
+        if (dto.prerequisitos() != null) {
+            grafoPrerequisitos.validarPrerequisitos(dto.codigo(), dto.prerequisitos());
+        }
 
         Curso curso = Curso.builder()
             .codigo(dto.codigo())
@@ -125,7 +158,9 @@ public class CursoService {
             .prerequisitos(dto.prerequisitos() != null ? new HashSet<>(dto.prerequisitos()) : new HashSet<>())
             .build();
 
-        return cursoRepository.save(curso);
+        Curso salvo = cursoRepository.save(curso);
+        invalidarCatalogo(salvo.getCodigo());
+        return salvo;
     }
 
     /**
@@ -166,17 +201,19 @@ public class CursoService {
     /**
      * Atualiza dados de um curso existente (atualização parcial - PATCH semântico).
      * Apenas campos não-nulos e não-vazios do DTO são atualizados.
-     * Valida unicidade do código antes de atualizar.
+     * Valida unicidade do código e ausência de ciclos nos pré-requisitos antes de atualizar.
+     * A alteração é refletida no grafo de pré-requisitos após o commit, de forma incremental.
      * 
      * @param id UUID do curso a ser atualizado
      * @param dto DTO contendo os campos a serem atualizados (campos nulos/vazios são ignorados)
      * @return Curso atualizado e persistido
      * @throws ResourceNotFoundException se o curso não for encontrado
-     * @throws BusinessRuleException se o código já estiver cadastrado para outro curso
+     * @throws BusinessRuleException se o código já estiver cadastrado para outro curso ou os pré-requisitos formarem um ciclo
      */
     @Transactional
     public Curso atualizar(UUID id, CursoUpdateRequest dto) {
         Curso curso = buscarPorId(id);
+        invalidarCatalogo(curso.getCodigo());
 
         if (dto.codigo() != null && !dto.codigo().isBlank()) {
             cursoRepository.findByCodigo(dto.codigo())
@@ -185,6 +222,7 @@ public class CursoService {
                     throw new BusinessRuleException("Código já cadastrado para outro curso");
                 });
             curso.setCodigo(dto.codigo());
+            invalidarCatalogo(dto.codigo());
         }
 
         if (dto.nome() != null && !dto.nome().isBlank()) {
@@ -200,6 +238,7 @@ public class CursoService {
         }
 
         if (dto.prerequisitos() != null) {
+            grafoPrerequisitos.validarPrerequisitos(curso.getCodigo(), dto.prerequisitos());
             curso.setPrerequisitos(new HashSet<>(dto.prerequisitos()));
         }
 
@@ -216,5 +255,16 @@ public class CursoService {
     public void excluir(UUID id) {
         Curso curso = buscarPorId(id);
         cursoRepository.delete(curso);
+        invalidarCatalogo(curso.getCodigo());
+    }
+
+    /**
+     * Solicita a invalidação do curso no cache do catálogo.
+     * O evento é tratado após o commit, localmente e em todos os nós (via RabbitMQ).
+     * 
+     * @param codigo Código do curso alterado
+     */
+    private void invalidarCatalogo(String codigo) {
+        eventPublisher.publishEvent(new CursoCatalogoInvalidadoEvent(codigo));
     }
 }
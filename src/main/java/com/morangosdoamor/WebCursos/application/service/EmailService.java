@@ -1,11 +1,19 @@
 package com.morangosdoamor.WebCursos.application.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,13 +26,15 @@ import lombok.extern.slf4j.Slf4j;
  * - Logging estruturado para rastreabilidade
  * 
  * Responsabilidades:
- * - Enviar emails simples (text/plain)
+ * - Enviar emails simples (text/plain), individualmente ou em lote na mesma sessão SMTP
  * - Configurar remetente padrão da plataforma
  * - Tratar erros de envio com logging apropriado
  * 
+ * As sessões SMTP são reutilizadas entre envios pelo PooledJavaMailSender (MailConfig).
  * Em ambiente de desenvolvimento, usa MailHog como servidor SMTP sandbox.
  */
 @Service
+@Timed(value = "webcursos.email", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
@@ -60,6 +70,53 @@ public class EmailService {
         }
     }
 
+    /**
+     * Envia um lote de notificações em uma única chamada ao JavaMailSender, que as
+     * transmite em sequência pela mesma sessão SMTP.
+     * Falhas individuais não interrompem o lote: as notificações não entregues são retornadas.
+     * 
+     * @param notificacoes Notificações a enviar
+     * @return Notificações cujo envio falhou (vazia se todas foram entregues)
+     * @throws MailException se o envio falhar por completo (ex: autenticação)
+     */
+    public List<EmailNotificationEvent> sendBatch(List<EmailNotificationEvent> notificacoes) {
+        if (notificacoes.isEmpty()) {
+            return List.of();
+        }
+        log.info("Preparando envio de lote com {} emails", notificacoes.size());
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[notificacoes.size()];
+        for (int i = 0; i < messages.length; i++) {
+            EmailNotificationEvent notificacao = notificacoes.get(i);
+            messages[i] = new SimpleMailMessage();
+            messages[i].setFrom(fromAddress);
+            messages[i].setTo(notificacao.destinatario());
+            messages[i].setSubject(notificacao.assunto());
+            messages[i].setText(notificacao.corpo());
+        }
+
+        try {
+            mailSender.send(messages);
+            log.info("Lote de {} emails enviado com sucesso", messages.length);
+            return List.of();
+        } catch (MailSendException e) {
+            Map<Object, Exception> falhas = e.getFailedMessages();
+            if (falhas.isEmpty()) {
+                log.error("Falha ao enviar lote de {} emails. Erro: {}", messages.length, e.getMessage(), e);
+                throw e;
+            }
+            List<EmailNotificationEvent> naoEntregues = new ArrayList<>();
+            for (int i = 0; i < messages.length; i++) {
+                if (falhas.containsKey(messages[i])) {
+                    naoEntregues.add(notificacoes.get(i));
+                }
+            }
+            log.error("Falha ao enviar {} de {} emails do lote. Erro: {}",
+                    naoEntregues.size(), messages.length, e.getMessage());
+            return naoEntregues;
+        }
+    }
+
 }
 
 
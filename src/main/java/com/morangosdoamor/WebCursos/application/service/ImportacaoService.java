@@ -0,0 +1,235 @@
+package com.morangosdoamor.WebCursos.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.api.dto.AlunoRequest;
+import com.morangosdoamor.WebCursos.api.dto.CursoRequest;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoImportacao;
+import com.morangosdoamor.WebCursos.application.importacao.FormatoImportacao;
+import com.morangosdoamor.WebCursos.application.importacao.LeitorRegistros;
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
+import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de importação em lote de alunos e cursos a partir de arquivos CSV ou NDJSON.
+ * 
+ * Pipeline:
+ * - Leitura incremental, uma linha por vez (LeitorRegistros), sem carregar o arquivo em memória
+ * - Validação de cada registro com as mesmas regras dos endpoints de criação (Bean Validation
+ *   de AlunoRequest/CursoRequest, formato de Email e limites de CargaHoraria)
+ * - Unicidade (matrícula e email do aluno, código do curso) verificada contra conjuntos em
+ *   memória carregados uma única vez no início, em vez de uma consulta por registro;
+ *   duplicidades dentro do próprio arquivo também são detectadas
+ * - Gravação em lotes de webcursos.importacao.tamanho-lote registros, cada um em sua própria
+ *   transação e enviado em batches JDBC (hibernate.jdbc.batch_size)
+ * 
+ * Linhas inválidas são rejeitadas individualmente, sem interromper a importação. O progresso
+ * é registrado no log a cada lote gravado.
+ */
+@Service
+@Slf4j
+public class ImportacaoService {
+
+    private final AlunoRepository alunoRepository;
+    private final CursoRepository cursoRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int maxRejeicoesReportadas;
+
+    public ImportacaoService(AlunoRepository alunoRepository,
+                             CursoRepository cursoRepository,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${webcursos.importacao.tamanho-lote:1000}") int tamanhoLote,
+                             @Value("${webcursos.importacao.max-rejeicoes-reportadas:1000}") int maxRejeicoesReportadas) {
+        this.alunoRepository = alunoRepository;
+        this.cursoRepository = cursoRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.maxRejeicoesReportadas = maxRejeicoesReportadas;
+    }
+
+    /**
+     * Importa alunos (colunas/campos: nome, email, matricula).
+     * 
+     * @param entrada Conteúdo do arquivo
+     * @param formato Formato do arquivo
+     * @return Totais e primeiras rejeições
+     * @throws IOException se a leitura da entrada falhar
+     */
+    public ResultadoImportacao importarAlunos(InputStream entrada, FormatoImportacao formato) throws IOException {
+        Set<String> matriculas = new HashSet<>(alunoRepository.findAllMatriculas());
+        Set<String> emails = new HashSet<>(alunoRepository.findAllEmails());
+
+        return importar("alunos", new LeitorRegistros<>(entrada, formato, AlunoRequest.class, objectMapper),
+            request -> {
+                if (matriculas.contains(request.matricula())) {
+                    return "Matrícula já cadastrada";
+                }
+                if (!emails.add(request.email())) {
+                    return "Email já cadastrado";
+                }
+                matriculas.add(request.matricula());
+                return null;
+            },
+            request -> Aluno.builder()
+                .nome(request.nome())
+                .email(new Email(request.email()))
+                .matricula(request.matricula())
+                .criadoEm(LocalDateTime.now())
+                .build(),
+            alunoRepository::saveAll);
+    }
+
+    /**
+     * Importa cursos (colunas/campos: codigo, nome, descricao, cargaHoraria, prerequisitos).
+     * No CSV, os pré-requisitos são separados por ';'.
+     * Ao final, o catálogo inteiro é invalidado (cache e grafo de pré-requisitos) em todos os nós.
+     * 
+     * @param entrada Conteúdo do arquivo
+     * @param formato Formato do arquivo
+     * @return Totais e primeiras rejeições
+     * @throws IOException se a leitura da entrada falhar
+     */
+    public ResultadoImportacao importarCursos(InputStream entrada, FormatoImportacao formato) throws IOException {
+        Set<String> codigos = new HashSet<>(cursoRepository.findAllCodigos());
+
+        ResultadoImportacao resultado = importar("cursos", new LeitorRegistros<>(entrada, formato, CursoRequest.class, objectMapper),
+            request -> codigos.add(request.codigo()) ? null : "Código já cadastrado para outro curso",
+            request -> Curso.builder()
+                .codigo(request.codigo())
+                .nome(request.nome())
+                .descricao(request.descricao())
+                .cargaHoraria(new CargaHoraria(request.cargaHoraria()))
+                .prerequisitos(request.prerequisitos() == null ? new HashSet<>() : request.prerequisitos().stream()
+                    .filter(codigo -> codigo != null && !codigo.isBlank())
+                    .map(String::trim)
+                    .collect(Collectors.toCollection(HashSet::new)))
+                .build(),
+            cursoRepository::saveAll);
+        if (resultado.importados() > 0) {
+            eventPublisher.publishEvent(CursoCatalogoInvalidadoEvent.catalogoCompleto());
+        }
+        return resultado;
+    }
+
+    /**
+     * Executa o pipeline de importação para um tipo de registro.
+     * 
+     * A entidade é criada antes da verificação de unicidade para que registros rejeitados pelas
+     * regras dos Value Objects (ex: carga horária acima do limite) não reservem sua chave.
+     */
+    private <T, E> ResultadoImportacao importar(String descricao,
+                                                LeitorRegistros<T> leitor,
+                                                Function<T, String> verificarUnicidade,
+                                                Function<T, E> toEntity,
+                                                Consumer<List<E>> gravar) throws IOException {
+        Progresso progresso = new Progresso();
+        List<E> lote = new ArrayList<>(tamanhoLote);
+
+        try (leitor) {
+            LeitorRegistros.Registro<T> registro;
+            while ((registro = leitor.proximo()) != null) {
+                progresso.linhasLidas++;
+                String motivo = registro.erro() != null ? registro.erro() : validar(registro.valor());
+                E entidade = null;
+                if (motivo == null) {
+                    try {
+                        entidade = toEntity.apply(registro.valor());
+                    } catch (IllegalArgumentException e) {
+                        motivo = e.getMessage();
+                    }
+                }
+                if (motivo == null) {
+                    motivo = verificarUnicidade.apply(registro.valor());
+                }
+
+                if (motivo != null) {
+                    progresso.rejeitar(registro.linha(), motivo, maxRejeicoesReportadas);
+                } else {
+                    lote.add(entidade);
+                    if (lote.size() == tamanhoLote) {
+                        gravarLote(descricao, lote, gravar, progresso);
+                    }
+                }
+            }
+        }
+        if (!lote.isEmpty()) {
+            gravarLote(descricao, lote, gravar, progresso);
+        }
+
+        log.info("Importação de {} concluída: {} linhas lidas, {} importadas, {} rejeitadas",
+            descricao, progresso.linhasLidas, progresso.importados, progresso.rejeitados);
+        return new ResultadoImportacao(progresso.linhasLidas, progresso.importados, progresso.rejeitados,
+            List.copyOf(progresso.rejeicoes));
+    }
+
+    private <E> void gravarLote(String descricao, List<E> lote, Consumer<List<E>> gravar, Progresso progresso) {
+        transactionTemplate.executeWithoutResult(status -> gravar.accept(lote));
+        progresso.importados += lote.size();
+        lote.clear();
+        log.info("Importação de {}: {} linhas lidas, {} importadas, {} rejeitadas",
+            descricao, progresso.linhasLidas, progresso.importados, progresso.rejeitados);
+    }
+
+    private <T> String validar(T registro) {
+        Set<ConstraintViolation<T>> violacoes = validator.validate(registro);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+            .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Contadores da importação em andamento.
+     */
+    private static final class Progresso {
+        private long linhasLidas;
+        private long importados;
+        private long rejeitados;
+        private final List<ResultadoImportacao.Rejeicao> rejeicoes = new ArrayList<>();
+
+        private void rejeitar(long linha, String motivo, int maxRejeicoesReportadas) {
+            rejeitados++;
+            if (rejeicoes.size() < maxRejeicoesReportadas) {
+                rejeicoes.add(new ResultadoImportacao.Rejeicao(linha, motivo));
+            }
+        }
+    }
+}
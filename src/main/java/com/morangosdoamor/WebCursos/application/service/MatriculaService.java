@@ -1,23 +1,36 @@
 package com.morangosdoamor.WebCursos.application.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.morangosdoamor.WebCursos.application.dto.ResultadoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoMatricula;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoMatricula;
 import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
 import com.morangosdoamor.WebCursos.domain.entity.Matricula;
 import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
 import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
 import com.morangosdoamor.WebCursos.domain.exception.ResourceNotFoundException;
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.publisher.CursoConcluidoEventPublisher;
 import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
-import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.MatriculaRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -30,43 +43,56 @@ import lombok.RequiredArgsConstructor;
  * - Event-Driven: publica eventos de conclusão de curso para processamento assíncrono
  * 
  * Responsabilidades:
- * - Matrícula de alunos em cursos
- * - Conclusão de cursos com registro de nota final
+ * - Matrícula de alunos em cursos (individual ou em lote)
+ * - Conclusão de cursos com registro de nota final (individual ou em lote)
  * - Publicação de eventos de conclusão de curso
- * - Validação de regras de negócio (nota entre 0 e 10, evitar matrícula duplicada)
+ * - Validação de regras de negócio (nota entre 0 e 10, evitar matrícula duplicada, pré-requisitos aprovados)
  * - Consulta de matrículas e notas finais
  */
 @Service
+@Timed(value = "webcursos.servico", histogram = true)
 @RequiredArgsConstructor
 public class MatriculaService {
 
     private final AlunoRepository alunoRepository;
-    private final CursoRepository cursoRepository;
+    private final CursoCatalogCache cursoCatalogCache;
     private final MatriculaRepository matriculaRepository;
     private final CursoConcluidoEventPublisher eventPublisher;
+    private final GrafoPrerequisitos grafoPrerequisitos;
 
     /**
      * Matricula um aluno em um curso.
      * Valida se o aluno já não está matriculado no curso antes de criar a matrícula.
+     * Valida se o aluno foi aprovado em todos os pré-requisitos (diretos e indiretos) do curso,
+     * verificados no grafo de pré-requisitos; o histórico só é consultado se o curso os possuir.
+     * O curso é obtido do cache do catálogo, evitando uma consulta por matrícula.
      * Registra automaticamente a data de matrícula e define o status como MATRICULADO.
      * 
      * @param alunoId UUID do aluno a ser matriculado
      * @param codigoCurso Código único do curso (ex: "JAVA001")
      * @return Matrícula criada e persistida
      * @throws ResourceNotFoundException se aluno ou curso não forem encontrados
-     * @throws BusinessRuleException se o aluno já estiver matriculado no curso
+     * @throws BusinessRuleException se o aluno já estiver matriculado no curso ou tiver pré-requisitos pendentes
      */
     @Transactional
     public Matricula matricular(UUID alunoId, String codigoCurso) {
         Aluno aluno = alunoRepository.findById(alunoId)
             .orElseThrow(() -> new ResourceNotFoundException("Aluno não encontrado"));
-        Curso curso = cursoRepository.findByCodigo(codigoCurso)
+        Curso curso = cursoCatalogCache.buscarPorCodigo(codigoCurso)
             .orElseThrow(() -> new ResourceNotFoundException("Curso não encontrado"));
 
         if (matriculaRepository.existsByAlunoIdAndCursoId(aluno.getId(), curso.getId())) {
             throw new BusinessRuleException("Aluno já matriculado ou curso concluído anteriormente");
         }
 
+        if (grafoPrerequisitos.possuiPrerequisitos(curso.getCodigo())) {
+            Set<String> pendentes = grafoPrerequisitos.pendentes(curso.getCodigo(),
+                matriculaRepository.findCodigosAprovados(aluno.getId(), Matricula.NOTA_MINIMA_APROVACAO));
+            if (!pendentes.isEmpty()) {
+                throw new BusinessRuleException(prerequisitosPendentes(pendentes));
+            }
+        }
+
         Matricula matricula = Matricula.builder()
             .aluno(aluno)
             .curso(curso)
@@ -75,15 +101,108 @@ public class MatriculaService {
 
         matricula.registrarMatricula();
         aluno.adicionarMatricula(matricula);
+        alunoRepository.incrementarMatriculas(List.of(aluno.getId()), 1);
 
         return matriculaRepository.save(matricula);
     }
 
+    /**
+     * Matricula vários alunos em cursos em uma única transação, com consultas por conjunto.
+     * 
+     * Em vez de três consultas e um insert por item, o lote é resolvido com:
+     * - uma consulta IN para os alunos e uma para os cursos ausentes do cache do catálogo
+     * - uma consulta IN para os pares (aluno, curso) já matriculados
+     * - uma consulta IN para os cursos aprovados dos alunos, apenas se algum curso do lote
+     *   possuir pré-requisitos
+     * - inserts agrupados em batches JDBC (hibernate.jdbc.batch_size)
+     * - um update das estatísticas por quantidade distinta de novas matrículas por aluno
+     * 
+     * Itens inválidos não interrompem o lote: cada item recebe seu próprio resultado,
+     * na mesma ordem da solicitação. Itens repetidos no lote são matriculados uma única vez.
+     * 
+     * @param solicitacoes Pares (aluno, código do curso) a matricular
+     * @return Resultado de cada item, na ordem recebida
+     */
+    @Transactional
+    public List<ResultadoMatricula> matricularEmLote(List<SolicitacaoMatricula> solicitacoes) {
+        Set<UUID> alunoIds = solicitacoes.stream().map(SolicitacaoMatricula::alunoId).collect(Collectors.toSet());
+        Set<String> codigos = solicitacoes.stream().map(SolicitacaoMatricula::codigoCurso).collect(Collectors.toSet());
+
+        Map<UUID, Aluno> alunos = alunoRepository.findAllById(alunoIds).stream()
+            .collect(Collectors.toMap(Aluno::getId, Function.identity()));
+        Map<String, Curso> cursos = cursoCatalogCache.buscarPorCodigos(codigos);
+
+        Set<String> existentes = new HashSet<>();
+        if (!alunos.isEmpty() && !cursos.isEmpty()) {
+            Set<UUID> cursoIds = cursos.values().stream().map(Curso::getId).collect(Collectors.toSet());
+            matriculaRepository.findParesExistentes(alunos.keySet(), cursoIds)
+                .forEach(par -> existentes.add(chave(par.getAlunoId(), par.getCursoId())));
+        }
+
+        Map<UUID, List<String>> aprovadosPorAluno = new HashMap<>();
+        if (!alunos.isEmpty() && cursos.keySet().stream().anyMatch(grafoPrerequisitos::possuiPrerequisitos)) {
+            matriculaRepository.findCursosAprovados(alunos.keySet(), Matricula.NOTA_MINIMA_APROVACAO)
+                .forEach(aprovado -> aprovadosPorAluno
+                    .computeIfAbsent(aprovado.getAlunoId(), id -> new ArrayList<>())
+                    .add(aprovado.getCodigo()));
+        }
+
+        List<ResultadoMatricula> resultados = new ArrayList<>(solicitacoes.size());
+        List<Matricula> novas = new ArrayList<>();
+        Set<String> noLote = new HashSet<>();
+        for (SolicitacaoMatricula solicitacao : solicitacoes) {
+            Aluno aluno = alunos.get(solicitacao.alunoId());
+            Curso curso = cursos.get(solicitacao.codigoCurso());
+            Set<String> pendentes = aluno == null || curso == null || !grafoPrerequisitos.possuiPrerequisitos(curso.getCodigo())
+                ? Set.of()
+                : grafoPrerequisitos.pendentes(curso.getCodigo(), aprovadosPorAluno.getOrDefault(aluno.getId(), List.of()));
+            if (aluno == null) {
+                resultados.add(ResultadoMatricula.rejeitada(solicitacao, "Aluno não encontrado"));
+            } else if (curso == null) {
+                resultados.add(ResultadoMatricula.rejeitada(solicitacao, "Curso não encontrado"));
+            } else if (existentes.contains(chave(aluno.getId(), curso.getId()))) {
+                resultados.add(ResultadoMatricula.rejeitada(solicitacao,
+                    "Aluno já matriculado ou curso concluído anteriormente"));
+            } else if (!pendentes.isEmpty()) {
+                resultados.add(ResultadoMatricula.rejeitada(solicitacao, prerequisitosPendentes(pendentes)));
+            } else if (!noLote.add(chave(aluno.getId(), curso.getId()))) {
+                resultados.add(ResultadoMatricula.rejeitada(solicitacao, "Matrícula repetida no lote"));
+            } else {
+                // A coleção aluno.matriculas não é inicializada: carregá-la custaria uma consulta por aluno
+                Matricula matricula = Matricula.builder()
+                    .aluno(aluno)
+                    .curso(curso)
+                    .build();
+                matricula.registrarMatricula();
+                novas.add(matricula);
+                resultados.add(ResultadoMatricula.criada(solicitacao, matricula));
+            }
+        }
+
+        matriculaRepository.saveAll(novas);
+        novas.stream()
+            .collect(Collectors.groupingBy(matricula -> matricula.getAluno().getId(), Collectors.counting()))
+            .entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+            .forEach((quantidade, ids) -> alunoRepository.incrementarMatriculas(ids, quantidade.intValue()));
+        return resultados;
+    }
+
+    private static String chave(UUID alunoId, UUID cursoId) {
+        return alunoId + ":" + cursoId;
+    }
+
+    private static String prerequisitosPendentes(Set<String> pendentes) {
+        return "Pré-requisitos não concluídos: " + String.join(", ", pendentes);
+    }
+
     /**
      * Conclui uma matrícula registrando a nota final do aluno.
      * Valida se a nota está no intervalo válido (0 a 10).
      * Valida se a matrícula ainda não foi concluída.
      * Registra automaticamente a data de conclusão e atualiza o status para CONCLUIDO.
+     * Atualiza as estatísticas agregadas do aluno (concluídos, aprovados e soma das notas).
      * Publica um evento de conclusão de curso para processamento assíncrono.
      * 
      * @param alunoId UUID do aluno proprietário da matrícula
@@ -107,25 +226,103 @@ public class MatriculaService {
         }
 
         matricula.concluir(notaFinal);
+        alunoRepository.registrarConclusoes(List.of(alunoId), 1, matricula.estaAprovado() ? 1 : 0, notaFinal);
 
         // Publica evento de conclusão de curso para processamento assíncrono
-        publishCursoConcluidoEvent(matricula);
+        eventPublisher.publish(toCursoConcluidoEvent(matricula));
 
         return matricula;
     }
 
     /**
-     * Publica um evento de conclusão de curso no RabbitMQ.
+     * Conclui várias matrículas em uma única transação, como no lançamento das notas de uma turma.
+     * 
+     * Em vez de uma transação, uma consulta e uma publicação por aluno, o lote é resolvido com:
+     * - uma consulta IN para as matrículas, com aluno e curso carregados
+     * - updates agrupados em batches JDBC no flush (hibernate.jdbc.batch_size, order_updates)
+     * - um update das estatísticas por variação distinta (concluídos, aprovados, soma das notas)
+     *   entre os alunos do lote, normalmente um por nota distinta
+     * - um único saveAll dos eventos na outbox, publicados pelo OutboxRelay em lotes
+     *   com publisher confirms
+     * 
+     * Itens inválidos (nota fora do intervalo, matrícula inexistente, já concluída ou repetida
+     * no lote) não interrompem o lote: cada item recebe seu próprio resultado, na mesma ordem
+     * da solicitação.
+     * 
+     * @param solicitacoes Pares (matrícula, nota final) a concluir
+     * @return Resultado de cada item, na ordem recebida
+     */
+    @Transactional
+    public List<ResultadoConclusao> concluirEmLote(List<SolicitacaoConclusao> solicitacoes) {
+        Set<UUID> ids = solicitacoes.stream().map(SolicitacaoConclusao::matriculaId).collect(Collectors.toSet());
+        Map<UUID, Matricula> matriculas = matriculaRepository.findAllByIdIn(ids).stream()
+            .collect(Collectors.toMap(Matricula::getId, Function.identity()));
+
+        List<ResultadoConclusao> resultados = new ArrayList<>(solicitacoes.size());
+        List<CursoConcluidoEvent> eventos = new ArrayList<>();
+        List<Matricula> concluidas = new ArrayList<>();
+        Set<UUID> noLote = new HashSet<>();
+        for (SolicitacaoConclusao solicitacao : solicitacoes) {
+            Matricula matricula = matriculas.get(solicitacao.matriculaId());
+            if (solicitacao.notaFinal() < 0 || solicitacao.notaFinal() > 10) {
+                resultados.add(ResultadoConclusao.rejeitada(solicitacao, "Nota final deve estar entre 0 e 10"));
+            } else if (matricula == null) {
+                resultados.add(ResultadoConclusao.rejeitada(solicitacao, "Matrícula não encontrada"));
+            } else if (!noLote.add(matricula.getId())) {
+                resultados.add(ResultadoConclusao.rejeitada(solicitacao, "Conclusão repetida no lote"));
+            } else if (MatriculaStatus.CONCLUIDO.equals(matricula.getStatus())) {
+                resultados.add(ResultadoConclusao.rejeitada(solicitacao, "O curso já está concluído"));
+            } else {
+                matricula.concluir(solicitacao.notaFinal());
+                concluidas.add(matricula);
+                eventos.add(toCursoConcluidoEvent(matricula));
+                resultados.add(ResultadoConclusao.concluida(solicitacao, matricula));
+            }
+        }
+
+        registrarConclusoes(concluidas);
+        eventPublisher.publishAll(eventos);
+        return resultados;
+    }
+
+    /**
+     * Soma as conclusões por aluno e agrupa os alunos com a mesma variação, para que cada
+     * grupo seja atualizado com um único incremento atômico.
+     */
+    private void registrarConclusoes(List<Matricula> concluidas) {
+        Map<UUID, VariacaoEstatisticas> porAluno = new HashMap<>();
+        for (Matricula matricula : concluidas) {
+            VariacaoEstatisticas variacao = new VariacaoEstatisticas(1, matricula.estaAprovado() ? 1 : 0, matricula.getNotaFinal());
+            porAluno.merge(matricula.getAluno().getId(), variacao, VariacaoEstatisticas::somar);
+        }
+        porAluno.entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+            .forEach((variacao, ids) -> alunoRepository.registrarConclusoes(
+                ids, variacao.concluidos(), variacao.aprovados(), variacao.somaNotas()));
+    }
+
+    private record VariacaoEstatisticas(int concluidos, int aprovados, double somaNotas) {
+
+        VariacaoEstatisticas somar(VariacaoEstatisticas outra) {
+            return new VariacaoEstatisticas(concluidos + outra.concluidos, aprovados + outra.aprovados,
+                somaNotas + outra.somaNotas);
+        }
+    }
+
+    /**
+     * Monta o evento de conclusão de curso a ser publicado no RabbitMQ.
      * O evento é publicado independentemente se o aluno foi aprovado ou não,
      * permitindo que os consumidores decidam como processar cada caso.
      * 
      * @param matricula Matrícula concluída com todos os dados necessários
+     * @return Evento de conclusão de curso
      */
-    private void publishCursoConcluidoEvent(Matricula matricula) {
+    private static CursoConcluidoEvent toCursoConcluidoEvent(Matricula matricula) {
         Aluno aluno = matricula.getAluno();
         Curso curso = matricula.getCurso();
 
-        CursoConcluidoEvent event = CursoConcluidoEvent.of(
+        return CursoConcluidoEvent.of(
             aluno.getId(),
             aluno.getNome(),
             aluno.getEmail() != null ? aluno.getEmail().getValue() : null,
@@ -135,8 +332,6 @@ public class MatriculaService {
             matricula.getNotaFinal(),
             matricula.getDataConclusao()
         );
-
-        eventPublisher.publish(event);
     }
 
     /**
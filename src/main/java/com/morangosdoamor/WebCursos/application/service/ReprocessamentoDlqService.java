@@ -0,0 +1,246 @@
+package com.morangosdoamor.WebCursos.application.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.application.dto.FiltroReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa.EncaminhadorRetentativas;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reenvio das mensagens da DLQ (curso.concluido.dlq) ao exchange e routing key de origem.
+ *
+ * As mensagens são lidas uma a uma (basic.get) em um único canal, até o total presente na
+ * fila no início do reprocessamento:
+ * - As que atendem ao filtro (tipo do evento, aluno, janela de chegada na DLQ) são republicadas
+ *   com o contador de retentativas zerado e só são removidas da DLQ após a confirmação do broker
+ * - As demais ficam pendentes no canal até o fim da varredura e então são devolvidas à DLQ
+ *   (nack com requeue), de modo que não são lidas de novo na mesma varredura
+ *
+ * O reenvio respeita uma taxa máxima (webcursos.rabbitmq.dlq.reprocessamento.max-mensagens-por-segundo),
+ * para que um reprocessamento não sobrecarregue o Gemini ou o SMTP.
+ *
+ * O destino original vem dos headers x-original-exchange e x-original-routingKey (gravados
+ * pelo EncaminhadorRetentativas) ou, para mensagens encaminhadas pelo dead-letter do broker,
+ * do header x-death. Mensagens sem destino identificável permanecem na DLQ.
+ */
+@Service
+@Slf4j
+public class ReprocessamentoDlqService {
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+    private static final List<String> HEADERS_DE_FALHA = List.of(
+        EncaminhadorRetentativas.X_RETRY_COUNT,
+        EncaminhadorRetentativas.X_PARKED_AT,
+        RepublishMessageRecoverer.X_EXCEPTION_MESSAGE,
+        RepublishMessageRecoverer.X_EXCEPTION_STACKTRACE,
+        "x-death");
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final String dlqName;
+    private final int maxMensagensPorSegundo;
+    private final int maxMensagens;
+    private final long timeoutConfirmacaoMs;
+
+    public ReprocessamentoDlqService(RabbitTemplate rabbitTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${webcursos.rabbitmq.queue.dlq}") String dlqName,
+                                     @Value("${webcursos.rabbitmq.dlq.reprocessamento.max-mensagens-por-segundo:10}") int maxMensagensPorSegundo,
+                                     @Value("${webcursos.rabbitmq.dlq.reprocessamento.max-mensagens:1000}") int maxMensagens,
+                                     @Value("${webcursos.rabbitmq.dlq.reprocessamento.timeout-confirmacao-ms:5000}") long timeoutConfirmacaoMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.dlqName = dlqName;
+        this.maxMensagensPorSegundo = maxMensagensPorSegundo;
+        this.maxMensagens = maxMensagens;
+        this.timeoutConfirmacaoMs = timeoutConfirmacaoMs;
+    }
+
+    /**
+     * Reenvia as mensagens da DLQ que atendem ao filtro.
+     *
+     * @param filtro Critérios de seleção, taxa e quantidade máxima
+     * @return Totais do reprocessamento
+     * @throws BusinessRuleException se a janela de tempo for inválida
+     */
+    public ResultadoReprocessamentoDlq reprocessar(FiltroReprocessamentoDlq filtro) {
+        if (filtro.de() != null && filtro.ate() != null && filtro.de().isAfter(filtro.ate())) {
+            throw new BusinessRuleException("O início da janela deve ser anterior ao fim");
+        }
+        int taxa = limitar(filtro.mensagensPorSegundo(), maxMensagensPorSegundo);
+        int limite = limitar(filtro.maxMensagens(), maxMensagens);
+
+        ResultadoReprocessamentoDlq resultado = rabbitTemplate.execute(channel -> varrer(channel, filtro, taxa, limite));
+        log.info("Reprocessamento da DLQ concluído: {} lidas, {} reenviadas, {} mantidas ({} msg/s)",
+            resultado.lidas(), resultado.reenviadas(), resultado.mantidas(), taxa);
+        return resultado;
+    }
+
+    private ResultadoReprocessamentoDlq varrer(Channel channel, FiltroReprocessamentoDlq filtro,
+                                               int taxa, int limite) throws IOException, InterruptedException {
+        // Idempotente em canais que já estão em modo de confirmação (publisher-confirm-type=simple)
+        channel.confirmSelect();
+        long intervaloNanos = TimeUnit.SECONDS.toNanos(1) / taxa;
+        long proximoEnvio = System.nanoTime();
+        List<Long> mantidas = new ArrayList<>();
+        Long emAndamento = null;
+        int lidas = 0;
+        int reenviadas = 0;
+        long totalInicial = Long.MAX_VALUE;
+
+        try {
+            while (reenviadas < limite && lidas < totalInicial) {
+                GetResponse resposta = channel.basicGet(dlqName, false);
+                if (resposta == null) {
+                    break;
+                }
+                if (lidas == 0) {
+                    totalInicial = resposta.getMessageCount() + 1L;
+                }
+                lidas++;
+
+                long tag = resposta.getEnvelope().getDeliveryTag();
+                MessageProperties properties = propertiesConverter.toMessageProperties(
+                    resposta.getProps(), resposta.getEnvelope(), StandardCharsets.UTF_8.name());
+                Destino destino = destinoOriginal(properties);
+                if (destino == null || !atende(filtro, properties, resposta.getBody())) {
+                    mantidas.add(tag);
+                    continue;
+                }
+
+                emAndamento = tag;
+                proximoEnvio = aguardarVez(proximoEnvio, intervaloNanos);
+                channel.basicPublish(destino.exchange(), destino.routingKey(),
+                    propertiesConverter.fromMessageProperties(paraReenvio(properties), StandardCharsets.UTF_8.name()),
+                    resposta.getBody());
+                channel.waitForConfirmsOrDie(timeoutConfirmacaoMs);
+                channel.basicAck(tag, false);
+                emAndamento = null;
+                reenviadas++;
+            }
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Broker não confirmou a mensagem reenviada em " + timeoutConfirmacaoMs + " ms", e);
+        } finally {
+            // Em caso de falha, a mensagem em reenvio volta à DLQ junto com as mantidas
+            if (emAndamento != null) {
+                channel.basicNack(emAndamento, false, true);
+            }
+            for (long tag : mantidas) {
+                channel.basicNack(tag, false, true);
+            }
+        }
+        return new ResultadoReprocessamentoDlq(lidas, reenviadas, mantidas.size(), taxa);
+    }
+
+    private boolean atende(FiltroReprocessamentoDlq filtro, MessageProperties properties, byte[] corpo) {
+        if (filtro.tipo() != null && !filtro.tipo().isBlank() && !tipoCorresponde(filtro.tipo(), properties.getHeader(TYPE_ID_HEADER))) {
+            return false;
+        }
+        if (filtro.de() != null || filtro.ate() != null) {
+            LocalDateTime chegada = chegadaNaDlq(properties);
+            if (chegada == null
+                    || (filtro.de() != null && chegada.isBefore(filtro.de()))
+                    || (filtro.ate() != null && chegada.isAfter(filtro.ate()))) {
+                return false;
+            }
+        }
+        return filtro.alunoId() == null || filtro.alunoId().toString().equals(alunoId(corpo));
+    }
+
+    private static boolean tipoCorresponde(String tipo, Object typeId) {
+        if (typeId == null) {
+            return false;
+        }
+        String nome = typeId.toString();
+        return nome.equals(tipo) || nome.endsWith("." + tipo);
+    }
+
+    private String alunoId(byte[] corpo) {
+        try {
+            JsonNode alunoId = objectMapper.readTree(corpo).get("alunoId");
+            return alunoId != null ? alunoId.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Momento de chegada na DLQ: x-parked-at (EncaminhadorRetentativas) ou o registro mais
+     * recente do x-death (dead-letter do broker).
+     */
+    private static LocalDateTime chegadaNaDlq(MessageProperties properties) {
+        Object parkedAt = properties.getHeader(EncaminhadorRetentativas.X_PARKED_AT);
+        if (parkedAt instanceof Number millis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis.longValue()), ZoneId.systemDefault());
+        }
+        List<Map<String, ?>> xDeath = properties.getXDeathHeader();
+        if (xDeath != null && !xDeath.isEmpty() && xDeath.get(0).get("time") instanceof Date time) {
+            return LocalDateTime.ofInstant(time.toInstant(), ZoneId.systemDefault());
+        }
+        return null;
+    }
+
+    private static Destino destinoOriginal(MessageProperties properties) {
+        Object routingKey = properties.getHeader(RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY);
+        if (routingKey != null) {
+            Object exchange = properties.getHeader(RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE);
+            return new Destino(exchange != null ? exchange.toString() : "", routingKey.toString());
+        }
+        List<Map<String, ?>> xDeath = properties.getXDeathHeader();
+        if (xDeath != null) {
+            for (Map<String, ?> morte : xDeath) {
+                if (morte.get("exchange") instanceof String exchange && !exchange.isEmpty()
+                        && morte.get("routing-keys") instanceof List<?> routingKeys && !routingKeys.isEmpty()) {
+                    return new Destino(exchange, routingKeys.get(0).toString());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MessageProperties paraReenvio(MessageProperties recebida) {
+        recebida.setDeliveryMode(recebida.getReceivedDeliveryMode());
+        HEADERS_DE_FALHA.forEach(recebida.getHeaders()::remove);
+        return recebida;
+    }
+
+    private static long aguardarVez(long proximoEnvio, long intervaloNanos) throws InterruptedException {
+        long espera = proximoEnvio - System.nanoTime();
+        if (espera > 0) {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        }
+        return Math.max(proximoEnvio, System.nanoTime()) + intervaloNanos;
+    }
+
+    private static int limitar(Integer solicitado, int teto) {
+        return solicitado == null ? teto : Math.max(1, Math.min(solicitado, teto));
+    }
+
+    private record Destino(String exchange, String routingKey) {}
+}
@@ -0,0 +1,33 @@
+package com.morangosdoamor.WebCursos.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.application.service.AlunoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalcula as estatísticas agregadas dos alunos na inicialização.
+ * 
+ * Ativado com webcursos.alunos.recalcular-estatisticas=true, para preencher os contadores
+ * de uma base existente ao implantar a versão que os introduziu (as colunas são criadas
+ * zeradas). Deve ser desativado após a primeira execução.
+ */
+@Component
+@ConditionalOnProperty(name = "webcursos.alunos.recalcular-estatisticas", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RecalculoEstatisticasRunner implements ApplicationRunner {
+
+    private final AlunoService alunoService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int atualizados = alunoService.recalcularEstatisticas();
+        log.info("Estatísticas recalculadas para {} alunos", atualizados);
+    }
+}
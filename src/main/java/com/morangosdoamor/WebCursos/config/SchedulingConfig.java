@@ -0,0 +1,12 @@
+package com.morangosdoamor.WebCursos.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de tarefas agendadas (@Scheduled), como o relay da outbox transacional.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
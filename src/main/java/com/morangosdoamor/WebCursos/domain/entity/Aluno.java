@@ -5,16 +5,19 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import com.morangosdoamor.WebCursos.domain.persistence.UuidV7Generator;
 import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+import com.morangosdoamor.WebCursos.domain.valueobject.EstatisticasAluno;
+
+import org.hibernate.annotations.UuidGenerator;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -28,18 +31,18 @@ import lombok.Setter;
  * Entidade de domínio que representa um aluno na plataforma de cursos.
  * 
  * Princípios DDD aplicados:
- * - Entidade com identidade única (UUID)
+ * - Entidade com identidade única (UUID v7, ordenado pelo tempo de criação)
  * - Encapsula regras de negócio relacionadas a alunos
  * - Mantém relacionamento bidirecional com Matricula
  * - Value Object Email encapsula validação de email
  * 
  * Responsabilidades:
  * - Gerenciar matrículas do aluno
- * - Calcular estatísticas (total de cursos aprovados)
+ * - Expor estatísticas agregadas das matrículas (mantidas pelo MatriculaService)
  * - Garantir data de criação consistente
  */
 @Entity
-@Table(name = "aluno")
+@Table(name = "aluno", indexes = @Index(name = "idx_aluno_nome_id", columnList = "nome, id"))
 @Getter
 @Setter
 @Builder
@@ -49,7 +52,7 @@ import lombok.Setter;
 public class Aluno {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(name = "nome", nullable = false, length = 150)
@@ -64,6 +67,10 @@ public class Aluno {
     @Column(name = "criado_em", nullable = false)
     private LocalDateTime criadoEm;
 
+    @Builder.Default
+    @Embedded
+    private EstatisticasAluno estatisticas = new EstatisticasAluno();
+
     @Builder.Default
     @OneToMany(mappedBy = "aluno", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Matricula> matriculas = new HashSet<>();
@@ -80,13 +87,13 @@ public class Aluno {
     }
 
     /**
-     * Calcula o total de cursos aprovados pelo aluno.
-     * Considera apenas matrículas concluídas com nota final ≥ 7.0.
+     * Retorna o total de cursos aprovados pelo aluno (concluídos com nota final ≥ 7.0),
+     * a partir do contador agregado, sem percorrer as matrículas.
      * 
      * @return Quantidade de cursos aprovados (nota ≥ 7.0)
      */
     public long totalCursosAprovados() {
-        return matriculas.stream().filter(Matricula::estaAprovado).count();
+        return estatisticas.getTotalAprovados();
     }
 
     /**
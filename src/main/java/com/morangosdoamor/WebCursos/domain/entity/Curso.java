@@ -4,17 +4,20 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import com.morangosdoamor.WebCursos.domain.persistence.UuidV7Generator;
 import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.UuidGenerator;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -29,7 +32,7 @@ import lombok.Setter;
  * Entidade de domínio que representa um curso disponível na plataforma.
  * 
  * Princípios DDD aplicados:
- * - Entidade com identidade única (UUID)
+ * - Entidade com identidade única (UUID v7, ordenado pelo tempo de criação)
  * - Value Object CargaHoraria encapsula regras de carga horária
  * - Coleção de pré-requisitos como elementos do domínio
  * - Mantém relacionamento com Matricula
@@ -40,7 +43,7 @@ import lombok.Setter;
  * - Encapsular carga horária com validações e conversões
  */
 @Entity
-@Table(name = "curso")
+@Table(name = "curso", indexes = @Index(name = "idx_curso_nome_id", columnList = "nome, id"))
 @Getter
 @Setter
 @Builder
@@ -50,7 +53,7 @@ import lombok.Setter;
 public class Curso {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(name = "codigo", nullable = false, unique = true, length = 20)
@@ -67,6 +70,7 @@ public class Curso {
 
     @Builder.Default
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @CollectionTable(name = "curso_prerequisito", joinColumns = @JoinColumn(name = "curso_id"))
     @Column(name = "codigo_prerequisito", length = 20)
     private Set<String> prerequisitos = new HashSet<>();
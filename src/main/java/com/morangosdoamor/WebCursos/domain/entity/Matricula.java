@@ -4,15 +4,17 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
+import com.morangosdoamor.WebCursos.domain.persistence.UuidV7Generator;
+
+import org.hibernate.annotations.UuidGenerator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,7 +29,7 @@ import lombok.Setter;
  * Entidade de domínio que representa a matrícula de um aluno em um curso.
  * 
  * Princípios DDD aplicados:
- * - Entidade com identidade única (UUID)
+ * - Entidade com identidade única (UUID v7, ordenado pelo tempo de criação)
  * - Encapsula regras de negócio relacionadas a matrículas
  * - Mantém relacionamentos bidirecionais com Aluno e Curso
  * - Enum MatriculaStatus representa estados do domínio
@@ -38,7 +40,7 @@ import lombok.Setter;
  * - Determinar se o aluno foi aprovado (nota ≥ 7.0)
  */
 @Entity
-@Table(name = "matricula")
+@Table(name = "matricula", indexes = @Index(name = "idx_matricula_aluno_curso", columnList = "aluno_id, curso_id"))
 @Getter
 @Setter
 @Builder
@@ -47,8 +49,10 @@ import lombok.Setter;
 @EqualsAndHashCode(of = "id")
 public class Matricula {
 
+    public static final double NOTA_MINIMA_APROVACAO = 7.0;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -101,6 +105,6 @@ public class Matricula {
      * @return true se o aluno foi aprovado (nota ≥ 7.0 e curso concluído), false caso contrário
      */
     public boolean estaAprovado() {
-        return notaFinal != null && notaFinal >= 7.0 && MatriculaStatus.CONCLUIDO.equals(status);
+        return notaFinal != null && notaFinal >= NOTA_MINIMA_APROVACAO && MatriculaStatus.CONCLUIDO.equals(status);
     }
 }
@@ -0,0 +1,53 @@
+package com.morangosdoamor.WebCursos.domain.valueobject;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Value Object com os contadores agregados das matrículas de um aluno.
+ * Justificativa: evita contar ou percorrer as matrículas a cada consulta; as estatísticas
+ * são lidas junto com a própria linha do aluno.
+ * 
+ * Os contadores são mantidos pelo banco com incrementos atômicos (AlunoRepository), nunca
+ * pela gravação da entidade: as colunas não são atualizáveis via JPA, de modo que alterar
+ * outros dados do aluno não sobrescreve incrementos feitos por transações concorrentes.
+ * O default 0 permite adicionar as colunas a tabelas já populadas (ddl-auto=update).
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EstatisticasAluno {
+
+    @Column(name = "total_matriculas", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int totalMatriculas;
+
+    @Column(name = "total_concluidos", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int totalConcluidos;
+
+    @Column(name = "total_aprovados", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int totalAprovados;
+
+    @Column(name = "soma_notas", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private double somaNotas;
+
+    /**
+     * Calcula a média das notas finais dos cursos concluídos.
+     * 
+     * @return Média das notas, ou null se nenhum curso foi concluído
+     */
+    public Double getMediaNotas() {
+        return totalConcluidos == 0 ? null : somaNotas / totalConcluidos;
+    }
+}
@@ -0,0 +1,22 @@
+package com.morangosdoamor.WebCursos.infrastructure.ai;
+
+/**
+ * Exceção lançada quando uma chamada ao modelo de IA não é executada ou não termina a tempo.
+ *
+ * Situações:
+ * - Circuito aberto após falhas consecutivas
+ * - Limite de chamadas simultâneas atingido (bulkhead)
+ * - Prazo da chamada excedido
+ *
+ * O AiRecommendationService trata a exceção como qualquer outra falha da IA,
+ * respondendo com a mensagem de fallback.
+ */
+public class ChatModelIndisponivelException extends RuntimeException {
+
+    /**
+     * @param message Motivo da indisponibilidade
+     */
+    public ChatModelIndisponivelException(String message) {
+        super(message);
+    }
+}
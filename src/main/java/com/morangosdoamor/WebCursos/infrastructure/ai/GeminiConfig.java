@@ -1,11 +1,14 @@
 package com.morangosdoamor.WebCursos.infrastructure.ai;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -14,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
  * Responsabilidades:
  * - Configurar o ChatLanguageModel com as credenciais do Gemini
  * - Definir parâmetros de geração (modelo, temperatura)
+ * - Proteger as chamadas com limite de concorrência, prazo e circuit breaker (ResilientChatLanguageModel)
  * - Prover bean para injeção no serviço de recomendação
  * 
  * Requer variável de ambiente GEMINI_API_KEY configurada.
@@ -31,14 +35,30 @@ public class GeminiConfig {
     @Value("${gemini.temperature:0.7}")
     private double temperature;
 
+    @Value("${webcursos.ai.chat.max-concorrentes:4}")
+    private int maxConcorrentes;
+
+    @Value("${webcursos.ai.chat.espera-max-ms:2000}")
+    private long esperaMaxMs;
+
+    @Value("${webcursos.ai.chat.timeout-ms:15000}")
+    private long timeoutMs;
+
+    @Value("${webcursos.ai.chat.circuito.limite-falhas:5}")
+    private int limiteFalhas;
+
+    @Value("${webcursos.ai.chat.circuito.aberto-ms:30000}")
+    private long abertoMs;
+
     /**
      * Cria o bean do modelo de chat Gemini.
      * Se a API key não estiver configurada, retorna null e loga um aviso.
      * 
+     * @param meterRegistry Registro das métricas de concorrência, rejeições e circuito
      * @return ChatLanguageModel configurado ou null se API key ausente
      */
     @Bean
-    public ChatLanguageModel geminiChatModel() {
+    public ChatLanguageModel geminiChatModel(MeterRegistry meterRegistry) {
         if (apiKey == null || apiKey.isBlank()) {
             log.warn("GEMINI_API_KEY não configurada. Serviço de IA desabilitado. " +
                      "Configure a variável de ambiente GEMINI_API_KEY para habilitar recomendações com IA.");
@@ -47,11 +67,15 @@ public class GeminiConfig {
 
         log.info("Configurando Gemini AI com modelo: {}, temperatura: {}", modelName, temperature);
 
-        return GoogleAiGeminiChatModel.builder()
+        ChatLanguageModel gemini = GoogleAiGeminiChatModel.builder()
             .apiKey(apiKey)
             .modelName(modelName)
             .temperature(temperature)
+            .timeout(Duration.ofMillis(timeoutMs))
             .build();
+
+        return new ResilientChatLanguageModel(gemini, meterRegistry,
+            maxConcorrentes, esperaMaxMs, timeoutMs, limiteFalhas, abertoMs);
     }
 }
 
@@ -0,0 +1,275 @@
+package com.morangosdoamor.WebCursos.infrastructure.ai;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorator do ChatLanguageModel que protege o consumidor de respostas lentas ou falhas do modelo.
+ *
+ * Proteções aplicadas a cada chamada, nesta ordem:
+ * - Circuit breaker: após limiteFalhas falhas consecutivas o circuito abre e as chamadas são
+ *   recusadas imediatamente durante abertoMs; depois disso uma única chamada de teste decide
+ *   se o circuito fecha novamente
+ * - Bulkhead: no máximo maxConcorrentes chamadas em andamento; as demais aguardam até esperaMaxMs
+ *   e são recusadas em seguida
+ * - Prazo: a chamada é executada em thread própria e abandonada após timeoutMs
+ *
+ * A vaga do bulkhead só é liberada quando a chamada ao modelo realmente termina, mesmo que o
+ * chamador já tenha desistido por prazo, para que chamadas abandonadas continuem contando.
+ * Uma chamada cancelada (prazo ou interrupção) antes de começar a executar nunca chega ao
+ * modelo; nesse caso a vaga é devolvida pelo próprio chamador.
+ *
+ * Recusas e prazos excedidos lançam ChatModelIndisponivelException.
+ *
+ * Métricas (Micrometer):
+ * - ai.chat.chamadas.ativas / ai.chat.fila: chamadas em andamento e aguardando vaga
+ * - ai.chat.rejeicoes (tag motivo=circuito|bulkhead) e ai.chat.timeouts
+ * - ai.chat.circuito.aberto: 1 enquanto o circuito estiver aberto ou em teste
+ */
+@Slf4j
+public class ResilientChatLanguageModel implements ChatLanguageModel {
+
+    private enum EstadoCircuito { FECHADO, ABERTO, SEMI_ABERTO }
+
+    private final ChatLanguageModel delegate;
+    private final long timeoutMs;
+    private final long esperaMaxMs;
+    private final int limiteFalhas;
+    private final long abertoNanos;
+    private final LongSupplier relogioNanos;
+
+    private final Semaphore vagas;
+    private final AtomicInteger chamadasAtivas = new AtomicInteger();
+    private final ExecutorService executor;
+
+    private final Counter rejeicoesCircuito;
+    private final Counter rejeicoesBulkhead;
+    private final Counter timeouts;
+
+    private EstadoCircuito estado = EstadoCircuito.FECHADO;
+    private int falhasConsecutivas;
+    private long abertoDesde;
+
+    public ResilientChatLanguageModel(ChatLanguageModel delegate,
+                                      MeterRegistry meterRegistry,
+                                      int maxConcorrentes,
+                                      long esperaMaxMs,
+                                      long timeoutMs,
+                                      int limiteFalhas,
+                                      long abertoMs) {
+        this(delegate, meterRegistry, maxConcorrentes, esperaMaxMs, timeoutMs, limiteFalhas, abertoMs, System::nanoTime);
+    }
+
+    ResilientChatLanguageModel(ChatLanguageModel delegate,
+                               MeterRegistry meterRegistry,
+                               int maxConcorrentes,
+                               long esperaMaxMs,
+                               long timeoutMs,
+                               int limiteFalhas,
+                               long abertoMs,
+                               LongSupplier relogioNanos) {
+        this(delegate, meterRegistry, maxConcorrentes, esperaMaxMs, timeoutMs, limiteFalhas, abertoMs, relogioNanos,
+            Executors.newFixedThreadPool(maxConcorrentes, threadFactory()));
+    }
+
+    ResilientChatLanguageModel(ChatLanguageModel delegate,
+                               MeterRegistry meterRegistry,
+                               int maxConcorrentes,
+                               long esperaMaxMs,
+                               long timeoutMs,
+                               int limiteFalhas,
+                               long abertoMs,
+                               LongSupplier relogioNanos,
+                               ExecutorService executor) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        this.esperaMaxMs = esperaMaxMs;
+        this.limiteFalhas = limiteFalhas;
+        this.abertoNanos = TimeUnit.MILLISECONDS.toNanos(abertoMs);
+        this.relogioNanos = relogioNanos;
+        this.vagas = new Semaphore(maxConcorrentes, true);
+        this.executor = executor;
+
+        Gauge.builder("ai.chat.chamadas.ativas", chamadasAtivas, AtomicInteger::get)
+            .description("Chamadas ao modelo de IA em andamento")
+            .register(meterRegistry);
+        Gauge.builder("ai.chat.fila", vagas, Semaphore::getQueueLength)
+            .description("Chamadas aguardando vaga no bulkhead do modelo de IA")
+            .register(meterRegistry);
+        Gauge.builder("ai.chat.circuito.aberto", this, modelo -> modelo.circuitoAberto() ? 1 : 0)
+            .description("Indica se o circuito do modelo de IA está aberto")
+            .register(meterRegistry);
+        this.rejeicoesCircuito = Counter.builder("ai.chat.rejeicoes").tag("motivo", "circuito").register(meterRegistry);
+        this.rejeicoesBulkhead = Counter.builder("ai.chat.rejeicoes").tag("motivo", "bulkhead").register(meterRegistry);
+        this.timeouts = Counter.builder("ai.chat.timeouts").register(meterRegistry);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        if (!permitirChamada()) {
+            rejeicoesCircuito.increment();
+            throw new ChatModelIndisponivelException("Circuito do modelo de IA aberto");
+        }
+
+        if (!adquirirVaga()) {
+            liberarTeste();
+            rejeicoesBulkhead.increment();
+            throw new ChatModelIndisponivelException("Limite de chamadas simultâneas ao modelo de IA atingido");
+        }
+
+        // Quem marcar primeiro fica com a vaga: a tarefa, ao começar, ou o chamador, ao cancelá-la
+        AtomicBoolean vagaReivindicada = new AtomicBoolean();
+        Future<Response<AiMessage>> chamada;
+        try {
+            chamada = executor.submit(() -> {
+                if (!vagaReivindicada.compareAndSet(false, true)) {
+                    return null;
+                }
+                chamadasAtivas.incrementAndGet();
+                try {
+                    return delegate.generate(messages);
+                } finally {
+                    chamadasAtivas.decrementAndGet();
+                    vagas.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            vagas.release();
+            registrarFalha();
+            throw e;
+        }
+
+        return aguardar(chamada, vagaReivindicada);
+    }
+
+    private Response<AiMessage> aguardar(Future<Response<AiMessage>> chamada, AtomicBoolean vagaReivindicada) {
+        try {
+            Response<AiMessage> resposta = chamada.get(timeoutMs, TimeUnit.MILLISECONDS);
+            registrarSucesso();
+            return resposta;
+        } catch (TimeoutException e) {
+            cancelar(chamada, vagaReivindicada);
+            timeouts.increment();
+            registrarFalha();
+            throw new ChatModelIndisponivelException("Modelo de IA não respondeu em " + timeoutMs + " ms");
+        } catch (ExecutionException e) {
+            registrarFalha();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Falha na chamada ao modelo de IA", e.getCause());
+        } catch (InterruptedException e) {
+            cancelar(chamada, vagaReivindicada);
+            liberarTeste();
+            Thread.currentThread().interrupt();
+            throw new ChatModelIndisponivelException("Chamada ao modelo de IA interrompida");
+        }
+    }
+
+    /**
+     * Cancela a chamada e, se ela ainda não começou a executar (aguardava na fila do executor),
+     * devolve a vaga que a própria tarefa devolveria ao terminar.
+     */
+    private void cancelar(Future<Response<AiMessage>> chamada, AtomicBoolean vagaReivindicada) {
+        chamada.cancel(true);
+        if (vagaReivindicada.compareAndSet(false, true)) {
+            vagas.release();
+        }
+    }
+
+    private boolean adquirirVaga() {
+        try {
+            return vagas.tryAcquire(esperaMaxMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Decide se a chamada pode seguir; com o circuito aberto há tempo suficiente,
+     * deixa passar apenas uma chamada de teste (semiaberto).
+     */
+    private synchronized boolean permitirChamada() {
+        return switch (estado) {
+            case FECHADO -> true;
+            case SEMI_ABERTO -> false;
+            case ABERTO -> {
+                if (relogioNanos.getAsLong() - abertoDesde < abertoNanos) {
+                    yield false;
+                }
+                estado = EstadoCircuito.SEMI_ABERTO;
+                yield true;
+            }
+        };
+    }
+
+    private synchronized void registrarSucesso() {
+        if (estado != EstadoCircuito.FECHADO) {
+            log.info("Modelo de IA respondeu novamente. Circuito fechado.");
+        }
+        estado = EstadoCircuito.FECHADO;
+        falhasConsecutivas = 0;
+    }
+
+    private synchronized void registrarFalha() {
+        falhasConsecutivas++;
+        if (estado == EstadoCircuito.SEMI_ABERTO || falhasConsecutivas >= limiteFalhas) {
+            if (estado != EstadoCircuito.ABERTO) {
+                log.warn("Circuito do modelo de IA aberto após {} falhas consecutivas", falhasConsecutivas);
+            }
+            estado = EstadoCircuito.ABERTO;
+            abertoDesde = relogioNanos.getAsLong();
+        }
+    }
+
+    /**
+     * Devolve ao estado aberto uma chamada de teste que não chegou ao modelo,
+     * sem contar como falha nem reiniciar o período de abertura.
+     */
+    private synchronized void liberarTeste() {
+        if (estado == EstadoCircuito.SEMI_ABERTO) {
+            estado = EstadoCircuito.ABERTO;
+        }
+    }
+
+    synchronized boolean circuitoAberto() {
+        return estado != EstadoCircuito.FECHADO;
+    }
+
+    /**
+     * Encerra as threads de execução; chamado pelo Spring no desligamento do contexto.
+     */
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequencia = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "ai-chat-" + sequencia.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
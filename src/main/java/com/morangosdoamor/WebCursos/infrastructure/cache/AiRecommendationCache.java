@@ -0,0 +1,85 @@
+package com.morangosdoamor.WebCursos.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache local das recomendações geradas pela IA.
+ *
+ * A chave é a impressão digital (SHA-256) do prompt normalizado: como o prompt é função
+ * exclusiva das entradas (aluno, curso concluído, nota, últimos cursos e cursos disponíveis),
+ * entradas equivalentes produzem a mesma chave, e mensagens reentregues ou conclusões
+ * repetidas com o mesmo histórico não pagam uma nova chamada ao modelo.
+ *
+ * Limitado por tamanho (webcursos.ai.cache.max-size) e por tempo desde a escrita
+ * (webcursos.ai.cache.ttl-minutos). Acertos, faltas e descartes são publicados no Micrometer
+ * com o nome de cache "ai.recomendacoes" (métricas cache.gets, cache.puts, cache.evictions, cache.size).
+ */
+@Component
+public class AiRecommendationCache {
+
+    static final String NOME_CACHE = "ai.recomendacoes";
+
+    private final Cache<String, String> recomendacoes;
+
+    public AiRecommendationCache(MeterRegistry meterRegistry,
+                                 @Value("${webcursos.ai.cache.max-size:10000}") long tamanhoMaximo,
+                                 @Value("${webcursos.ai.cache.ttl-minutos:360}") long ttlMinutos) {
+        this.recomendacoes = Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutos))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recomendacoes, NOME_CACHE);
+    }
+
+    /**
+     * Calcula a chave do cache para um prompt.
+     * Espaços em branco são normalizados para que diferenças de formatação não gerem chaves distintas.
+     *
+     * @param prompt Prompt enviado ao modelo de IA
+     * @return Impressão digital hexadecimal do prompt
+     */
+    public static String fingerprint(String prompt) {
+        String normalizado = prompt.strip().replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizado.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Busca uma recomendação previamente gerada.
+     *
+     * @param chave Impressão digital do prompt
+     * @return Optional contendo a recomendação, se presente e não expirada
+     */
+    public Optional<String> buscar(String chave) {
+        return Optional.ofNullable(recomendacoes.getIfPresent(chave));
+    }
+
+    /**
+     * Armazena uma recomendação gerada pelo modelo.
+     *
+     * @param chave Impressão digital do prompt
+     * @param recomendacao Resposta do modelo
+     */
+    public void armazenar(String chave, String recomendacao) {
+        recomendacoes.put(chave, recomendacao);
+    }
+}
@@ -0,0 +1,101 @@
+package com.morangosdoamor.WebCursos.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache local (read-through) do catálogo de cursos indexado por código.
+ *
+ * Cursos raramente mudam, mas são consultados por código em toda matrícula.
+ * O cache evita uma ida ao banco por matrícula, com descarte por tamanho máximo.
+ *
+ * Consistência:
+ * - Apenas cursos existentes são armazenados (códigos inexistentes sempre consultam o banco)
+ * - As entradas são invalidadas após o commit de criação, atualização ou exclusão de curso,
+ *   localmente e em todos os nós via broadcast no exchange do RabbitMQ
+ * - As instâncias armazenadas estão desanexadas do contexto de persistência e são
+ *   compartilhadas entre threads: devem ser tratadas como somente leitura
+ */
+@Component
+@Slf4j
+public class CursoCatalogCache {
+
+    private final CursoRepository cursoRepository;
+    private final Cache<String, Curso> cursosPorCodigo;
+
+    public CursoCatalogCache(CursoRepository cursoRepository,
+                             @Value("${webcursos.cache.cursos.max-size:1000}") long tamanhoMaximo) {
+        this.cursoRepository = cursoRepository;
+        this.cursosPorCodigo = Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .build();
+    }
+
+    /**
+     * Busca um curso pelo código, consultando o banco apenas em caso de ausência no cache.
+     *
+     * @param codigo Código único do curso
+     * @return Optional contendo o curso se encontrado
+     */
+    public Optional<Curso> buscarPorCodigo(String codigo) {
+        Curso cached = cursosPorCodigo.getIfPresent(codigo);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Curso> curso = cursoRepository.findByCodigo(codigo);
+        curso.ifPresent(encontrado -> cursosPorCodigo.put(codigo, encontrado));
+        return curso;
+    }
+
+    /**
+     * Busca vários cursos pelo código, consultando o banco em uma única consulta (IN)
+     * apenas para os códigos ausentes no cache.
+     *
+     * @param codigos Códigos dos cursos
+     * @return Cursos encontrados indexados por código (códigos inexistentes ficam de fora)
+     */
+    public Map<String, Curso> buscarPorCodigos(Collection<String> codigos) {
+        Map<String, Curso> encontrados = new HashMap<>(cursosPorCodigo.getAllPresent(codigos));
+        Set<String> ausentes = new HashSet<>(codigos);
+        ausentes.removeAll(encontrados.keySet());
+        if (!ausentes.isEmpty()) {
+            for (Curso curso : cursoRepository.findAllByCodigoIn(ausentes)) {
+                cursosPorCodigo.put(curso.getCodigo(), curso);
+                encontrados.put(curso.getCodigo(), curso);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Remove do cache a entrada de um curso.
+     *
+     * @param codigo Código do curso alterado
+     */
+    public void invalidar(String codigo) {
+        log.debug("Invalidando curso '{}' do cache do catálogo", codigo);
+        cursosPorCodigo.invalidate(codigo);
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public void invalidarTudo() {
+        log.debug("Invalidando todo o cache do catálogo de cursos");
+        cursosPorCodigo.invalidateAll();
+    }
+}
@@ -0,0 +1,379 @@
+package com.morangosdoamor.WebCursos.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository.ArestaPrerequisito;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Grafo de pré-requisitos do catálogo de cursos, mantido em memória.
+ *
+ * Cada código de curso recebe um índice; para cada curso são mantidos, como bitsets indexados
+ * por curso, os pré-requisitos diretos e o fecho transitivo (pré-requisitos diretos e indiretos).
+ * Com os cursos aprovados pelo aluno também convertidos em bitset, verificar se um curso está
+ * liberado é uma operação entre bitsets, sem consultas ao banco nem percursos no grafo.
+ *
+ * Consistência:
+ * - Carregado sob demanda com uma única consulta (cursos e pré-requisitos, sem entidades)
+ * - Atualizado incrementalmente após o commit de criação, atualização ou exclusão de curso,
+ *   localmente e em todos os nós (mesmo evento de invalidação do CursoCatalogCache): apenas o
+ *   curso alterado e os cursos que dependem dele têm o fecho recalculado
+ * - Cada versão do grafo é imutável e publicada atomicamente: leituras não usam bloqueio
+ *
+ * Pré-requisitos que não correspondem a cursos cadastrados são ignorados na liberação.
+ * Ciclos são recusados na escrita (validarPrerequisitos); se existirem no banco (ex: dados
+ * inseridos diretamente), os cursos envolvidos nunca são liberados e um aviso é registrado.
+ */
+@Component
+@Slf4j
+public class GrafoPrerequisitos {
+
+    private final CursoRepository cursoRepository;
+    private volatile Versao versao;
+
+    public GrafoPrerequisitos(CursoRepository cursoRepository) {
+        this.cursoRepository = cursoRepository;
+    }
+
+    /**
+     * Indica se o curso possui pré-requisitos cadastrados, permitindo que o chamador evite
+     * consultar o histórico do aluno quando não há o que verificar.
+     *
+     * @param codigo Código do curso
+     * @return true se algum pré-requisito (direto ou indireto) for um curso cadastrado
+     */
+    public boolean possuiPrerequisitos(String codigo) {
+        Versao atual = versao();
+        Integer no = atual.indices.get(codigo);
+        return no != null && atual.fecho[no].intersects(atual.existentes);
+    }
+
+    /**
+     * Lista os pré-requisitos (diretos e indiretos) do curso em que o aluno ainda não foi aprovado.
+     *
+     * @param codigo Código do curso
+     * @param codigosAprovados Códigos dos cursos em que o aluno foi aprovado
+     * @return Códigos pendentes em ordem alfabética (vazio se o curso estiver liberado)
+     */
+    public Set<String> pendentes(String codigo, Collection<String> codigosAprovados) {
+        Versao atual = versao();
+        Set<String> pendentes = new TreeSet<>();
+        Integer no = atual.indices.get(codigo);
+        if (no != null) {
+            BitSet faltantes = atual.faltantes(no, atual.aprovados(codigosAprovados));
+            for (int i = faltantes.nextSetBit(0); i >= 0; i = faltantes.nextSetBit(i + 1)) {
+                pendentes.add(atual.codigos.get(i));
+            }
+        }
+        return pendentes;
+    }
+
+    /**
+     * Cria a verificação de liberação dos cursos para o histórico informado.
+     *
+     * Os cursos cadastrados ainda não aprovados são calculados uma única vez; cada verificação
+     * é então uma interseção entre o fecho do curso e esse bitset, sem percorrer o catálogo.
+     *
+     * @param codigosAprovados Códigos dos cursos em que o aluno foi aprovado
+     * @return Predicado que indica se o curso (pelo código) tem todos os pré-requisitos aprovados
+     */
+    public Predicate<String> liberados(Collection<String> codigosAprovados) {
+        Versao atual = versao();
+        BitSet naoAprovados = (BitSet) atual.existentes.clone();
+        naoAprovados.andNot(atual.aprovados(codigosAprovados));
+        return codigo -> {
+            Integer no = atual.indices.get(codigo);
+            return no == null || !atual.fecho[no].intersects(naoAprovados);
+        };
+    }
+
+    /**
+     * Verifica se definir os pré-requisitos informados para o curso criaria um ciclo.
+     *
+     * @param codigo Código do curso criado ou atualizado
+     * @param prerequisitos Novos pré-requisitos diretos do curso
+     * @throws BusinessRuleException se o curso for pré-requisito de si mesmo, direta ou indiretamente
+     */
+    public void validarPrerequisitos(String codigo, Collection<String> prerequisitos) {
+        Versao atual = versao();
+        Integer no = atual.indices.get(codigo);
+        for (String prerequisito : prerequisitos) {
+            if (prerequisito.equals(codigo)) {
+                throw new BusinessRuleException("Um curso não pode ser pré-requisito de si mesmo");
+            }
+            Integer noPrerequisito = atual.indices.get(prerequisito);
+            if (no != null && noPrerequisito != null && atual.fecho[noPrerequisito].get(no)) {
+                throw new BusinessRuleException("Pré-requisitos formariam um ciclo: '"
+                    + prerequisito + "' já depende de '" + codigo + "'");
+            }
+        }
+    }
+
+    /**
+     * Recarrega do banco os pré-requisitos de um curso e atualiza o grafo incrementalmente.
+     * Se o curso não existir mais, ele deixa de contar como pré-requisito.
+     *
+     * @param codigo Código do curso alterado
+     */
+    public void recarregar(String codigo) {
+        if (versao == null) {
+            return;
+        }
+        List<ArestaPrerequisito> arestas = cursoRepository.findArestasPrerequisitosByCodigo(codigo);
+        Set<String> prerequisitos = new HashSet<>();
+        for (ArestaPrerequisito aresta : arestas) {
+            if (aresta.getPrerequisito() != null) {
+                prerequisitos.add(aresta.getPrerequisito());
+            }
+        }
+        atualizar(codigo, !arestas.isEmpty(), prerequisitos);
+    }
+
+    /**
+     * Descarta o grafo; a próxima consulta o reconstrói por completo a partir do banco.
+     */
+    public void invalidarTudo() {
+        log.debug("Invalidando o grafo de pré-requisitos");
+        versao = null;
+    }
+
+    synchronized void atualizar(String codigo, boolean existe, Set<String> prerequisitos) {
+        Versao atual = versao;
+        if (atual == null) {
+            return;
+        }
+        if (atual.possuiCiclo) {
+            // Com ciclos, o fecho dos cursos envolvidos não identifica todos os dependentes
+            versao = null;
+            return;
+        }
+        versao = atual.comCurso(codigo, existe, prerequisitos);
+        log.debug("Grafo de pré-requisitos atualizado para o curso '{}'", codigo);
+    }
+
+    private Versao versao() {
+        Versao atual = versao;
+        if (atual == null) {
+            synchronized (this) {
+                atual = versao;
+                if (atual == null) {
+                    atual = Versao.construir(cursoRepository.findAllArestasPrerequisitos());
+                    versao = atual;
+                    log.debug("Grafo de pré-requisitos carregado com {} cursos", atual.codigos.size());
+                }
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Versão imutável do grafo. Atualizações criam uma nova versão que compartilha os bitsets
+     * dos cursos não afetados.
+     */
+    private static final class Versao {
+
+        private final Map<String, Integer> indices;
+        private final List<String> codigos;
+        private final BitSet existentes;
+        private final BitSet[] diretos;
+        private final BitSet[] fecho;
+        private final boolean possuiCiclo;
+
+        private Versao(Map<String, Integer> indices, List<String> codigos, BitSet existentes,
+                       BitSet[] diretos, BitSet[] fecho, BitSet recalcular) {
+            this.indices = indices;
+            this.codigos = codigos;
+            this.existentes = existentes;
+            this.diretos = diretos;
+            this.fecho = fecho;
+            this.possuiCiclo = calcularFecho(recalcular);
+            if (possuiCiclo) {
+                log.warn("Ciclo detectado nos pré-requisitos dos cursos {}; esses cursos não serão liberados",
+                    codigosEmCiclo());
+            }
+        }
+
+        private static Versao construir(List<ArestaPrerequisito> arestas) {
+            Map<String, Integer> indices = new HashMap<>();
+            List<String> codigos = new ArrayList<>();
+            Map<Integer, BitSet> diretosPorNo = new HashMap<>();
+            BitSet existentes = new BitSet();
+            for (ArestaPrerequisito aresta : arestas) {
+                int no = indice(indices, codigos, aresta.getCodigo());
+                existentes.set(no);
+                BitSet diretos = diretosPorNo.computeIfAbsent(no, n -> new BitSet());
+                if (aresta.getPrerequisito() != null) {
+                    diretos.set(indice(indices, codigos, aresta.getPrerequisito()));
+                }
+            }
+
+            BitSet[] diretos = new BitSet[codigos.size()];
+            BitSet[] fecho = new BitSet[codigos.size()];
+            for (int no = 0; no < codigos.size(); no++) {
+                diretos[no] = diretosPorNo.getOrDefault(no, new BitSet());
+            }
+            BitSet todos = new BitSet();
+            todos.set(0, codigos.size());
+            return new Versao(indices, codigos, existentes, diretos, fecho, todos);
+        }
+
+        /**
+         * Cria a versão seguinte com os pré-requisitos do curso substituídos, recalculando o
+         * fecho apenas do curso e dos cursos que dependem dele.
+         */
+        private Versao comCurso(String codigo, boolean existe, Set<String> prerequisitos) {
+            Map<String, Integer> novosIndices = new HashMap<>(indices);
+            List<String> novosCodigos = new ArrayList<>(codigos);
+            int no = indice(novosIndices, novosCodigos, codigo);
+            BitSet novosDiretos = new BitSet();
+            for (String prerequisito : prerequisitos) {
+                novosDiretos.set(indice(novosIndices, novosCodigos, prerequisito));
+            }
+
+            int tamanho = novosCodigos.size();
+            BitSet[] diretos = Arrays.copyOf(this.diretos, tamanho);
+            BitSet[] fecho = Arrays.copyOf(this.fecho, tamanho);
+            for (int novo = codigos.size(); novo < tamanho; novo++) {
+                diretos[novo] = new BitSet();
+                fecho[novo] = new BitSet();
+            }
+            diretos[no] = existe ? novosDiretos : new BitSet();
+
+            BitSet existentes = (BitSet) this.existentes.clone();
+            existentes.set(no, existe);
+
+            BitSet recalcular = new BitSet();
+            recalcular.set(no);
+            for (int dependente = 0; dependente < codigos.size(); dependente++) {
+                if (fecho[dependente].get(no)) {
+                    recalcular.set(dependente);
+                }
+            }
+            return new Versao(novosIndices, novosCodigos, existentes, diretos, fecho, recalcular);
+        }
+
+        /**
+         * Calcula o fecho dos cursos informados em ordem topológica (algoritmo de Kahn),
+         * partindo do fecho já calculado dos demais. Cursos que não entram na ordem fazem parte
+         * de um ciclo (ou dependem de um) e têm o fecho calculado por iteração até o ponto fixo;
+         * os que pertencem ao ciclo passam a ter a si mesmos como pré-requisito.
+         *
+         * @return true se algum ciclo for encontrado
+         */
+        private boolean calcularFecho(BitSet recalcular) {
+            int[] grauEntrada = new int[diretos.length];
+            Map<Integer, List<Integer>> dependentes = new HashMap<>();
+            for (int no = recalcular.nextSetBit(0); no >= 0; no = recalcular.nextSetBit(no + 1)) {
+                BitSet pendentes = (BitSet) diretos[no].clone();
+                pendentes.and(recalcular);
+                grauEntrada[no] = pendentes.cardinality();
+                for (int p = pendentes.nextSetBit(0); p >= 0; p = pendentes.nextSetBit(p + 1)) {
+                    dependentes.computeIfAbsent(p, k -> new ArrayList<>()).add(no);
+                }
+            }
+
+            int[] fila = new int[recalcular.cardinality()];
+            int inicio = 0;
+            int fim = 0;
+            for (int no = recalcular.nextSetBit(0); no >= 0; no = recalcular.nextSetBit(no + 1)) {
+                if (grauEntrada[no] == 0) {
+                    fila[fim++] = no;
+                }
+            }
+            BitSet restantes = (BitSet) recalcular.clone();
+            while (inicio < fim) {
+                int no = fila[inicio++];
+                fecho[no] = uniaoDosPrerequisitos(no);
+                restantes.clear(no);
+                for (int dependente : dependentes.getOrDefault(no, List.of())) {
+                    if (--grauEntrada[dependente] == 0) {
+                        fila[fim++] = dependente;
+                    }
+                }
+            }
+            if (restantes.isEmpty()) {
+                return false;
+            }
+
+            for (int no = restantes.nextSetBit(0); no >= 0; no = restantes.nextSetBit(no + 1)) {
+                fecho[no] = new BitSet();
+            }
+            boolean alterado = true;
+            while (alterado) {
+                alterado = false;
+                for (int no = restantes.nextSetBit(0); no >= 0; no = restantes.nextSetBit(no + 1)) {
+                    BitSet novo = uniaoDosPrerequisitos(no);
+                    if (!novo.equals(fecho[no])) {
+                        fecho[no] = novo;
+                        alterado = true;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private BitSet uniaoDosPrerequisitos(int no) {
+            BitSet uniao = (BitSet) diretos[no].clone();
+            for (int p = diretos[no].nextSetBit(0); p >= 0; p = diretos[no].nextSetBit(p + 1)) {
+                uniao.or(fecho[p]);
+            }
+            return uniao;
+        }
+
+        /**
+         * Converte os códigos aprovados pelo aluno em bitset; códigos desconhecidos são ignorados.
+         */
+        private BitSet aprovados(Collection<String> codigosAprovados) {
+            BitSet aprovados = new BitSet(codigos.size());
+            for (String codigo : codigosAprovados) {
+                Integer no = indices.get(codigo);
+                if (no != null) {
+                    aprovados.set(no);
+                }
+            }
+            return aprovados;
+        }
+
+        /**
+         * Pré-requisitos cadastrados do curso ainda não aprovados: fecho ∧ existentes ∧ ¬aprovados.
+         */
+        private BitSet faltantes(int no, BitSet aprovados) {
+            BitSet faltantes = (BitSet) fecho[no].clone();
+            faltantes.and(existentes);
+            faltantes.andNot(aprovados);
+            return faltantes;
+        }
+
+        private Set<String> codigosEmCiclo() {
+            Set<String> emCiclo = new TreeSet<>();
+            for (int no = 0; no < fecho.length; no++) {
+                if (fecho[no].get(no)) {
+                    emCiclo.add(codigos.get(no));
+                }
+            }
+            return emCiclo;
+        }
+
+        private static int indice(Map<String, Integer> indices, List<String> codigos, String codigo) {
+            return indices.computeIfAbsent(codigo, c -> {
+                codigos.add(c);
+                return codigos.size() - 1;
+            });
+        }
+    }
+}
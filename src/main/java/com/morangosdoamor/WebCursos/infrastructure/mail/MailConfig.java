@@ -0,0 +1,57 @@
+package com.morangosdoamor.WebCursos.infrastructure.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do envio de emails com sessões SMTP reutilizáveis.
+ *
+ * Substitui o JavaMailSender criado pelo Spring Boot por um PooledJavaMailSender,
+ * mantendo as mesmas propriedades spring.mail.* (host, porta, credenciais e
+ * propriedades do JavaMail). O tamanho e a renovação do pool ficam em webcursos.mail.pool.*.
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    @Value("${webcursos.mail.pool.max-conexoes:4}")
+    private int maxConexoes;
+
+    @Value("${webcursos.mail.pool.espera-max-ms:10000}")
+    private long esperaMaxMs;
+
+    @Value("${webcursos.mail.pool.max-mensagens-por-conexao:100}")
+    private int maxMensagensPorConexao;
+
+    @Value("${webcursos.mail.pool.ocioso-max-ms:30000}")
+    private long ociosoMaxMs;
+
+    /**
+     * Cria o JavaMailSender com pool de sessões SMTP.
+     *
+     * @param properties Propriedades spring.mail.*
+     * @return JavaMailSender que reutiliza conexões autenticadas
+     */
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties properties) {
+        PooledJavaMailSender sender =
+            new PooledJavaMailSender(maxConexoes, esperaMaxMs, maxMensagensPorConexao, ociosoMaxMs);
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        if (!properties.getProperties().isEmpty()) {
+            sender.getJavaMailProperties().putAll(properties.getProperties());
+        }
+        return sender;
+    }
+}
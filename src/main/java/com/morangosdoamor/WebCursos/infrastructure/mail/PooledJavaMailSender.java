@@ -0,0 +1,217 @@
+package com.morangosdoamor.WebCursos.infrastructure.mail;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JavaMailSender que mantém um pool de sessões SMTP autenticadas em vez de abrir
+ * uma conexão (TCP + EHLO + STARTTLS + AUTH) a cada envio.
+ *
+ * Funcionamento:
+ * - Cada chamada de send empresta uma sessão do pool e envia todas as mensagens
+ *   recebidas por ela, uma após a outra, na mesma conexão
+ * - Ao final a sessão volta ao pool e é reutilizada pela próxima chamada
+ * - No máximo maxConexoes sessões existem ao mesmo tempo; chamadores excedentes
+ *   aguardam até esperaMaxMs por uma sessão livre
+ * - Sessões ociosas há mais de ociosoMaxMs, desconectadas pelo servidor ou que já
+ *   enviaram maxMensagensPorConexao mensagens são fechadas e substituídas
+ *
+ * Falhas por mensagem seguem o contrato do JavaMailSenderImpl: as mensagens restantes
+ * continuam sendo enviadas e ao final é lançada MailSendException com as que falharam.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final BlockingDeque<SessaoSmtp> ociosas = new LinkedBlockingDeque<>();
+    private final Semaphore vagas;
+    private final long esperaMaxMs;
+    private final int maxMensagensPorConexao;
+    private final long ociosoMaxMs;
+
+    public PooledJavaMailSender(int maxConexoes, long esperaMaxMs, int maxMensagensPorConexao, long ociosoMaxMs) {
+        this.vagas = new Semaphore(maxConexoes, true);
+        this.esperaMaxMs = esperaMaxMs;
+        this.maxMensagensPorConexao = maxMensagensPorConexao;
+        this.ociosoMaxMs = ociosoMaxMs;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        SessaoSmtp sessao = null;
+
+        adquirirVaga();
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+                if (sessao == null || sessao.esgotada(maxMensagensPorConexao)) {
+                    fechar(sessao);
+                    sessao = null;
+                    try {
+                        sessao = obterSessao();
+                    } catch (AuthenticationFailedException ex) {
+                        throw new MailAuthenticationException(ex);
+                    } catch (MessagingException ex) {
+                        registrarFalhas(failedMessages, mimeMessages, originalMessages, i, ex);
+                        throw new MailSendException("Falha ao conectar ao servidor SMTP", ex, failedMessages);
+                    }
+                }
+                try {
+                    enviar(sessao, mimeMessages[i]);
+                } catch (MessagingException ex) {
+                    failedMessages.put(original, ex);
+                    if (!sessao.transport().isConnected()) {
+                        fechar(sessao);
+                        sessao = null;
+                    }
+                }
+            }
+        } finally {
+            if (sessao != null) {
+                devolver(sessao);
+            }
+            vagas.release();
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Fecha todas as sessões ociosas no desligamento do contexto.
+     */
+    @Override
+    public void destroy() {
+        SessaoSmtp sessao;
+        while ((sessao = ociosas.pollFirst()) != null) {
+            fechar(sessao);
+        }
+    }
+
+    /**
+     * @return Quantidade de sessões conectadas aguardando reutilização
+     */
+    public int getSessoesOciosas() {
+        return ociosas.size();
+    }
+
+    private static void registrarFalhas(Map<Object, Exception> failedMessages, MimeMessage[] mimeMessages,
+                                        @Nullable Object[] originalMessages, int inicio, Exception ex) {
+        for (int j = inicio; j < mimeMessages.length; j++) {
+            failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], ex);
+        }
+    }
+
+    private void adquirirVaga() {
+        try {
+            if (vagas.tryAcquire(esperaMaxMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new MailSendException("Nenhuma sessão SMTP livre após " + esperaMaxMs + " ms");
+    }
+
+    /**
+     * Reutiliza a sessão ociosa mais recente que ainda esteja válida ou conecta uma nova.
+     * Sessões inválidas encontradas no caminho são descartadas.
+     */
+    private SessaoSmtp obterSessao() throws MessagingException {
+        SessaoSmtp sessao;
+        while ((sessao = ociosas.pollFirst()) != null) {
+            if (System.currentTimeMillis() - sessao.ultimoUso() <= ociosoMaxMs && sessao.transport().isConnected()) {
+                return sessao;
+            }
+            fechar(sessao);
+        }
+        log.debug("Abrindo nova sessão SMTP com {}:{}", getHost(), getPort());
+        return new SessaoSmtp(connectTransport());
+    }
+
+    private void enviar(SessaoSmtp sessao, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+        Address[] destinatarios = mimeMessage.getAllRecipients();
+        sessao.transport().sendMessage(mimeMessage, destinatarios != null ? destinatarios : new Address[0]);
+        sessao.registrarEnvio();
+    }
+
+    private void devolver(SessaoSmtp sessao) {
+        if (sessao.esgotada(maxMensagensPorConexao) || !sessao.transport().isConnected()) {
+            fechar(sessao);
+            return;
+        }
+        ociosas.offerFirst(sessao);
+    }
+
+    private void fechar(@Nullable SessaoSmtp sessao) {
+        if (sessao == null) {
+            return;
+        }
+        try {
+            sessao.transport().close();
+        } catch (MessagingException ex) {
+            log.debug("Falha ao fechar sessão SMTP: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Conexão SMTP aberta e a contagem de mensagens enviadas por ela.
+     */
+    private static final class SessaoSmtp {
+
+        private final Transport transport;
+        private int enviadas;
+        private long ultimoUso = System.currentTimeMillis();
+
+        SessaoSmtp(Transport transport) {
+            this.transport = transport;
+        }
+
+        Transport transport() {
+            return transport;
+        }
+
+        long ultimoUso() {
+            return ultimoUso;
+        }
+
+        void registrarEnvio() {
+            enviadas++;
+            ultimoUso = System.currentTimeMillis();
+        }
+
+        boolean esgotada(int maxMensagens) {
+            return enviadas >= maxMensagens;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.config;
+
+/**
+ * Parâmetros de consumo de uma fila de trabalho: faixa de consumidores, prefetch e
+ * escala pela profundidade da fila.
+ *
+ * Valores fora da faixa são ajustados: ao menos um consumidor, máximo nunca menor que
+ * o mínimo, prefetch e mensagens por consumidor positivos.
+ *
+ * @param listenerId Id do @RabbitListener que consome a fila
+ * @param fila Nome da fila
+ * @param minConsumidores Consumidores mantidos com a fila vazia
+ * @param maxConsumidores Limite de consumidores
+ * @param prefetch Mensagens não confirmadas por consumidor
+ * @param mensagensPorConsumidor Mensagens em espera que justificam um consumidor adicional
+ */
+public record ConsumoFila(
+    String listenerId,
+    String fila,
+    int minConsumidores,
+    int maxConsumidores,
+    int prefetch,
+    int mensagensPorConsumidor
+) {
+
+    public ConsumoFila {
+        minConsumidores = Math.max(minConsumidores, 1);
+        maxConsumidores = Math.max(maxConsumidores, minConsumidores);
+        prefetch = Math.max(prefetch, 1);
+        mensagensPorConsumidor = Math.max(mensagensPorConsumidor, 1);
+    }
+
+    /**
+     * Número de consumidores para a profundidade informada: um a cada mensagensPorConsumidor
+     * mensagens em espera, limitado à faixa [minConsumidores, maxConsumidores].
+     *
+     * @param profundidade Mensagens prontas na fila
+     * @return Número de consumidores
+     */
+    public int consumidoresPara(long profundidade) {
+        long necessarios = (profundidade + mensagensPorConsumidor - 1) / mensagensPorConsumidor;
+        return (int) Math.min(Math.max(necessarios, minConsumidores), maxConsumidores);
+    }
+}
@@ -1,21 +1,35 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.listener.AiRecommendationListener;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.listener.EmailNotificationListener;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa.EncaminhadorRetentativas;
 
 /**
  * Configuração do RabbitMQ para o sistema de mensageria.
@@ -23,7 +37,10 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  * Define a topologia de filas:
  * - Exchange tipo topic para roteamento flexível
  * - Filas para AI Recommendation e Email Notification
- * - Dead Letter Queue (DLQ) para mensagens com falha
+ * - Filas de retentativa com atraso crescente para AI Recommendation e Email Notification
+ * - Dead Letter Queue (DLQ) para mensagens com falha após todas as retentativas
+ * - Fila anônima por nó para invalidação do cache do catálogo de cursos
+ * - Container factories por fila de trabalho (consumidores e prefetch próprios), individuais e em lote
  * - Bindings com routing keys apropriadas
  * 
  * @see <a href="https://www.rabbitmq.com/tutorials/tutorial-five-java.html">RabbitMQ Topics</a>
@@ -49,6 +66,54 @@ public class RabbitMQConfig {
     @Value("${webcursos.rabbitmq.routing-key.email:curso.concluido.email}")
     private String emailRoutingKey;
 
+    @Value("${webcursos.rabbitmq.routing-key.catalogo:curso.catalogo.invalidado}")
+    private String catalogoRoutingKey;
+
+    @Value("${webcursos.rabbitmq.ai-recommendation.batch.size:50}")
+    private int aiRecommendationBatchSize;
+
+    @Value("${webcursos.rabbitmq.ai-recommendation.batch.receive-timeout-ms:1000}")
+    private long aiRecommendationBatchReceiveTimeoutMs;
+
+    @Value("${webcursos.rabbitmq.email-notification.batch.size:50}")
+    private int emailNotificationBatchSize;
+
+    @Value("${webcursos.rabbitmq.email-notification.batch.receive-timeout-ms:1000}")
+    private long emailNotificationBatchReceiveTimeoutMs;
+
+    @Value("${webcursos.rabbitmq.ai-recommendation.consumidores.min:1}")
+    private int aiRecommendationMinConsumidores;
+
+    @Value("${webcursos.rabbitmq.ai-recommendation.consumidores.max:4}")
+    private int aiRecommendationMaxConsumidores;
+
+    @Value("${webcursos.ai.chat.max-concorrentes:4}")
+    private int aiMaxConcorrentes;
+
+    @Value("${webcursos.rabbitmq.ai-recommendation.prefetch:1}")
+    private int aiRecommendationPrefetch;
+
+    @Value("${webcursos.rabbitmq.ai-recommendation.escala.mensagens-por-consumidor:5}")
+    private int aiRecommendationMensagensPorConsumidor;
+
+    @Value("${webcursos.rabbitmq.email-notification.consumidores.min:1}")
+    private int emailNotificationMinConsumidores;
+
+    @Value("${webcursos.rabbitmq.email-notification.consumidores.max:4}")
+    private int emailNotificationMaxConsumidores;
+
+    @Value("${webcursos.rabbitmq.email-notification.prefetch:10}")
+    private int emailNotificationPrefetch;
+
+    @Value("${webcursos.rabbitmq.email-notification.escala.mensagens-por-consumidor:50}")
+    private int emailNotificationMensagensPorConsumidor;
+
+    @Value("${webcursos.rabbitmq.retry.atrasos-ms:1000,10000,60000}")
+    private List<Long> retryAtrasosMs;
+
+    @Value("${spring.rabbitmq.template.observation-enabled:false}")
+    private boolean templateObservationEnabled;
+
     // ==================== Exchange ====================
 
     /**
@@ -103,6 +168,42 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    /**
+     * Cria as filas de retentativa das filas de AI Recommendation e Email Notification,
+     * uma por atraso configurado em webcursos.rabbitmq.retry.atrasos-ms.
+     * As filas não têm consumidores: a mensagem expira após o atraso (x-message-ttl) e o
+     * broker a devolve à fila de trabalho pelo exchange padrão (dead-letter).
+     * 
+     * @return Filas de retentativa
+     * @see EncaminhadorRetentativas
+     */
+    @Bean
+    public Declarables filasRetentativa() {
+        List<Declarable> filas = new ArrayList<>();
+        for (String fila : List.of(aiRecommendationQueueName, emailNotificationQueueName)) {
+            for (Long atrasoMs : retryAtrasosMs) {
+                filas.add(QueueBuilder.durable(EncaminhadorRetentativas.filaRetentativa(fila, atrasoMs))
+                        .withArgument("x-message-ttl", atrasoMs)
+                        .withArgument("x-dead-letter-exchange", "")
+                        .withArgument("x-dead-letter-routing-key", fila)
+                        .build());
+            }
+        }
+        return new Declarables(filas);
+    }
+
+    /**
+     * Cria a fila de invalidação do catálogo de cursos deste nó.
+     * Fila anônima (nome gerado, exclusiva e auto-delete): cada instância da aplicação
+     * recebe sua própria cópia das invalidações publicadas no exchange.
+     * 
+     * @return Queue anônima para invalidação do catálogo
+     */
+    @Bean
+    public Queue cursoCatalogoInvalidacaoQueue() {
+        return new AnonymousQueue();
+    }
+
     // ==================== Bindings ====================
 
     /**
@@ -136,6 +237,195 @@ public class RabbitMQConfig {
                 .with(emailRoutingKey);
     }
 
+    /**
+     * Vincula a fila de invalidação do catálogo deste nó ao exchange.
+     * Usa routing key "curso.catalogo.invalidado", que não colide com os padrões de conclusão de curso.
+     * 
+     * @param cursoCatalogoInvalidacaoQueue Fila anônima de invalidação do catálogo
+     * @param webcursosExchange Exchange principal
+     * @return Binding entre fila e exchange
+     */
+    @Bean
+    public Binding cursoCatalogoInvalidacaoBinding(Queue cursoCatalogoInvalidacaoQueue, TopicExchange webcursosExchange) {
+        return BindingBuilder.bind(cursoCatalogoInvalidacaoQueue)
+                .to(webcursosExchange)
+                .with(catalogoRoutingKey);
+    }
+
+    // ==================== Listener Container Factories ====================
+
+    /**
+     * Parâmetros de consumo da fila de AI Recommendation (webcursos.rabbitmq.ai-recommendation.*).
+     * Cada mensagem espera segundos pelo Gemini: prefetch baixo distribui as mensagens entre
+     * os consumidores em vez de acumulá-las atrás de uma chamada lenta.
+     * 
+     * Cada consumidor faz uma chamada ao Gemini por vez, e as chamadas simultâneas são limitadas
+     * por webcursos.ai.chat.max-concorrentes: consumidores além desse limite apenas esperariam
+     * vaga no bulkhead (ou falhariam após espera-max-ms) segurando mensagens. Por isso o máximo
+     * de consumidores, que também limita o escalonamento pela profundidade da fila, não pode
+     * excedê-lo.
+     * 
+     * @return Parâmetros de consumo da fila de AI Recommendation
+     * @throws IllegalStateException se o máximo de consumidores exceder max-concorrentes
+     */
+    @Bean
+    public ConsumoFila consumoAiRecommendation() {
+        ConsumoFila consumo = new ConsumoFila(AiRecommendationListener.CONSUMIDOR, aiRecommendationQueueName,
+                aiRecommendationMinConsumidores, aiRecommendationMaxConsumidores,
+                aiRecommendationPrefetch, aiRecommendationMensagensPorConsumidor);
+        if (consumo.maxConsumidores() > aiMaxConcorrentes) {
+            throw new IllegalStateException(("webcursos.rabbitmq.ai-recommendation.consumidores (máximo %d) excede "
+                    + "webcursos.ai.chat.max-concorrentes (%d)").formatted(consumo.maxConsumidores(), aiMaxConcorrentes));
+        }
+        return consumo;
+    }
+
+    /**
+     * Parâmetros de consumo da fila de Email Notification (webcursos.rabbitmq.email-notification.*).
+     * O envio SMTP é mais rápido que a IA e limitado pelo pool de sessões: poucos consumidores
+     * com prefetch maior.
+     * 
+     * @return Parâmetros de consumo da fila de Email Notification
+     */
+    @Bean
+    public ConsumoFila consumoEmailNotification() {
+        return new ConsumoFila(EmailNotificationListener.CONSUMIDOR, emailNotificationQueueName,
+                emailNotificationMinConsumidores, emailNotificationMaxConsumidores,
+                emailNotificationPrefetch, emailNotificationMensagensPorConsumidor);
+    }
+
+    /**
+     * Cria a container factory do AiRecommendationListener, com os consumidores e o prefetch
+     * da fila de AI Recommendation.
+     * 
+     * @param configurer Configurador padrão do Spring Boot para containers simples
+     * @param connectionFactory Factory de conexões do RabbitMQ
+     * @param encaminhadorRetentativas Recoverer das mensagens com falha
+     * @param consumoAiRecommendation Parâmetros de consumo da fila
+     * @return Container factory da fila de AI Recommendation
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory aiRecommendationContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            EncaminhadorRetentativas encaminhadorRetentativas, ConsumoFila consumoAiRecommendation) {
+        return containerFactory(configurer, connectionFactory, encaminhadorRetentativas, consumoAiRecommendation);
+    }
+
+    /**
+     * Cria a container factory do EmailNotificationListener, com os consumidores e o prefetch
+     * da fila de Email Notification.
+     * 
+     * @param configurer Configurador padrão do Spring Boot para containers simples
+     * @param connectionFactory Factory de conexões do RabbitMQ
+     * @param encaminhadorRetentativas Recoverer das mensagens com falha
+     * @param consumoEmailNotification Parâmetros de consumo da fila
+     * @return Container factory da fila de Email Notification
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory emailNotificationContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            EncaminhadorRetentativas encaminhadorRetentativas, ConsumoFila consumoEmailNotification) {
+        return containerFactory(configurer, connectionFactory, encaminhadorRetentativas, consumoEmailNotification);
+    }
+
+    /**
+     * Cria a container factory de consumo em lote usada pelo AiRecommendationBatchListener.
+     * Parte da factory da fila de AI Recommendation e agrupa até batch.size mensagens,
+     * entregando um lote incompleto após receive-timeout-ms sem novas mensagens. O lote é
+     * confirmado (ack) em conjunto ao final do processamento; o prefetch é ao menos o tamanho do lote.
+     * Só é criada quando webcursos.rabbitmq.ai-recommendation.batch.enabled=true.
+     * 
+     * @param configurer Configurador padrão do Spring Boot para containers simples
+     * @param connectionFactory Factory de conexões do RabbitMQ
+     * @param encaminhadorRetentativas Recoverer das mensagens com falha
+     * @param consumoAiRecommendation Parâmetros de consumo da fila
+     * @return Container factory configurada para consumo em lote
+     */
+    @Bean
+    @ConditionalOnProperty(name = "webcursos.rabbitmq.ai-recommendation.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory aiRecommendationBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            EncaminhadorRetentativas encaminhadorRetentativas, ConsumoFila consumoAiRecommendation) {
+        SimpleRabbitListenerContainerFactory factory =
+                containerFactory(configurer, connectionFactory, encaminhadorRetentativas, consumoAiRecommendation);
+        emLote(factory, aiRecommendationBatchSize, aiRecommendationBatchReceiveTimeoutMs, consumoAiRecommendation);
+        return factory;
+    }
+
+    /**
+     * Cria a container factory de consumo em lote usada pelo EmailNotificationBatchListener.
+     * Agrupa até email-notification.batch.size mensagens para envio na mesma sessão SMTP,
+     * entregando um lote incompleto após receive-timeout-ms sem novas mensagens.
+     * Só é criada quando webcursos.rabbitmq.email-notification.batch.enabled=true.
+     * 
+     * @param configurer Configurador padrão do Spring Boot para containers simples
+     * @param connectionFactory Factory de conexões do RabbitMQ
+     * @param encaminhadorRetentativas Recoverer das mensagens com falha
+     * @param consumoEmailNotification Parâmetros de consumo da fila
+     * @return Container factory configurada para consumo em lote de emails
+     */
+    @Bean
+    @ConditionalOnProperty(name = "webcursos.rabbitmq.email-notification.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory emailNotificationBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            EncaminhadorRetentativas encaminhadorRetentativas, ConsumoFila consumoEmailNotification) {
+        SimpleRabbitListenerContainerFactory factory =
+                containerFactory(configurer, connectionFactory, encaminhadorRetentativas, consumoEmailNotification);
+        emLote(factory, emailNotificationBatchSize, emailNotificationBatchReceiveTimeoutMs, consumoEmailNotification);
+        return factory;
+    }
+
+    /**
+     * Container factory de uma fila de trabalho cujos listeners passam a maior parte do tempo
+     * bloqueados em I/O externo (Gemini ou SMTP). Parte da configuração padrão do Spring Boot e
+     * aplica os consumidores (mínimo, crescendo sob demanda até o máximo) e o prefetch da fila.
+     * O número base de consumidores é reajustado pela profundidade da fila (EscalonadorConsumidores).
+     * Com spring.threads.virtual.enabled=true em Java 21, o configurer do Spring Boot executa
+     * cada consumidor em uma virtual thread, o que permite valores altos de concorrência.
+     * Mensagens com falha seguem para as filas de retentativa (ver retentativas).
+     */
+    private SimpleRabbitListenerContainerFactory containerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            EncaminhadorRetentativas encaminhadorRetentativas, ConsumoFila consumo) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(consumo.minConsumidores());
+        factory.setMaxConcurrentConsumers(consumo.maxConsumidores());
+        factory.setPrefetchCount(consumo.prefetch());
+        retentativas(factory, encaminhadorRetentativas);
+        return factory;
+    }
+
+    private void emLote(SimpleRabbitListenerContainerFactory factory, int batchSize, long receiveTimeoutMs,
+                        ConsumoFila consumo) {
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(Math.max(batchSize, consumo.prefetch()));
+    }
+
+    /**
+     * Substitui o requeue imediato das mensagens com falha pelas filas de retentativa.
+     * A primeira falha aciona o EncaminhadorRetentativas (sem retentativa em memória, que
+     * prenderia o consumidor), que republica a mensagem na fila de retentativa seguinte ou
+     * na DLQ; a mensagem original é então confirmada. Se o próprio encaminhamento falhar,
+     * a mensagem é rejeitada sem requeue e vai para a DLQ pelo dead-letter da fila de trabalho,
+     * em vez de voltar imediatamente para a fila em um loop de falhas.
+     * 
+     * @param factory Container factory a configurar
+     * @param encaminhadorRetentativas Recoverer das mensagens com falha
+     */
+    private void retentativas(SimpleRabbitListenerContainerFactory factory,
+                              EncaminhadorRetentativas encaminhadorRetentativas) {
+        Advice retry = RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(encaminhadorRetentativas)
+                .build();
+        factory.setAdviceChain(retry);
+        factory.setDefaultRequeueRejected(false);
+    }
+
     // ==================== Message Converter ====================
 
     /**
@@ -166,6 +456,8 @@ public class RabbitMQConfig {
     /**
      * Configura o RabbitTemplate com o conversor JSON.
      * RabbitTemplate é o componente principal para envio de mensagens.
+     * Com spring.rabbitmq.template.observation-enabled=true, cada envio gera um span e injeta
+     * o contexto de rastreamento corrente nos headers da mensagem (traceparent).
      * 
      * @param connectionFactory Factory de conexões do RabbitMQ
      * @param jacksonMessageConverter Conversor JSON
@@ -176,6 +468,7 @@ public class RabbitMQConfig {
                                          MessageConverter jacksonMessageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(jacksonMessageConverter);
+        rabbitTemplate.setObservationEnabled(templateObservationEnabled);
         return rabbitTemplate;
     }
 }
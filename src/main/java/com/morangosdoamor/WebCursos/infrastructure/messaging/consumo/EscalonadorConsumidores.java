@@ -0,0 +1,124 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.consumo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.infrastructure.messaging.config.ConsumoFila;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ajuste do número de consumidores das filas de trabalho pela profundidade da fila.
+ *
+ * O container do Spring AMQP só cria consumidores adicionais depois de vários recebimentos
+ * consecutivos em cada consumidor, o que demora a reagir a um acúmulo na fila de IA, em que
+ * cada mensagem leva segundos. Periodicamente (webcursos.rabbitmq.escala.intervalo-ms), este
+ * componente lê a profundidade de cada fila e define o número base de consumidores do
+ * container (ConsumoFila.consumidoresPara): um a cada mensagens-por-consumidor mensagens em
+ * espera, entre o mínimo e o máximo configurados. Acima da base, o container continua
+ * criando e encerrando consumidores sob demanda até o máximo.
+ *
+ * Métricas por fila (tag fila):
+ * - webcursos.listener.consumidores.ativos: consumidores ativos no container
+ * - webcursos.listener.fila.profundidade: última profundidade lida
+ *
+ * Desabilitado com webcursos.rabbitmq.escala.enabled=false (as métricas continuam publicadas).
+ */
+@Component
+@Slf4j
+public class EscalonadorConsumidores {
+
+    private final RabbitListenerEndpointRegistry registry;
+    private final AmqpAdmin amqpAdmin;
+    private final List<ConsumoFila> consumos;
+    private final boolean habilitado;
+    private final Map<String, AtomicLong> profundidades = new ConcurrentHashMap<>();
+    private final Map<String, Integer> consumidoresBase = new ConcurrentHashMap<>();
+
+    public EscalonadorConsumidores(RabbitListenerEndpointRegistry registry,
+                                   AmqpAdmin amqpAdmin,
+                                   MeterRegistry meterRegistry,
+                                   List<ConsumoFila> consumos,
+                                   @Value("${webcursos.rabbitmq.escala.enabled:true}") boolean habilitado) {
+        this.registry = registry;
+        this.amqpAdmin = amqpAdmin;
+        this.consumos = consumos;
+        this.habilitado = habilitado;
+
+        for (ConsumoFila consumo : consumos) {
+            AtomicLong profundidade = new AtomicLong();
+            profundidades.put(consumo.fila(), profundidade);
+            consumidoresBase.put(consumo.listenerId(), consumo.minConsumidores());
+            Gauge.builder("webcursos.listener.consumidores.ativos", this, escalonador -> escalonador.consumidoresAtivos(consumo))
+                .description("Consumidores ativos no container do listener")
+                .tag("fila", consumo.fila())
+                .register(meterRegistry);
+            Gauge.builder("webcursos.listener.fila.profundidade", profundidade, AtomicLong::get)
+                .description("Mensagens prontas na fila na última leitura do escalonador")
+                .tag("fila", consumo.fila())
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Reajusta o número base de consumidores de cada fila conforme a profundidade atual.
+     * Filas sem listener registrado ou cuja leitura falha são ignoradas. Em containers parados,
+     * o valor vale a partir do próximo início.
+     */
+    @Scheduled(fixedDelayString = "${webcursos.rabbitmq.escala.intervalo-ms:5000}",
+               initialDelayString = "${webcursos.rabbitmq.escala.intervalo-ms:5000}")
+    public void ajustar() {
+        if (!habilitado) {
+            return;
+        }
+        for (ConsumoFila consumo : consumos) {
+            SimpleMessageListenerContainer container = container(consumo);
+            if (container == null) {
+                continue;
+            }
+            QueueInformation informacao;
+            try {
+                informacao = amqpAdmin.getQueueInfo(consumo.fila());
+            } catch (AmqpException e) {
+                log.debug("Não foi possível ler a profundidade da fila {}", consumo.fila(), e);
+                continue;
+            }
+            if (informacao == null) {
+                continue;
+            }
+            profundidades.get(consumo.fila()).set(informacao.getMessageCount());
+
+            int alvo = consumo.consumidoresPara(informacao.getMessageCount());
+            Integer anterior = consumidoresBase.put(consumo.listenerId(), alvo);
+            if (anterior == null || anterior != alvo) {
+                container.setConcurrentConsumers(alvo);
+                log.info("Fila {} com {} mensagens: consumidores base {} -> {}",
+                    consumo.fila(), informacao.getMessageCount(), anterior, alvo);
+            }
+        }
+    }
+
+    private int consumidoresAtivos(ConsumoFila consumo) {
+        SimpleMessageListenerContainer container = container(consumo);
+        return container != null ? container.getActiveConsumerCount() : 0;
+    }
+
+    private SimpleMessageListenerContainer container(ConsumoFila consumo) {
+        MessageListenerContainer container = registry.getListenerContainer(consumo.listenerId());
+        return container instanceof SimpleMessageListenerContainer simples ? simples : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.event;
+
+/**
+ * Evento que sinaliza a alteração de um curso do catálogo.
+ *
+ * Publicado localmente pelo CursoService ao criar, atualizar ou excluir um curso
+ * e retransmitido no RabbitMQ após o commit, para que todos os nós descartem
+ * a entrada correspondente do cache do catálogo.
+ *
+ * @param codigo Código do curso alterado (ex: JAVA001), ou null quando todo o catálogo foi alterado
+ */
+public record CursoCatalogoInvalidadoEvent(String codigo) {
+
+    /**
+     * Evento que invalida todo o catálogo, usado após alterações em massa (ex: importação de cursos).
+     */
+    public static CursoCatalogoInvalidadoEvent catalogoCompleto() {
+        return new CursoCatalogoInvalidadoEvent(null);
+    }
+
+    public boolean todos() {
+        return codigo == null;
+    }
+}
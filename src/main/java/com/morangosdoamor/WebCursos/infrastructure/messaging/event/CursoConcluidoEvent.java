@@ -10,6 +10,11 @@ import java.util.UUID;
  * permitindo que outros serviços (AI Recommendation, Email Notification)
  * processem a informação de forma assíncrona.
  * 
+ * O eventId é gerado uma única vez na criação do evento e viaja no payload gravado na
+ * outbox, de modo que republicações e redeliveries da mesma conclusão carregam o mesmo
+ * identificador (usado pelos consumidores para descartar duplicatas).
+ * 
+ * @param eventId Identificador único e estável do evento
  * @param alunoId ID único do aluno que concluiu o curso
  * @param alunoNome Nome completo do aluno
  * @param alunoEmail Email do aluno para notificações
@@ -21,6 +26,7 @@ import java.util.UUID;
  * @param dataConclusao Data e hora da conclusão do curso
  */
 public record CursoConcluidoEvent(
+    UUID eventId,
     UUID alunoId,
     String alunoNome,
     String alunoEmail,
@@ -33,7 +39,8 @@ public record CursoConcluidoEvent(
 ) {
     
     /**
-     * Factory method para criar um evento a partir dos dados de conclusão.
+     * Factory method para criar um evento a partir dos dados de conclusão,
+     * atribuindo um novo eventId.
      * 
      * @param alunoId ID do aluno
      * @param alunoNome Nome do aluno
@@ -57,7 +64,7 @@ public record CursoConcluidoEvent(
         
         boolean aprovado = notaFinal != null && notaFinal >= 7.0;
         return new CursoConcluidoEvent(
-            alunoId, alunoNome, alunoEmail,
+            UUID.randomUUID(), alunoId, alunoNome, alunoEmail,
             cursoId, cursoNome, cursoCodigo,
             notaFinal, aprovado, dataConclusao
         );
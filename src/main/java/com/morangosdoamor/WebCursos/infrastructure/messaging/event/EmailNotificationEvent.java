@@ -1,5 +1,6 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.event;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
@@ -12,6 +13,7 @@ import java.util.UUID;
  * - Retry independente para falhas de email
  * - Evita duplicação de emails
  * 
+ * @param eventId Identificador único e estável da notificação (usado para descartar duplicatas)
  * @param destinatario Email do destinatário
  * @param nomeDestinatario Nome do destinatário
  * @param assunto Assunto do email
@@ -20,6 +22,7 @@ import java.util.UUID;
  * @param cursoId ID do curso concluído (para rastreabilidade)
  */
 public record EmailNotificationEvent(
+    UUID eventId,
     String destinatario,
     String nomeDestinatario,
     String assunto,
@@ -29,8 +32,16 @@ public record EmailNotificationEvent(
 ) {
     /**
      * Construtor de conveniência para criar evento de notificação de conclusão de curso.
+     * 
+     * O eventId é derivado do eventId da conclusão de origem: se o mesmo CursoConcluidoEvent
+     * for reprocessado (ex: falha após publicar o email e antes do ack), a notificação
+     * republicada tem o mesmo eventId e é descartada pelo consumidor de email.
+     * Sem eventId de origem (mensagens antigas), um novo identificador é gerado.
+     * 
+     * @param eventoOrigemId eventId do CursoConcluidoEvent de origem (pode ser null)
      */
     public static EmailNotificationEvent forCourseCompletion(
+            UUID eventoOrigemId,
             String destinatario,
             String nomeDestinatario,
             String cursoNome,
@@ -38,7 +49,11 @@ public record EmailNotificationEvent(
             UUID alunoId,
             UUID cursoId
     ) {
+        UUID eventId = eventoOrigemId == null
+            ? UUID.randomUUID()
+            : UUID.nameUUIDFromBytes(("email:" + eventoOrigemId).getBytes(StandardCharsets.UTF_8));
         return new EmailNotificationEvent(
+            eventId,
             destinatario,
             nomeDestinatario,
             String.format("Parabéns pela conclusão do curso %s!", cursoNome),
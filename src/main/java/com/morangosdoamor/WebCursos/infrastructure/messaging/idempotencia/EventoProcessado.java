@@ -0,0 +1,58 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registro persistente de um evento já processado por um consumidor RabbitMQ.
+ * 
+ * A chave é composta pelo consumidor e pelo eventId, de modo que o mesmo evento pode
+ * ser processado uma vez por cada consumidor. As linhas são removidas após o período
+ * de retenção (RegistroEventosProcessados), que deve superar o maior atraso esperado
+ * de uma redelivery.
+ */
+@Entity
+@Table(name = "evento_processado",
+       indexes = @Index(name = "idx_evento_processado_processado_em", columnList = "processado_em"))
+@IdClass(EventoProcessado.Chave.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"consumidor", "eventId"})
+public class EventoProcessado {
+
+    @Id
+    @Column(name = "consumidor", length = 50)
+    private String consumidor;
+
+    @Id
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @Column(name = "processado_em", nullable = false)
+    private LocalDateTime processadoEm;
+
+    /**
+     * Chave composta (consumidor, eventId).
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private String consumidor;
+        private UUID eventId;
+    }
+}
@@ -0,0 +1,166 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.morangosdoamor.WebCursos.infrastructure.repository.EventoProcessadoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro de eventos já processados pelos consumidores RabbitMQ (deduplicação).
+ *
+ * Com entrega at-least-once, uma mensagem pode ser entregue novamente após falha,
+ * timeout de ack ou reinício do consumidor. Os listeners consultam este registro pelo
+ * eventId antes de processar e registram o evento após concluir, descartando redeliveries
+ * sem repetir chamadas ao modelo de IA ou envios de email.
+ *
+ * Armazenamento em dois níveis:
+ * - Cache local limitado (Caffeine) com os eventos processados recentemente, consultado em O(1)
+ * - Tabela evento_processado, consultada pela chave primária quando o evento não está no cache,
+ *   cobrindo redeliveries para outro nó ou após reinício
+ *
+ * Eventos sem eventId (mensagens publicadas antes da introdução do campo) nunca são
+ * considerados duplicados. Falhas ao gravar o registro não interrompem o processamento:
+ * o efeito colateral já ocorreu, e rejeitar a mensagem provocaria justamente a repetição.
+ */
+@Component
+@Slf4j
+public class RegistroEventosProcessados {
+
+    private final EventoProcessadoRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<EventoProcessado.Chave, Boolean> processados;
+    private final int retencaoDias;
+
+    public RegistroEventosProcessados(EventoProcessadoRepository repository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${webcursos.idempotencia.cache.max-size:100000}") long tamanhoMaximo,
+                                      @Value("${webcursos.idempotencia.retencao-dias:7}") int retencaoDias) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.processados = Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .build();
+        this.retencaoDias = retencaoDias;
+    }
+
+    /**
+     * Verifica se o evento já foi processado pelo consumidor.
+     *
+     * @param consumidor Nome do consumidor
+     * @param eventId Identificador do evento (null nunca é duplicado)
+     * @return true se o evento já foi processado
+     */
+    public boolean jaProcessado(String consumidor, UUID eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        EventoProcessado.Chave chave = new EventoProcessado.Chave(consumidor, eventId);
+        if (processados.getIfPresent(chave) != null) {
+            return true;
+        }
+        if (repository.existsById(chave)) {
+            processados.put(chave, Boolean.TRUE);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna, dentre os eventos informados, os já processados pelo consumidor,
+     * consultando o banco em uma única consulta (IN) apenas para os ausentes no cache.
+     *
+     * @param consumidor Nome do consumidor
+     * @param eventIds Identificadores dos eventos (nulls são ignorados)
+     * @return eventIds já processados
+     */
+    public Set<UUID> processados(String consumidor, Collection<UUID> eventIds) {
+        Set<EventoProcessado.Chave> chaves = eventIds.stream()
+            .filter(eventId -> eventId != null)
+            .map(eventId -> new EventoProcessado.Chave(consumidor, eventId))
+            .collect(Collectors.toSet());
+        if (chaves.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<EventoProcessado.Chave, Boolean> emCache = processados.getAllPresent(chaves);
+        Set<UUID> encontrados = new HashSet<>();
+        emCache.keySet().forEach(chave -> encontrados.add(chave.getEventId()));
+
+        Set<UUID> ausentes = chaves.stream()
+            .filter(chave -> !emCache.containsKey(chave))
+            .map(EventoProcessado.Chave::getEventId)
+            .collect(Collectors.toSet());
+        if (!ausentes.isEmpty()) {
+            for (UUID eventId : repository.findEventIdsProcessados(consumidor, ausentes)) {
+                processados.put(new EventoProcessado.Chave(consumidor, eventId), Boolean.TRUE);
+                encontrados.add(eventId);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Registra o evento como processado pelo consumidor.
+     *
+     * @param consumidor Nome do consumidor
+     * @param eventId Identificador do evento (null é ignorado)
+     */
+    public void registrar(String consumidor, UUID eventId) {
+        if (eventId == null) {
+            return;
+        }
+        registrar(consumidor, Set.of(eventId));
+    }
+
+    /**
+     * Registra vários eventos como processados pelo consumidor em uma única transação.
+     *
+     * @param consumidor Nome do consumidor
+     * @param eventIds Identificadores dos eventos (nulls são ignorados)
+     */
+    public void registrar(String consumidor, Collection<UUID> eventIds) {
+        Set<UUID> registraveis = eventIds.stream()
+            .filter(eventId -> eventId != null)
+            .collect(Collectors.toSet());
+        if (registraveis.isEmpty()) {
+            return;
+        }
+
+        registraveis.forEach(eventId -> processados.put(new EventoProcessado.Chave(consumidor, eventId), Boolean.TRUE));
+        LocalDateTime agora = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                registraveis.forEach(eventId -> repository.registrar(consumidor, eventId, agora)));
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível registrar {} evento(s) processado(s) por '{}'. "
+                    + "Redeliveries para outros nós não serão descartadas", registraveis.size(), consumidor, e);
+        }
+    }
+
+    /**
+     * Remove periodicamente os registros mais antigos que o período de retenção.
+     * O cache local não é afetado: suas entradas são descartadas pelo tamanho máximo.
+     */
+    @Scheduled(cron = "${webcursos.idempotencia.limpeza.cron:0 0 3 * * *}")
+    public void removerExpirados() {
+        LocalDateTime limite = LocalDateTime.now().minusDays(retencaoDias);
+        Integer removidos = transactionTemplate.execute(status -> repository.removerProcessadosAntesDe(limite));
+        log.info("Removidos {} registros de eventos processados anteriores a {}", removidos, limite);
+    }
+}
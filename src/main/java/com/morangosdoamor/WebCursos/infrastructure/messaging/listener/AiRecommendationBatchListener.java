@@ -0,0 +1,118 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.application.processor.CursoConcluidoProcessor;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener em lote para processamento de recomendações de cursos por IA.
+ * 
+ * Alternativa ao AiRecommendationListener para picos de conclusões (ex: fim de período),
+ * habilitada com webcursos.rabbitmq.ai-recommendation.batch.enabled=true. Consome a mesma
+ * fila curso.concluido.ai-recommendation através da aiRecommendationBatchContainerFactory.
+ * 
+ * Fluxo:
+ * 1. Recebe um lote de CursoConcluidoEvent e descarta os já processados (mesmo eventId),
+ *    consultando o registro de eventos processados uma única vez para o lote
+ * 2. Delega para CursoConcluidoProcessor.processBatch (consultas em lote + IA por evento)
+ * 3. Publica um EmailNotificationEvent por evento na fila de email
+ * 
+ * O lote é confirmado em conjunto: uma falha em qualquer evento rejeita o lote inteiro,
+ * que segue para as filas de retentativa da mesma forma que no modo individual.
+ */
+@Component
+@ConditionalOnProperty(name = "webcursos.rabbitmq.ai-recommendation.batch.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class AiRecommendationBatchListener {
+
+    private final CursoConcluidoProcessor cursoConcluidoProcessor;
+    private final RabbitTemplate rabbitTemplate;
+    private final MetricasListener metricas;
+    private final RegistroEventosProcessados registroEventosProcessados;
+
+    @Value("${webcursos.rabbitmq.exchange}")
+    private String exchangeName;
+
+    @Value("${webcursos.rabbitmq.routing-key.email:curso.concluido.email}")
+    private String emailRoutingKey;
+
+    /**
+     * Processa um lote de eventos de conclusão de curso para geração de recomendações.
+     * 
+     * @param events Eventos de conclusão de curso recebidos no lote
+     */
+    @RabbitListener(id = AiRecommendationListener.CONSUMIDOR, queues = "${webcursos.rabbitmq.queue.ai-recommendation}",
+            containerFactory = "aiRecommendationBatchContainerFactory")
+    public void processAiRecommendationBatch(List<CursoConcluidoEvent> events) {
+        log.info("Recebido lote de {} eventos de conclusão de curso para processamento de IA", events.size());
+
+        List<CursoConcluidoEvent> novos = descartarProcessados(events);
+        if (novos.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> recomendacoes = cursoConcluidoProcessor.processBatch(novos);
+
+            for (int i = 0; i < novos.size(); i++) {
+                CursoConcluidoEvent event = novos.get(i);
+                EmailNotificationEvent emailEvent = EmailNotificationEvent.forCourseCompletion(
+                        event.eventId(),
+                        event.alunoEmail(),
+                        event.alunoNome(),
+                        event.cursoNome(),
+                        recomendacoes.get(i),
+                        event.alunoId(),
+                        event.cursoId()
+                );
+                rabbitTemplate.convertAndSend(exchangeName, emailRoutingKey, emailEvent);
+            }
+
+            registroEventosProcessados.registrar(AiRecommendationListener.CONSUMIDOR,
+                    novos.stream().map(CursoConcluidoEvent::eventId).toList());
+            log.info("Lote de {} recomendações processado e encaminhado para email", novos.size());
+            metricas.sucesso(AiRecommendationListener.CONSUMIDOR, novos.size());
+        } catch (Exception e) {
+            log.error("Erro ao processar lote de {} recomendações de IA", novos.size(), e);
+            metricas.falha(AiRecommendationListener.CONSUMIDOR, novos.size());
+            throw e; // Re-throw para que o lote siga para as filas de retentativa (e, esgotadas, para a DLQ)
+        }
+    }
+
+    /**
+     * Remove do lote os eventos já processados e os repetidos dentro do próprio lote.
+     * Eventos sem eventId são sempre mantidos.
+     */
+    private List<CursoConcluidoEvent> descartarProcessados(List<CursoConcluidoEvent> events) {
+        Set<UUID> processados = registroEventosProcessados.processados(AiRecommendationListener.CONSUMIDOR,
+                events.stream().map(CursoConcluidoEvent::eventId).toList());
+        Set<UUID> vistos = new HashSet<>();
+        List<CursoConcluidoEvent> novos = events.stream()
+                .filter(event -> event.eventId() == null
+                        || (!processados.contains(event.eventId()) && vistos.add(event.eventId())))
+                .toList();
+
+        int duplicados = events.size() - novos.size();
+        if (duplicados > 0) {
+            log.info("{} eventos do lote já processados anteriormente. Redeliveries descartadas", duplicados);
+            metricas.duplicada(AiRecommendationListener.CONSUMIDOR, duplicados);
+        }
+        return novos;
+    }
+}
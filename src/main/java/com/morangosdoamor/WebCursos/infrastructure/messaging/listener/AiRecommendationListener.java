@@ -3,11 +3,13 @@ package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.morangosdoamor.WebCursos.application.processor.CursoConcluidoProcessor;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,14 +30,25 @@ import lombok.extern.slf4j.Slf4j;
  * - Analisar histórico do aluno
  * - Gerar recomendações personalizadas de novos cursos
  * - Encaminhar para fila de email
+ * 
+ * Idempotência: eventos já processados (mesmo eventId) são confirmados sem nova
+ * chamada à IA, evitando custo repetido do modelo e emails duplicados em redeliveries.
+ * 
+ * Ativo no modo padrão (individual); substituído pelo AiRecommendationBatchListener
+ * quando webcursos.rabbitmq.ai-recommendation.batch.enabled=true.
  */
 @Component
+@ConditionalOnProperty(name = "webcursos.rabbitmq.ai-recommendation.batch.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class AiRecommendationListener {
 
+    public static final String CONSUMIDOR = "ai-recommendation";
+
     private final CursoConcluidoProcessor cursoConcluidoProcessor;
     private final RabbitTemplate rabbitTemplate;
+    private final MetricasListener metricas;
+    private final RegistroEventosProcessados registroEventosProcessados;
 
     @Value("${webcursos.rabbitmq.exchange}")
     private String exchangeName;
@@ -49,7 +62,8 @@ public class AiRecommendationListener {
      * 
      * @param event Evento de conclusão de curso contendo dados do aluno e curso
      */
-    @RabbitListener(queues = "${webcursos.rabbitmq.queue.ai-recommendation}")
+    @RabbitListener(id = CONSUMIDOR, queues = "${webcursos.rabbitmq.queue.ai-recommendation}",
+            containerFactory = "aiRecommendationContainerFactory")
     public void processAiRecommendation(CursoConcluidoEvent event) {
         log.info("=== AI Recommendation Listener ===");
         log.info("Recebido evento de conclusão de curso para processamento de IA");
@@ -58,6 +72,12 @@ public class AiRecommendationListener {
         log.info("Nota Final: {} | Aprovado: {}", event.notaFinal(), event.aprovado());
         log.info("Data Conclusão: {}", event.dataConclusao());
 
+        if (registroEventosProcessados.jaProcessado(CONSUMIDOR, event.eventId())) {
+            log.info("Evento {} já processado anteriormente. Redelivery descartada", event.eventId());
+            metricas.duplicada(CONSUMIDOR, 1);
+            return;
+        }
+
         try {
             // 1. Gerar recomendação via IA
             String mensagemRecomendacao = cursoConcluidoProcessor.process(event);
@@ -65,6 +85,7 @@ public class AiRecommendationListener {
 
             // 2. Criar evento de email e publicar na fila de email
             EmailNotificationEvent emailEvent = EmailNotificationEvent.forCourseCompletion(
+                    event.eventId(),
                     event.alunoEmail(),
                     event.alunoNome(),
                     event.cursoNome(),
@@ -76,10 +97,13 @@ public class AiRecommendationListener {
             rabbitTemplate.convertAndSend(exchangeName, emailRoutingKey, emailEvent);
             log.info("Evento de email publicado na fila de notificação");
 
+            registroEventosProcessados.registrar(CONSUMIDOR, event.eventId());
             log.info("Processamento de IA concluído com sucesso");
+            metricas.sucesso(CONSUMIDOR, 1);
         } catch (Exception e) {
             log.error("Erro ao processar recomendação de IA para aluno: {}", event.alunoNome(), e);
-            throw e; // Re-throw para que a mensagem vá para DLQ se necessário
+            metricas.falha(CONSUMIDOR, 1);
+            throw e; // Re-throw para que a mensagem siga para as filas de retentativa (e, esgotadas, para a DLQ)
         }
 
         log.info("=== Fim do processamento AI Recommendation ===");
@@ -0,0 +1,50 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener que aplica no nó local as invalidações do catálogo de cursos publicadas por qualquer nó.
+ *
+ * Consome a fila anônima (exclusiva e auto-delete) criada por instância da aplicação,
+ * de modo que cada nó recebe uma cópia de cada invalidação.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CursoCatalogoInvalidacaoListener {
+
+    private final CursoCatalogCache cursoCatalogCache;
+    private final GrafoPrerequisitos grafoPrerequisitos;
+    private final MetricasListener metricas;
+
+    /**
+     * Remove do cache local o curso alterado e atualiza o grafo de pré-requisitos local.
+     *
+     * @param event Evento de alteração do catálogo
+     */
+    @RabbitListener(queues = "#{cursoCatalogoInvalidacaoQueue.name}")
+    public void onCatalogoInvalidado(CursoCatalogoInvalidadoEvent event) {
+        log.debug("Recebida invalidação do catálogo para o curso '{}'", event.codigo());
+        try {
+            if (event.todos()) {
+                cursoCatalogCache.invalidarTudo();
+                grafoPrerequisitos.invalidarTudo();
+            } else {
+                cursoCatalogCache.invalidar(event.codigo());
+                grafoPrerequisitos.recarregar(event.codigo());
+            }
+            metricas.sucesso("curso-catalogo-invalidacao", 1);
+        } catch (RuntimeException e) {
+            metricas.falha("curso-catalogo-invalidacao", 1);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+import com.morangosdoamor.WebCursos.application.service.EmailService;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa.EncaminhadorRetentativas;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener em lote para envio de notificações por email.
+ * 
+ * Alternativa ao EmailNotificationListener para picos de conclusões, habilitada com
+ * webcursos.rabbitmq.email-notification.batch.enabled=true. Consome a mesma fila
+ * curso.concluido.email-notification através da emailNotificationBatchContainerFactory.
+ * 
+ * Fluxo:
+ * 1. Recebe um lote de mensagens, converte cada uma em EmailNotificationEvent e descarta
+ *    as notificações já enviadas (mesmo eventId)
+ * 2. Envia todos pela mesma sessão SMTP (EmailService.sendBatch)
+ * 3. Encaminha ao EncaminhadorRetentativas apenas as mensagens das notificações que falharam
+ *    e registra as entregues
+ * 
+ * O lote é confirmado em conjunto. Para não reenviar emails já entregues, falhas
+ * individuais não rejeitam o lote: cada mensagem não entregue segue, com seus próprios
+ * headers (x-retry-count, fila de origem), para a próxima fila de retentativa ou, esgotadas
+ * as tentativas, para a DLQ, como no modo individual. Falhas que impedem o envio do lote
+ * inteiro (ex: autenticação) rejeitam o lote, que segue o mesmo caminho.
+ */
+@Component
+@ConditionalOnProperty(name = "webcursos.rabbitmq.email-notification.batch.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class EmailNotificationBatchListener {
+
+    private final EmailService emailService;
+    private final MessageConverter messageConverter;
+    private final EncaminhadorRetentativas encaminhadorRetentativas;
+    private final MetricasListener metricas;
+    private final RegistroEventosProcessados registroEventosProcessados;
+
+    /**
+     * Processa um lote de mensagens de notificação para envio de email.
+     * As mensagens são recebidas sem conversão para que as não entregues possam ser
+     * encaminhadas às filas de retentativa com os headers recebidos.
+     * 
+     * @param messages Mensagens de EmailNotificationEvent recebidas no lote
+     */
+    @RabbitListener(id = EmailNotificationListener.CONSUMIDOR, queues = "${webcursos.rabbitmq.queue.email-notification}",
+            containerFactory = "emailNotificationBatchContainerFactory")
+    public void processEmailNotificationBatch(List<Message> messages) {
+        log.info("Recebido lote de {} notificações para envio de email", messages.size());
+
+        Map<EmailNotificationEvent, Message> mensagens = new IdentityHashMap<>();
+        List<EmailNotificationEvent> events = messages.stream()
+                .map(message -> {
+                    EmailNotificationEvent event = (EmailNotificationEvent) messageConverter.fromMessage(message);
+                    mensagens.put(event, message);
+                    return event;
+                })
+                .toList();
+
+        List<EmailNotificationEvent> novas = descartarEnviadas(events);
+        if (novas.isEmpty()) {
+            return;
+        }
+
+        List<EmailNotificationEvent> naoEntregues;
+        try {
+            naoEntregues = emailService.sendBatch(novas);
+        } catch (RuntimeException e) {
+            metricas.falha(EmailNotificationListener.CONSUMIDOR, novas.size());
+            throw e;
+        }
+
+        for (EmailNotificationEvent event : naoEntregues) {
+            log.warn("Email para {} não entregue. Encaminhando notificação para retentativa", event.destinatario());
+            encaminhadorRetentativas.recover(mensagens.get(event),
+                    new MailSendException("Email para " + event.destinatario() + " não entregue"));
+        }
+
+        Set<EmailNotificationEvent> falhas = new HashSet<>(naoEntregues);
+        registroEventosProcessados.registrar(EmailNotificationListener.CONSUMIDOR, novas.stream()
+                .filter(event -> !falhas.contains(event))
+                .map(EmailNotificationEvent::eventId)
+                .toList());
+
+        metricas.sucesso(EmailNotificationListener.CONSUMIDOR, novas.size() - naoEntregues.size());
+        metricas.falha(EmailNotificationListener.CONSUMIDOR, naoEntregues.size());
+        log.info("Lote de notificações processado: {} enviados, {} encaminhados para retentativa",
+                novas.size() - naoEntregues.size(), naoEntregues.size());
+    }
+
+    /**
+     * Remove do lote as notificações já enviadas e as repetidas dentro do próprio lote.
+     * Notificações sem eventId são sempre mantidas.
+     */
+    private List<EmailNotificationEvent> descartarEnviadas(List<EmailNotificationEvent> events) {
+        Set<UUID> enviadas = registroEventosProcessados.processados(EmailNotificationListener.CONSUMIDOR,
+                events.stream().map(EmailNotificationEvent::eventId).toList());
+        Set<UUID> vistas = new HashSet<>();
+        List<EmailNotificationEvent> novas = events.stream()
+                .filter(event -> event.eventId() == null
+                        || (!enviadas.contains(event.eventId()) && vistas.add(event.eventId())))
+                .toList();
+
+        int duplicadas = events.size() - novas.size();
+        if (duplicadas > 0) {
+            log.info("{} notificações do lote já enviadas anteriormente. Redeliveries descartadas", duplicadas);
+            metricas.duplicada(EmailNotificationListener.CONSUMIDOR, duplicadas);
+        }
+        return novas;
+    }
+}
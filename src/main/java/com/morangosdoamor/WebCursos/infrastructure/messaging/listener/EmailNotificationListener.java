@@ -1,10 +1,12 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
 
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.morangosdoamor.WebCursos.application.service.EmailService;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,21 +24,28 @@ import lombok.extern.slf4j.Slf4j;
  * Este design garante:
  * - Emails são enviados apenas após processamento de IA
  * - Retry independente para falhas de email
- * - Sem duplicação de emails
+ * - Sem duplicação de emails: notificações já enviadas (mesmo eventId) são
+ *   confirmadas sem novo envio
  */
 @Component
+@ConditionalOnProperty(name = "webcursos.rabbitmq.email-notification.batch.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class EmailNotificationListener {
 
+    public static final String CONSUMIDOR = "email-notification";
+
     private final EmailService emailService;
+    private final MetricasListener metricas;
+    private final RegistroEventosProcessados registroEventosProcessados;
 
     /**
      * Processa eventos de notificação para envio de email.
      * 
      * @param event Evento de notificação contendo dados do email a ser enviado
      */
-    @RabbitListener(queues = "${webcursos.rabbitmq.queue.email-notification}")
+    @RabbitListener(id = CONSUMIDOR, queues = "${webcursos.rabbitmq.queue.email-notification}",
+            containerFactory = "emailNotificationContainerFactory")
     public void processEmailNotification(EmailNotificationEvent event) {
         log.info("=== Email Notification Listener ===");
         log.info("Recebido evento de notificação para envio de email");
@@ -44,6 +53,12 @@ public class EmailNotificationListener {
         log.info("Assunto: {}", event.assunto());
         log.info("AlunoId: {} | CursoId: {}", event.alunoId(), event.cursoId());
 
+        if (registroEventosProcessados.jaProcessado(CONSUMIDOR, event.eventId())) {
+            log.info("Notificação {} já enviada anteriormente. Redelivery descartada", event.eventId());
+            metricas.duplicada(CONSUMIDOR, 1);
+            return;
+        }
+
         try {
             emailService.sendEmail(
                     event.destinatario(),
@@ -51,10 +66,13 @@ public class EmailNotificationListener {
                     event.corpo()
             );
 
+            registroEventosProcessados.registrar(CONSUMIDOR, event.eventId());
             log.info("Email enviado com sucesso para: {}", event.destinatario());
+            metricas.sucesso(CONSUMIDOR, 1);
         } catch (Exception e) {
             log.error("Erro ao enviar email para: {}", event.destinatario(), e);
-            throw e; // Re-throw para que a mensagem vá para DLQ se necessário
+            metricas.falha(CONSUMIDOR, 1);
+            throw e; // Re-throw para que a mensagem siga para as filas de retentativa (e, esgotadas, para a DLQ)
         }
 
         log.info("=== Fim do processamento Email Notification ===");
@@ -0,0 +1,63 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contadores de mensagens processadas pelos listeners RabbitMQ.
+ * 
+ * Publica webcursos.listener.mensagens com as tags listener e resultado (sucesso, falha ou duplicada).
+ * Listeners em lote contam cada mensagem do lote, de modo que os totais são comparáveis
+ * entre o modo individual e o modo em lote.
+ */
+@Component
+public class MetricasListener {
+
+    private static final String METRICA = "webcursos.listener.mensagens";
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra mensagens processadas com sucesso.
+     * 
+     * @param listener Nome do listener
+     * @param mensagens Quantidade de mensagens
+     */
+    public void sucesso(String listener, int mensagens) {
+        contador(listener, "sucesso").increment(mensagens);
+    }
+
+    /**
+     * Registra mensagens cujo processamento falhou (rejeitadas ou encaminhadas para a DLQ).
+     * 
+     * @param listener Nome do listener
+     * @param mensagens Quantidade de mensagens
+     */
+    public void falha(String listener, int mensagens) {
+        contador(listener, "falha").increment(mensagens);
+    }
+
+    /**
+     * Registra mensagens descartadas por já terem sido processadas (redeliveries).
+     * 
+     * @param listener Nome do listener
+     * @param mensagens Quantidade de mensagens
+     */
+    public void duplicada(String listener, int mensagens) {
+        contador(listener, "duplicada").increment(mensagens);
+    }
+
+    private Counter contador(String listener, String resultado) {
+        return Counter.builder(METRICA)
+            .description("Mensagens processadas pelos listeners RabbitMQ")
+            .tag("listener", listener)
+            .tag("resultado", resultado)
+            .register(meterRegistry);
+    }
+}
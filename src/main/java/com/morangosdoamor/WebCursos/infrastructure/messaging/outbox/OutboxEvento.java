@@ -0,0 +1,69 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import com.morangosdoamor.WebCursos.domain.persistence.UuidV7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Registro da tabela de outbox transacional.
+ * 
+ * Cada linha representa uma mensagem a ser publicada no RabbitMQ, gravada na mesma
+ * transação da alteração de domínio que a originou. O OutboxRelay publica as linhas
+ * pendentes em lotes e as remove após a confirmação do broker.
+ * 
+ * O contexto de rastreamento da transação de origem (traceparent) é gravado junto,
+ * para que a publicação e o consumo façam parte do mesmo trace (RastreamentoOutbox).
+ */
+@Entity
+@Table(name = "outbox_evento", indexes = @Index(name = "idx_outbox_evento_criado_em", columnList = "criado_em"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class OutboxEvento {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @Column(name = "exchange", nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    /**
+     * Nome qualificado da classe do payload, enviado no header __TypeId__.
+     */
+    @Column(name = "tipo", nullable = false, length = 200)
+    private String tipo;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    /**
+     * Header W3C traceparent do span que gravou o evento, ou null sem rastreamento.
+     */
+    @Column(name = "trace_parent", length = 100)
+    private String traceParent;
+}
@@ -0,0 +1,144 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.morangosdoamor.WebCursos.infrastructure.repository.OutboxEventoRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relay da outbox transacional: publica no RabbitMQ os eventos gravados na tabela outbox_evento.
+ *
+ * Funcionamento:
+ * - Executado periodicamente (webcursos.outbox.relay.intervalo-ms)
+ * - Cada lote é lido com bloqueio (SKIP LOCKED), publicado em um único canal e
+ *   confirmado pelo broker (publisher confirms) antes de ser removido da tabela
+ * - Lotes cheios são seguidos imediatamente pelo próximo, até esvaziar a outbox
+ *
+ * Em caso de falha (broker indisponível ou confirmação negada), a transação do lote é
+ * revertida e os eventos permanecem na outbox para a próxima execução. A entrega é
+ * portanto "at least once": consumidores podem receber um evento repetido.
+ *
+ * Cada envio é feito dentro de um span filho do trace que gravou o evento (RastreamentoOutbox),
+ * e o tempo de permanência na outbox é registrado em webcursos.outbox.espera.
+ */
+@Component
+@ConditionalOnProperty(name = "webcursos.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RastreamentoOutbox rastreamento;
+    private final Timer espera;
+    private final int tamanhoLote;
+    private final long timeoutConfirmacaoMs;
+
+    public OutboxRelay(OutboxEventoRepository outboxEventoRepository,
+                       RabbitTemplate rabbitTemplate,
+                       PlatformTransactionManager transactionManager,
+                       RastreamentoOutbox rastreamento,
+                       MeterRegistry meterRegistry,
+                       @Value("${webcursos.outbox.relay.tamanho-lote:100}") int tamanhoLote,
+                       @Value("${webcursos.outbox.relay.timeout-confirmacao-ms:5000}") long timeoutConfirmacaoMs) {
+        this.outboxEventoRepository = outboxEventoRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rastreamento = rastreamento;
+        this.espera = Timer.builder("webcursos.outbox.espera")
+                .description("Tempo entre a gravação do evento na outbox e sua publicação")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tamanhoLote = tamanhoLote;
+        this.timeoutConfirmacaoMs = timeoutConfirmacaoMs;
+    }
+
+    /**
+     * Drena a outbox, publicando lotes até que um lote incompleto indique que não há mais pendências.
+     */
+    @Scheduled(fixedDelayString = "${webcursos.outbox.relay.intervalo-ms:1000}")
+    public void drenar() {
+        try {
+            int publicados;
+            do {
+                publicados = publicarLote();
+            } while (publicados == tamanhoLote);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao drenar outbox, eventos pendentes serão republicados: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publica um lote de eventos pendentes e o remove da outbox após a confirmação do broker.
+     *
+     * @return Quantidade de eventos publicados
+     */
+    int publicarLote() {
+        Integer publicados = transactionTemplate.execute(status -> {
+            List<OutboxEvento> lote = outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(tamanhoLote));
+            if (lote.isEmpty()) {
+                return 0;
+            }
+
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxEvento evento : lote) {
+                    enviar(operations, evento);
+                }
+                operations.waitForConfirmsOrDie(timeoutConfirmacaoMs);
+                return null;
+            });
+
+            outboxEventoRepository.deleteAllInBatch(lote);
+            log.debug("{} eventos publicados a partir da outbox", lote.size());
+            return lote.size();
+        });
+        return publicados != null ? publicados : 0;
+    }
+
+    private void enviar(RabbitOperations operations, OutboxEvento evento) {
+        espera.record(Duration.between(evento.getCriadoEm(), LocalDateTime.now()));
+        Span span = rastreamento.iniciarPublicacao(evento);
+        try (Tracer.SpanInScope escopo = rastreamento.emEscopo(span)) {
+            operations.send(evento.getExchange(), evento.getRoutingKey(), toMessage(evento));
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Message toMessage(OutboxEvento evento) {
+        return MessageBuilder.withBody(evento.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(evento.getId().toString())
+                .setHeader(TYPE_ID_HEADER, evento.getTipo())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.outbox;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
+/**
+ * Propagação do contexto de rastreamento (trace) através da outbox transacional.
+ * 
+ * O evento é gravado na requisição HTTP, mas publicado depois pelo OutboxRelay em outra
+ * thread, fora do trace original. Para manter a correlação, o header W3C traceparent do
+ * span corrente é gravado junto com o evento e usado como pai do span de publicação; a
+ * partir daí a observação do RabbitTemplate injeta o contexto nos headers da mensagem e
+ * os listeners o extraem no consumo.
+ * 
+ * Sem tracing configurado (ex: testes), Tracer e Propagator são no-op e nada é gravado.
+ */
+@Component
+public class RastreamentoOutbox {
+
+    static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Autowired
+    public RastreamentoOutbox(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this(tracer.getIfAvailable(() -> Tracer.NOOP), propagator.getIfAvailable(() -> Propagator.NOOP));
+    }
+
+    RastreamentoOutbox(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * Captura o contexto do span corrente para gravação na outbox.
+     * 
+     * @return Valor do header traceparent, ou null se não houver span corrente
+     */
+    public String capturar() {
+        Span atual = tracer.currentSpan();
+        if (atual == null) {
+            return null;
+        }
+        Map<String, String> headers = new HashMap<>();
+        propagator.inject(atual.context(), headers, Map::put);
+        return headers.get(TRACEPARENT);
+    }
+
+    /**
+     * Inicia o span de publicação de um evento da outbox, filho do span que o gravou.
+     * O span deve ser colocado em escopo durante o envio (emEscopo) e encerrado em seguida.
+     * 
+     * @param evento Evento a publicar
+     * @return Span iniciado (novo trace se o evento não tiver contexto gravado)
+     */
+    public Span iniciarPublicacao(OutboxEvento evento) {
+        Span.Builder builder = evento.getTraceParent() != null
+            ? propagator.extract(Map.of(TRACEPARENT, evento.getTraceParent()), Map::get)
+            : tracer.spanBuilder();
+        return builder
+            .name("outbox publicar")
+            .tag("messaging.destination.name", evento.getExchange())
+            .tag("messaging.rabbitmq.destination.routing_key", evento.getRoutingKey())
+            .tag("webcursos.outbox.evento", evento.getId().toString())
+            .start();
+    }
+
+    /**
+     * Torna o span corrente na thread até o fechamento do escopo retornado.
+     * 
+     * @param span Span a colocar em escopo
+     * @return Escopo a ser fechado após o envio
+     */
+    public Tracer.SpanInScope emEscopo(Span span) {
+        return tracer.withSpan(span);
+    }
+}
@@ -0,0 +1,68 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.publisher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publisher responsável por propagar a invalidação do cache do catálogo de cursos.
+ *
+ * Executado somente após o commit da transação que alterou o curso, para que nenhum nó
+ * recarregue o valor antigo entre a invalidação e o commit. Invalida primeiro o cache local
+ * e o grafo de pré-requisitos local e depois publica o evento no exchange webcursos.exchange, onde cada nó possui uma
+ * fila exclusiva vinculada à routing key de invalidação.
+ *
+ * Tratamento de erros:
+ * - Falhas na publicação são logadas mas não propagadas, já que a alteração foi confirmada
+ */
+@Component
+@RequiredArgsConstructor
+public class CursoCatalogoInvalidacaoPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CursoCatalogoInvalidacaoPublisher.class);
+
+    private final CursoCatalogCache cursoCatalogCache;
+    private final GrafoPrerequisitos grafoPrerequisitos;
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${webcursos.rabbitmq.exchange}")
+    private String exchangeName;
+
+    @Value("${webcursos.rabbitmq.routing-key.catalogo:curso.catalogo.invalidado}")
+    private String catalogoRoutingKey;
+
+    /**
+     * Invalida o curso no cache e no grafo de pré-requisitos locais e notifica os demais nós.
+     *
+     * @param event Evento de alteração do catálogo
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(CursoCatalogoInvalidadoEvent event) {
+        if (event.todos()) {
+            cursoCatalogCache.invalidarTudo();
+            grafoPrerequisitos.invalidarTudo();
+        } else {
+            cursoCatalogCache.invalidar(event.codigo());
+            grafoPrerequisitos.recarregar(event.codigo());
+        }
+
+        try {
+            rabbitTemplate.convertAndSend(exchangeName, catalogoRoutingKey, event);
+            log.debug("Invalidação do curso '{}' publicada com routing key '{}'", event.codigo(), catalogoRoutingKey);
+        } catch (AmqpException e) {
+            log.error("Falha ao publicar invalidação do catálogo para o curso '{}': {}",
+                    event.codigo(), e.getMessage(), e);
+        }
+    }
+}
@@ -1,26 +1,39 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.publisher;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.outbox.OutboxEvento;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.outbox.RastreamentoOutbox;
+import com.morangosdoamor.WebCursos.infrastructure.repository.OutboxEventoRepository;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Publisher responsável por publicar eventos de conclusão de curso no RabbitMQ.
  * 
- * Publica mensagens no exchange webcursos.exchange com routing key curso.concluido,
- * permitindo que múltiplos consumidores (AI Recommendation, Email Notification)
- * processem o evento de forma assíncrona.
+ * Usa o padrão transactional outbox: o evento é gravado na tabela outbox_evento
+ * na mesma transação da conclusão da matrícula, e o OutboxRelay o publica depois
+ * no exchange webcursos.exchange com routing key curso.concluido, permitindo que
+ * múltiplos consumidores (AI Recommendation, Email Notification) processem o evento
+ * de forma assíncrona.
  * 
- * Tratamento de erros:
- * - Falhas na publicação são logadas mas não afetam a transação de conclusão
- * - Isso garante que a operação principal (conclusão do curso) não falhe por problemas de messaging
+ * Garantias:
+ * - A requisição de conclusão não espera pelo broker
+ * - O evento é publicado se, e somente se, a conclusão for confirmada
+ * - Indisponibilidade do broker apenas atrasa a publicação, sem perda de eventos
+ * - O contexto de rastreamento da requisição é gravado com o evento, mantendo a
+ *   publicação e os consumidores no mesmo trace
  */
 @Component
 @RequiredArgsConstructor
@@ -28,7 +41,9 @@ public class CursoConcluidoEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(CursoConcluidoEventPublisher.class);
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final ObjectMapper objectMapper;
+    private final RastreamentoOutbox rastreamento;
 
     @Value("${webcursos.rabbitmq.exchange}")
     private String exchangeName;
@@ -37,28 +52,59 @@ public class CursoConcluidoEventPublisher {
     private String routingKey;
 
     /**
-     * Publica um evento de conclusão de curso no RabbitMQ.
+     * Registra um evento de conclusão de curso na outbox.
      * 
-     * A mensagem é serializada para JSON e enviada ao exchange configurado.
-     * Em caso de falha, o erro é logado mas não propaga exceção para não
-     * afetar a transação de conclusão do curso.
+     * Deve ser chamado dentro da transação que conclui a matrícula; o evento só
+     * se torna visível para o relay após o commit.
      * 
      * @param event Evento de conclusão de curso a ser publicado
+     * @throws IllegalStateException se o evento não puder ser serializado
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publish(CursoConcluidoEvent event) {
-        try {
-            log.info("Publicando evento de conclusão de curso: alunoId={}, cursoId={}, aprovado={}",
-                    event.alunoId(), event.cursoId(), event.aprovado());
+        log.info("Registrando evento de conclusão de curso na outbox: alunoId={}, cursoId={}, aprovado={}",
+                event.alunoId(), event.cursoId(), event.aprovado());
 
-            rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+        outboxEventoRepository.save(toOutbox(event, rastreamento.capturar()));
+    }
 
-            log.debug("Evento publicado com sucesso no exchange '{}' com routing key '{}'",
-                    exchangeName, routingKey);
+    /**
+     * Registra vários eventos de conclusão de curso na outbox com um único saveAll.
+     * 
+     * As linhas são inseridas em batches JDBC (hibernate.jdbc.batch_size) e publicadas
+     * pelo OutboxRelay em lotes, em um único canal com publisher confirms, em vez de
+     * uma publicação por evento.
+     * 
+     * @param events Eventos de conclusão de curso a serem publicados
+     * @throws IllegalStateException se algum evento não puder ser serializado
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<CursoConcluidoEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.info("Registrando {} eventos de conclusão de curso na outbox", events.size());
+
+        String traceParent = rastreamento.capturar();
+        outboxEventoRepository.saveAll(events.stream().map(event -> toOutbox(event, traceParent)).toList());
+    }
 
-        } catch (AmqpException e) {
-            log.error("Falha ao publicar evento de conclusão de curso: alunoId={}, cursoId={}, erro={}",
-                    event.alunoId(), event.cursoId(), e.getMessage(), e);
-            // Não propaga a exceção para não afetar a transação de conclusão do curso
+    private OutboxEvento toOutbox(CursoConcluidoEvent event, String traceParent) {
+        return OutboxEvento.builder()
+                .exchange(exchangeName)
+                .routingKey(routingKey)
+                .tipo(CursoConcluidoEvent.class.getName())
+                .payload(serializar(event))
+                .criadoEm(LocalDateTime.now())
+                .traceParent(traceParent)
+                .build();
+    }
+
+    private String serializar(CursoConcluidoEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento de conclusão de curso", e);
         }
     }
 }
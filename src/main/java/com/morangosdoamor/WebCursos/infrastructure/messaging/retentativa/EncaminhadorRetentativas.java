@@ -0,0 +1,142 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa;
+
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encaminha mensagens cujo processamento falhou para as filas de retentativa com atraso
+ * crescente e, esgotadas as tentativas, para a DLQ.
+ *
+ * Cada fila de trabalho tem uma fila de retentativa por atraso configurado
+ * (webcursos.rabbitmq.retry.atrasos-ms, padrão 1s, 10s e 60s), sem consumidores e com
+ * x-message-ttl igual ao atraso. Ao expirar, o broker devolve a mensagem ao fim da fila de
+ * trabalho (dead-letter para o exchange padrão com o nome da fila). Assim uma mensagem com
+ * falha transitória (ex: 429 do Gemini, SMTP indisponível) espera fora da fila de trabalho,
+ * sem ocupar consumidores nem passar à frente das mensagens novas.
+ *
+ * O header x-retry-count guarda quantas retentativas a mensagem já fez. Falhas de conversão
+ * da mensagem não são transitórias e seguem direto para a DLQ. Na DLQ a mensagem carrega o
+ * exchange e a routing key originais e a mensagem da exceção (mesmos headers do
+ * RepublishMessageRecoverer do Spring AMQP), além do momento do encaminhamento (x-parked-at),
+ * usados pelo ReprocessamentoDlqService para reenviar a mensagem.
+ *
+ * Usado como recoverer das container factories dos listeners de IA e de email, tanto no
+ * modo individual quanto em lote (cada mensagem do lote é encaminhada separadamente).
+ */
+@Component
+@Slf4j
+public class EncaminhadorRetentativas implements MessageBatchRecoverer {
+
+    public static final String X_RETRY_COUNT = "x-retry-count";
+    public static final String X_PARKED_AT = "x-parked-at";
+
+    private static final String METRICA = "webcursos.listener.retentativas";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final List<Long> atrasosMs;
+    private final String dlqName;
+
+    public EncaminhadorRetentativas(RabbitTemplate rabbitTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${webcursos.rabbitmq.retry.atrasos-ms:1000,10000,60000}") List<Long> atrasosMs,
+                                    @Value("${webcursos.rabbitmq.queue.dlq}") String dlqName) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        this.atrasosMs = List.copyOf(atrasosMs);
+        this.dlqName = dlqName;
+    }
+
+    /**
+     * Nome da fila de retentativa de uma fila de trabalho para um atraso.
+     * O atraso faz parte do nome: alterar os atrasos cria novas filas em vez de redeclarar
+     * filas existentes com outro x-message-ttl (o que o broker recusa).
+     *
+     * @param fila Nome da fila de trabalho
+     * @param atrasoMs Atraso da retentativa em milissegundos
+     * @return Nome da fila de retentativa (ex: curso.concluido.email-notification.retry.10000ms)
+     */
+    public static String filaRetentativa(String fila, long atrasoMs) {
+        return fila + ".retry." + atrasoMs + "ms";
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        encaminhar(message, cause);
+    }
+
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        messages.forEach(message -> encaminhar(message, cause));
+    }
+
+    private void encaminhar(Message message, Throwable causa) {
+        MessageProperties properties = message.getMessageProperties();
+        String fila = properties.getConsumerQueue();
+        int tentativas = tentativas(properties);
+
+        if (properties.getHeader(RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE) == null) {
+            properties.setHeader(RepublishMessageRecoverer.X_ORIGINAL_EXCHANGE, properties.getReceivedExchange());
+            properties.setHeader(RepublishMessageRecoverer.X_ORIGINAL_ROUTING_KEY, properties.getReceivedRoutingKey());
+        }
+        if (properties.getDeliveryMode() == null) {
+            properties.setDeliveryMode(properties.getReceivedDeliveryMode() != null
+                ? properties.getReceivedDeliveryMode() : MessageDeliveryMode.PERSISTENT);
+        }
+
+        if (fila == null || tentativas >= atrasosMs.size() || naoRecuperavel(causa)) {
+            properties.setHeader(RepublishMessageRecoverer.X_EXCEPTION_MESSAGE,
+                NestedExceptionUtils.getMostSpecificCause(causa).getMessage());
+            properties.setHeader(X_PARKED_AT, System.currentTimeMillis());
+            rabbitTemplate.send("", dlqName, message);
+            log.warn("Mensagem da fila {} encaminhada para a DLQ após {} retentativa(s): {}",
+                fila, tentativas, NestedExceptionUtils.getMostSpecificCause(causa).toString());
+            contar(fila, "dlq");
+            return;
+        }
+
+        long atrasoMs = atrasosMs.get(tentativas);
+        properties.setHeader(X_RETRY_COUNT, tentativas + 1);
+        rabbitTemplate.send("", filaRetentativa(fila, atrasoMs), message);
+        log.info("Mensagem da fila {} agendada para a retentativa {} de {} em {} ms",
+            fila, tentativas + 1, atrasosMs.size(), atrasoMs);
+        contar(fila, "retry." + atrasoMs + "ms");
+    }
+
+    private static int tentativas(MessageProperties properties) {
+        Object valor = properties.getHeader(X_RETRY_COUNT);
+        return valor instanceof Number numero ? numero.intValue() : 0;
+    }
+
+    private static boolean naoRecuperavel(Throwable causa) {
+        for (Throwable atual = causa; atual != null; atual = atual.getCause()) {
+            if (atual instanceof MessageConversionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void contar(String fila, String destino) {
+        Counter.builder(METRICA)
+            .description("Mensagens com falha encaminhadas para retentativa ou DLQ")
+            .tag("fila", String.valueOf(fila))
+            .tag("destino", destino)
+            .register(meterRegistry)
+            .increment();
+    }
+}
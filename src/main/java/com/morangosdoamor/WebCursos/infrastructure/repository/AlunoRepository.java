@@ -1,18 +1,160 @@
 package com.morangosdoamor.WebCursos.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 
+import jakarta.persistence.QueryHint;
+
 public interface AlunoRepository extends JpaRepository<Aluno, UUID> {
 
+    /**
+     * Quantidade de linhas trazidas do banco a cada round trip pelo cursor da exportação.
+     */
+    int FETCH_SIZE_EXPORTACAO = 500;
+
     Optional<Aluno> findByMatricula(String matricula);
 
     @Query("SELECT a FROM Aluno a WHERE a.email.value = :email")
     Optional<Aluno> findByEmail(@Param("email") String email);
+
+    /**
+     * Lista as matrículas institucionais de todos os alunos, sem carregar as entidades.
+     * Usado pela importação em lote para verificar unicidade em memória.
+     * 
+     * @return Matrículas cadastradas
+     */
+    @Query("SELECT a.matricula FROM Aluno a")
+    List<String> findAllMatriculas();
+
+    /**
+     * Lista os emails de todos os alunos, sem carregar as entidades.
+     * Usado pela importação em lote para verificar unicidade em memória.
+     * 
+     * @return Emails cadastrados
+     */
+    @Query("SELECT a.email.value FROM Aluno a")
+    List<String> findAllEmails();
+
+    /**
+     * Busca um aluno com matrículas, cursos e pré-requisitos carregados em uma única consulta.
+     * Usado pela visualização detalhada para evitar N+1 (uma consulta por curso e por
+     * coleção de pré-requisitos ao mapear as matrículas).
+     * 
+     * @param id ID do aluno
+     * @return Aluno com o grafo de matrículas inicializado
+     */
+    @EntityGraph(attributePaths = {"matriculas", "matriculas.curso", "matriculas.curso.prerequisitos"})
+    Optional<Aluno> findDetalhadoById(UUID id);
+
+    /**
+     * Busca a primeira página de alunos na ordem (nome, id).
+     * 
+     * @param limit Quantidade máxima de alunos retornados
+     * @return Alunos ordenados por nome e id
+     */
+    List<Aluno> findAllByOrderByNomeAscIdAsc(Limit limit);
+
+    /**
+     * Busca a página seguinte à posição (nome, id) informada, por keyset.
+     * A comparação de tupla é resolvida pelo índice (nome, id), sem OFFSET,
+     * mantendo o custo constante independentemente da profundidade da página.
+     * 
+     * @param nome Nome do último aluno da página anterior
+     * @param id ID do último aluno da página anterior
+     * @param limit Quantidade máxima de alunos retornados
+     * @return Alunos posteriores ao cursor, ordenados por nome e id
+     */
+    @Query("SELECT a FROM Aluno a WHERE (a.nome, a.id) > (:nome, :id) ORDER BY a.nome, a.id")
+    List<Aluno> findPaginaApos(@Param("nome") String nome, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Percorre todos os alunos, com matrículas e cursos, em um cursor forward-only.
+     * 
+     * A ordenação por id mantém as linhas de cada aluno contíguas, permitindo que o Hibernate
+     * monte um aluno por vez a partir do join. O fetch size faz o driver buscar as linhas em
+     * blocos (no PostgreSQL, apenas dentro de uma transação) em vez de materializar o resultado
+     * inteiro, e as entidades são carregadas em modo somente leitura, sem snapshot para dirty
+     * checking. Deve ser consumido dentro de uma transação e fechado ao final.
+     * 
+     * @return Stream de alunos com matrículas e cursos inicializados
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + FETCH_SIZE_EXPORTACAO),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Aluno a LEFT JOIN FETCH a.matriculas m LEFT JOIN FETCH m.curso ORDER BY a.id")
+    Stream<Aluno> streamExportacao();
+
+    /**
+     * Incrementa atomicamente o total de matrículas dos alunos informados.
+     * O incremento é feito no banco (total = total + n), sem ler a linha, de modo que matrículas
+     * concorrentes do mesmo aluno não perdem atualizações.
+     * 
+     * @param ids Alunos que receberam novas matrículas
+     * @param quantidade Novas matrículas de cada aluno
+     * @return Quantidade de alunos atualizados
+     */
+    @Modifying
+    @Query("""
+        UPDATE Aluno a SET a.estatisticas.totalMatriculas = a.estatisticas.totalMatriculas + :quantidade
+        WHERE a.id IN :ids
+        """)
+    int incrementarMatriculas(@Param("ids") Collection<UUID> ids, @Param("quantidade") int quantidade);
+
+    /**
+     * Registra atomicamente conclusões de curso nas estatísticas dos alunos informados.
+     * 
+     * @param ids Alunos que concluíram cursos
+     * @param concluidos Cursos concluídos por cada aluno
+     * @param aprovados Cursos aprovados (nota ≥ 7.0) por cada aluno
+     * @param somaNotas Soma das notas finais registradas para cada aluno
+     * @return Quantidade de alunos atualizados
+     */
+    @Modifying
+    @Query("""
+        UPDATE Aluno a SET
+            a.estatisticas.totalConcluidos = a.estatisticas.totalConcluidos + :concluidos,
+            a.estatisticas.totalAprovados = a.estatisticas.totalAprovados + :aprovados,
+            a.estatisticas.somaNotas = a.estatisticas.somaNotas + :somaNotas
+        WHERE a.id IN :ids
+        """)
+    int registrarConclusoes(@Param("ids") Collection<UUID> ids, @Param("concluidos") int concluidos,
+        @Param("aprovados") int aprovados, @Param("somaNotas") double somaNotas);
+
+    /**
+     * Recalcula as estatísticas de todos os alunos a partir das matrículas.
+     * Usado para preencher os contadores de bases anteriores a eles, ou corrigi-los
+     * após alterações feitas diretamente no banco.
+     * 
+     * @param notaMinima Nota mínima de aprovação
+     * @return Quantidade de alunos atualizados
+     */
+    @Modifying
+    @Query("""
+        UPDATE Aluno a SET
+            a.estatisticas.totalMatriculas = (SELECT CAST(COUNT(m) AS Integer) FROM Matricula m WHERE m.aluno = a),
+            a.estatisticas.totalConcluidos = (SELECT CAST(COUNT(m) AS Integer) FROM Matricula m
+                WHERE m.aluno = a AND m.status = com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus.CONCLUIDO),
+            a.estatisticas.totalAprovados = (SELECT CAST(COUNT(m) AS Integer) FROM Matricula m
+                WHERE m.aluno = a AND m.status = com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus.CONCLUIDO
+                AND m.notaFinal >= :notaMinima),
+            a.estatisticas.somaNotas = (SELECT COALESCE(SUM(m.notaFinal), 0.0) FROM Matricula m
+                WHERE m.aluno = a AND m.status = com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus.CONCLUIDO)
+        """)
+    int recalcularEstatisticas(@Param("notaMinima") double notaMinima);
 }
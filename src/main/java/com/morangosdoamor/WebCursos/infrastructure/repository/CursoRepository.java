@@ -1,9 +1,11 @@
 package com.morangosdoamor.WebCursos.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,8 +14,47 @@ import com.morangosdoamor.WebCursos.domain.entity.Curso;
 
 public interface CursoRepository extends JpaRepository<Curso, UUID> {
 
+    /**
+     * Aresta do grafo de pré-requisitos: curso e um de seus pré-requisitos diretos.
+     * Cursos sem pré-requisitos aparecem uma vez, com prerequisito nulo.
+     */
+    interface ArestaPrerequisito {
+        String getCodigo();
+        String getPrerequisito();
+    }
+
     Optional<Curso> findByCodigo(String codigo);
 
+    List<Curso> findAllByCodigoIn(Collection<String> codigos);
+
+    /**
+     * Lista os códigos de todos os cursos, sem carregar as entidades.
+     * Usado pela importação em lote para verificar unicidade em memória.
+     * 
+     * @return Códigos cadastrados
+     */
+    @Query("SELECT c.codigo FROM Curso c")
+    List<String> findAllCodigos();
+
+    /**
+     * Busca a primeira página de cursos na ordem (nome, id).
+     * 
+     * @param limit Quantidade máxima de cursos retornados
+     * @return Cursos ordenados por nome e id
+     */
+    List<Curso> findAllByOrderByNomeAscIdAsc(Limit limit);
+
+    /**
+     * Busca a página seguinte à posição (nome, id) informada, por keyset.
+     * 
+     * @param nome Nome do último curso da página anterior
+     * @param id ID do último curso da página anterior
+     * @param limit Quantidade máxima de cursos retornados
+     * @return Cursos posteriores ao cursor, ordenados por nome e id
+     */
+    @Query("SELECT c FROM Curso c WHERE (c.nome, c.id) > (:nome, :id) ORDER BY c.nome, c.id")
+    List<Curso> findPaginaApos(@Param("nome") String nome, @Param("id") UUID id, Limit limit);
+
     @Query("SELECT c FROM Curso c WHERE c.cargaHoraria.cargaHoraria >= :horas")
     List<Curso> findByCargaHorariaMinima(@Param("horas") int horas);
 
@@ -23,17 +64,62 @@ public interface CursoRepository extends JpaRepository<Curso, UUID> {
     /**
      * Busca cursos que o aluno ainda não está matriculado (nem iniciou, nem concluiu).
      * Usado pelo serviço de recomendação de IA para sugerir novos cursos.
+     * Escrito como anti-join (NOT EXISTS), apoiado pelo índice (aluno_id, curso_id) de matrícula,
+     * e limitado para que apenas os primeiros candidatos sejam materializados.
      * 
      * @param alunoId ID do aluno
+     * @param limit Quantidade máxima de cursos retornados
      * @return Lista de cursos disponíveis para matrícula, ordenados por nome
      */
     @Query("""
         SELECT c FROM Curso c 
-        WHERE c.id NOT IN (
-            SELECT m.curso.id FROM Matricula m 
-            WHERE m.aluno.id = :alunoId
+        WHERE NOT EXISTS (
+            SELECT 1 FROM Matricula m 
+            WHERE m.aluno.id = :alunoId AND m.curso = c
         )
-        ORDER BY c.nome
+        ORDER BY c.nome, c.id
     """)
-    List<Curso> findCursosNotEnrolledByAluno(@Param("alunoId") UUID alunoId);
+    List<Curso> findCursosNotEnrolledByAluno(@Param("alunoId") UUID alunoId, Limit limit);
+
+    /**
+     * Busca a página seguinte de cursos em que o aluno não está matriculado, por keyset
+     * a partir da posição (nome, id) informada. Continuação de findCursosNotEnrolledByAluno.
+     * 
+     * @param alunoId ID do aluno
+     * @param nome Nome do último curso da página anterior
+     * @param id ID do último curso da página anterior
+     * @param limit Quantidade máxima de cursos retornados
+     * @return Cursos disponíveis posteriores ao cursor, ordenados por nome e id
+     */
+    @Query("""
+        SELECT c FROM Curso c
+        WHERE (c.nome, c.id) > (:nome, :id)
+        AND NOT EXISTS (
+            SELECT 1 FROM Matricula m
+            WHERE m.aluno.id = :alunoId AND m.curso = c
+        )
+        ORDER BY c.nome, c.id
+    """)
+    List<Curso> findCursosNotEnrolledByAlunoApos(@Param("alunoId") UUID alunoId,
+                                                 @Param("nome") String nome,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    /**
+     * Lista todos os cursos com seus pré-requisitos diretos, sem carregar as entidades.
+     * Usado na construção do grafo de pré-requisitos.
+     * 
+     * @return Uma aresta por par (curso, pré-requisito), ou (curso, null) para cursos sem pré-requisitos
+     */
+    @Query("SELECT c.codigo AS codigo, p AS prerequisito FROM Curso c LEFT JOIN c.prerequisitos p")
+    List<ArestaPrerequisito> findAllArestasPrerequisitos();
+
+    /**
+     * Lista os pré-requisitos diretos de um curso, para atualização incremental do grafo.
+     * 
+     * @param codigo Código do curso
+     * @return Arestas do curso (vazio se o curso não existir)
+     */
+    @Query("SELECT c.codigo AS codigo, p AS prerequisito FROM Curso c LEFT JOIN c.prerequisitos p WHERE c.codigo = :codigo")
+    List<ArestaPrerequisito> findArestasPrerequisitosByCodigo(@Param("codigo") String codigo);
 }
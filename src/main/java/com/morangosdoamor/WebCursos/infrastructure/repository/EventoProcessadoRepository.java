@@ -0,0 +1,59 @@
+package com.morangosdoamor.WebCursos.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.EventoProcessado;
+
+public interface EventoProcessadoRepository extends JpaRepository<EventoProcessado, EventoProcessado.Chave> {
+
+    /**
+     * Retorna, dentre os eventos informados, os já processados pelo consumidor.
+     * 
+     * @param consumidor Nome do consumidor
+     * @param eventIds Eventos a verificar
+     * @return eventIds já registrados
+     */
+    @Query("""
+        SELECT e.eventId FROM EventoProcessado e
+        WHERE e.consumidor = :consumidor AND e.eventId IN :eventIds
+        """)
+    List<UUID> findEventIdsProcessados(@Param("consumidor") String consumidor,
+                                       @Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * Registra o evento como processado em um único INSERT, sem leitura prévia.
+     * Se outro nó já registrou o mesmo evento, o conflito de chave é ignorado.
+     * 
+     * @param consumidor Nome do consumidor
+     * @param eventId Evento processado
+     * @param processadoEm Momento do processamento
+     * @return 1 se registrado, 0 se o evento já constava
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO EventoProcessado (consumidor, eventId, processadoEm)
+        VALUES (:consumidor, :eventId, :processadoEm)
+        ON CONFLICT DO NOTHING
+        """)
+    int registrar(@Param("consumidor") String consumidor,
+                  @Param("eventId") UUID eventId,
+                  @Param("processadoEm") LocalDateTime processadoEm);
+
+    /**
+     * Remove os registros anteriores ao limite de retenção.
+     * 
+     * @param limite Registros processados antes deste momento são removidos
+     * @return Quantidade de registros removidos
+     */
+    @Modifying
+    @Query("DELETE FROM EventoProcessado e WHERE e.processadoEm < :limite")
+    int removerProcessadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -1,22 +1,48 @@
 package com.morangosdoamor.WebCursos.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.morangosdoamor.WebCursos.domain.entity.Matricula;
 import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
 
 public interface MatriculaRepository extends JpaRepository<Matricula, UUID> {
 
+    /**
+     * Par (aluno, curso) de uma matrícula existente.
+     */
+    interface ParAlunoCurso {
+        UUID getAlunoId();
+        UUID getCursoId();
+    }
+
+    /**
+     * Curso aprovado por um aluno.
+     */
+    interface CursoAprovado {
+        UUID getAlunoId();
+        String getCodigo();
+    }
+
     boolean existsByAlunoIdAndCursoId(UUID alunoId, UUID cursoId);
 
     Optional<Matricula> findByIdAndAlunoId(UUID matriculaId, UUID alunoId);
 
-    long countByAlunoIdAndStatusAndNotaFinalGreaterThanEqual(UUID alunoId, MatriculaStatus status, double nota);
-
+    /**
+     * Lista as matrículas de um aluno com curso e pré-requisitos carregados na mesma consulta,
+     * para que o mapeamento das matrículas não dispare consultas adicionais por curso.
+     * 
+     * @param alunoId ID do aluno
+     * @return Matrículas do aluno com cursos inicializados
+     */
+    @EntityGraph(attributePaths = {"curso", "curso.prerequisitos"})
     List<Matricula> findAllByAlunoId(UUID alunoId);
 
     /**
@@ -28,4 +54,65 @@ public interface MatriculaRepository extends JpaRepository<Matricula, UUID> {
      * @return Lista das últimas 3 matrículas concluídas
      */
     List<Matricula> findTop3ByAlunoIdAndStatusOrderByDataConclusaoDesc(UUID alunoId, MatriculaStatus status);
+
+    /**
+     * Lista as matrículas (com curso) de um conjunto de alunos em uma única consulta.
+     * Usado no processamento em lote de recomendações para obter, de uma vez, o histórico
+     * e os cursos já matriculados de todos os alunos do lote.
+     * 
+     * @param alunoIds IDs dos alunos
+     * @return Matrículas dos alunos informados com cursos inicializados
+     */
+    @EntityGraph(attributePaths = {"curso"})
+    List<Matricula> findAllByAlunoIdIn(Collection<UUID> alunoIds);
+
+    /**
+     * Lista os pares (aluno, curso) já matriculados entre os alunos e cursos informados.
+     * Usado na matrícula em lote para detectar duplicidades com uma única consulta.
+     * 
+     * @param alunoIds IDs dos alunos do lote
+     * @param cursoIds IDs dos cursos do lote
+     * @return Pares já existentes
+     */
+    @Query("SELECT m.aluno.id AS alunoId, m.curso.id AS cursoId FROM Matricula m "
+         + "WHERE m.aluno.id IN :alunoIds AND m.curso.id IN :cursoIds")
+    List<ParAlunoCurso> findParesExistentes(@Param("alunoIds") Collection<UUID> alunoIds,
+                                           @Param("cursoIds") Collection<UUID> cursoIds);
+
+    /**
+     * Busca matrículas por ID com aluno e curso carregados na mesma consulta.
+     * Usado na conclusão em lote, que precisa dos dados de ambos para montar os eventos.
+     * 
+     * @param ids IDs das matrículas
+     * @return Matrículas encontradas com aluno e curso inicializados
+     */
+    @EntityGraph(attributePaths = {"aluno", "curso"})
+    List<Matricula> findAllByIdIn(Collection<UUID> ids);
+
+    /**
+     * Lista os códigos dos cursos concluídos pelo aluno com nota mínima de aprovação.
+     * Usado na verificação de pré-requisitos.
+     * 
+     * @param alunoId ID do aluno
+     * @param notaMinima Nota mínima de aprovação
+     * @return Códigos dos cursos aprovados
+     */
+    @Query("SELECT m.curso.codigo FROM Matricula m WHERE m.aluno.id = :alunoId "
+         + "AND m.status = com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus.CONCLUIDO "
+         + "AND m.notaFinal >= :notaMinima")
+    List<String> findCodigosAprovados(@Param("alunoId") UUID alunoId, @Param("notaMinima") double notaMinima);
+
+    /**
+     * Lista os cursos aprovados de um conjunto de alunos em uma única consulta.
+     * Usado na matrícula em lote para verificar pré-requisitos de todos os alunos do lote.
+     * 
+     * @param alunoIds IDs dos alunos
+     * @param notaMinima Nota mínima de aprovação
+     * @return Pares (aluno, código do curso aprovado)
+     */
+    @Query("SELECT m.aluno.id AS alunoId, m.curso.codigo AS codigo FROM Matricula m WHERE m.aluno.id IN :alunoIds "
+         + "AND m.status = com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus.CONCLUIDO "
+         + "AND m.notaFinal >= :notaMinima")
+    List<CursoAprovado> findCursosAprovados(@Param("alunoIds") Collection<UUID> alunoIds,
+                                           @Param("notaMinima") double notaMinima);
 }
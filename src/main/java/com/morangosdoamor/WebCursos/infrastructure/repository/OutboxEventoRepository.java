@@ -0,0 +1,29 @@
+package com.morangosdoamor.WebCursos.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.morangosdoamor.WebCursos.infrastructure.messaging.outbox.OutboxEvento;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, UUID> {
+
+    /**
+     * Busca o próximo lote de eventos pendentes em ordem de criação, bloqueando as linhas.
+     * Linhas já bloqueadas por outro nó são ignoradas (SKIP LOCKED), permitindo que
+     * várias instâncias drenem a outbox em paralelo sem publicar o mesmo evento duas vezes.
+     * 
+     * @param limit Tamanho máximo do lote
+     * @return Eventos pendentes mais antigos
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEvento> findByOrderByCriadoEmAsc(Limit limit);
+}
@@ -1,5 +1,6 @@
 package com.morangosdoamor.WebCursos.api.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -8,6 +9,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,18 +19,23 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.api.dto.AlunoDetailResponse;
 import com.morangosdoamor.WebCursos.api.dto.AlunoRequest;
 import com.morangosdoamor.WebCursos.api.dto.AlunoUpdateRequest;
 import com.morangosdoamor.WebCursos.api.mapper.AlunoMapper;
 import com.morangosdoamor.WebCursos.api.mapper.CursoMapper;
 import com.morangosdoamor.WebCursos.api.mapper.MatriculaMapper;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.application.service.AlunoService;
 import com.morangosdoamor.WebCursos.application.service.CursoService;
 import com.morangosdoamor.WebCursos.application.service.MatriculaService;
@@ -59,6 +66,63 @@ class AlunoControllerTest {
     @MockitoBean
     private CursoService cursoService;
 
+    @Test
+    void deveExportarAlunosEmNdjson() throws Exception {
+        Curso curso = Curso.builder()
+            .id(UUID.randomUUID())
+            .codigo("JAVA001")
+            .nome("Java")
+            .descricao("Fundamentos")
+            .cargaHoraria(new CargaHoraria(40))
+            .build();
+        Aluno ana = Aluno.builder()
+            .id(UUID.randomUUID())
+            .nome("Ana")
+            .email(new Email("ana@example.com"))
+            .matricula("MAT-1")
+            .criadoEm(LocalDateTime.now())
+            .build();
+        ana.adicionarMatricula(Matricula.builder()
+            .id(UUID.randomUUID())
+            .aluno(ana)
+            .curso(curso)
+            .status(MatriculaStatus.CONCLUIDO)
+            .notaFinal(9.0)
+            .dataMatricula(LocalDateTime.now())
+            .build());
+        Aluno bruno = Aluno.builder()
+            .id(UUID.randomUUID())
+            .nome("Bruno")
+            .email(new Email("bruno@example.com"))
+            .matricula("MAT-2")
+            .criadoEm(LocalDateTime.now())
+            .build();
+        when(alunoService.exportar(any())).thenAnswer(invocation -> {
+            Consumer<Aluno> consumidor = invocation.getArgument(0);
+            consumidor.accept(ana);
+            consumidor.accept(bruno);
+            return 2L;
+        });
+
+        MvcResult resultado = mockMvc.perform(get("/api/v1/alunos/exportacao"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        String[] linhas = corpo.split("\n");
+        assertThat(corpo).endsWith("\n");
+        assertThat(linhas).hasSize(2);
+        AlunoDetailResponse primeira = objectMapper.readValue(linhas[0], AlunoDetailResponse.class);
+        assertThat(primeira.nome()).isEqualTo("Ana");
+        assertThat(primeira.matriculas()).singleElement()
+            .satisfies(m -> assertThat(m.curso().codigo()).isEqualTo("JAVA001"));
+        assertThat(objectMapper.readValue(linhas[1], AlunoDetailResponse.class).matriculas()).isEmpty();
+    }
+
     @Test
     void deveCriarAluno() throws Exception {
         Aluno alunoSalvo = Aluno.builder()
@@ -239,15 +303,45 @@ class AlunoControllerTest {
             .criadoEm(LocalDateTime.now())
             .build();
 
-        when(alunoService.listarTodos()).thenReturn(List.of(aluno1, aluno2));
+        when(alunoService.listarPagina(null, 20)).thenReturn(new Pagina<>(List.of(aluno1, aluno2), null));
 
         mockMvc.perform(get("/api/v1/alunos"))
             .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].nome", is("Ana")))
             .andExpect(jsonPath("$[1].nome", is("Bruno")));
     }
 
+    @Test
+    void deveListarPaginaDeAlunosComCursorELimiteDeTamanho() throws Exception {
+        Aluno aluno = Aluno.builder()
+            .id(UUID.randomUUID())
+            .nome("Carla")
+            .email(new Email("carla@example.com"))
+            .matricula("MAT-3")
+            .criadoEm(LocalDateTime.now())
+            .build();
+        CursorPaginacao cursor = new CursorPaginacao("Bruno", UUID.randomUUID());
+        CursorPaginacao proximo = new CursorPaginacao("Carla", aluno.getId());
+
+        when(alunoService.listarPagina(cursor, 100)).thenReturn(new Pagina<>(List.of(aluno), proximo));
+
+        mockMvc.perform(get("/api/v1/alunos")
+                .param("cursor", cursor.codificar())
+                .param("tamanho", "5000"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", proximo.codificar()))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].nome", is("Carla")));
+    }
+
+    @Test
+    void deveRetornarBadRequestParaCursorInvalido() throws Exception {
+        mockMvc.perform(get("/api/v1/alunos").param("cursor", "invalido"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deveBuscarAlunoPorEmail() throws Exception {
         Aluno aluno = Aluno.builder()
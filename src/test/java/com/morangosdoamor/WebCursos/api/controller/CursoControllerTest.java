@@ -28,6 +28,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.morangosdoamor.WebCursos.api.dto.CursoRequest;
 import com.morangosdoamor.WebCursos.api.dto.CursoUpdateRequest;
 import com.morangosdoamor.WebCursos.api.mapper.CursoMapper;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.application.service.CursoService;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
 import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
@@ -56,11 +58,14 @@ class CursoControllerTest {
             .cargaHoraria(new CargaHoraria(40))
             .build();
 
-        when(cursoService.listarTodos()).thenReturn(List.of(curso));
+        when(cursoService.listarPagina(null, 1)).thenReturn(
+            new Pagina<>(List.of(curso), new CursorPaginacao("Java", curso.getId())));
 
         mockMvc.perform(get("/api/v1/cursos")
+                .param("tamanho", "0")
                 .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", new CursorPaginacao("Java", curso.getId()).codificar()))
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].codigo", is("JAVA001")));
     }
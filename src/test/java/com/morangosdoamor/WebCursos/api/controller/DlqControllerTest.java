@@ -0,0 +1,68 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.morangosdoamor.WebCursos.application.dto.FiltroReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.application.service.ReprocessamentoDlqService;
+
+@WebMvcTest(controllers = DlqController.class)
+@ActiveProfiles("test")
+class DlqControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReprocessamentoDlqService reprocessamentoDlqService;
+
+    @Test
+    void deveReprocessarComFiltroInformado() throws Exception {
+        UUID alunoId = UUID.fromString("7c1f9a52-3f6e-4a7b-9d4e-2b8f0c6a1d33");
+        when(reprocessamentoDlqService.reprocessar(any(FiltroReprocessamentoDlq.class)))
+            .thenReturn(new ResultadoReprocessamentoDlq(4, 2, 2, 5));
+
+        mockMvc.perform(post("/api/v1/admin/dlq/reprocessamento")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"tipo":"CursoConcluidoEvent","alunoId":"%s","de":"2026-10-01T00:00:00",
+                     "ate":"2026-10-02T00:00:00","mensagensPorSegundo":5}
+                    """.formatted(alunoId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lidas", is(4)))
+            .andExpect(jsonPath("$.reenviadas", is(2)))
+            .andExpect(jsonPath("$.mantidas", is(2)))
+            .andExpect(jsonPath("$.mensagensPorSegundo", is(5)));
+
+        verify(reprocessamentoDlqService).reprocessar(new FiltroReprocessamentoDlq("CursoConcluidoEvent", alunoId,
+            LocalDateTime.of(2026, 10, 1, 0, 0), LocalDateTime.of(2026, 10, 2, 0, 0), 5, null));
+    }
+
+    @Test
+    void deveRecusarTaxaNaoPositiva() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/dlq/reprocessamento")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"mensagensPorSegundo\":0}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reprocessamentoDlqService);
+    }
+}
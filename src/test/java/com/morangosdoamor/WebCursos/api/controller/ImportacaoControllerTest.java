@@ -0,0 +1,78 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.morangosdoamor.WebCursos.application.dto.ResultadoImportacao;
+import com.morangosdoamor.WebCursos.application.importacao.FormatoImportacao;
+import com.morangosdoamor.WebCursos.application.service.ImportacaoService;
+
+@WebMvcTest(controllers = ImportacaoController.class)
+@ActiveProfiles("test")
+class ImportacaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImportacaoService importacaoService;
+
+    @Test
+    void deveImportarAlunosDeCsvERetornarRejeicoes() throws Exception {
+        when(importacaoService.importarAlunos(any(InputStream.class), eq(FormatoImportacao.CSV)))
+            .thenReturn(new ResultadoImportacao(2, 1, 1,
+                List.of(new ResultadoImportacao.Rejeicao(3, "Matrícula já cadastrada"))));
+
+        mockMvc.perform(post("/api/v1/importacao/alunos")
+                .contentType("text/csv")
+                .content("nome,email,matricula\nAna,ana@email.com,MAT100\nBia,bia@email.com,MAT001\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.linhasLidas", is(2)))
+            .andExpect(jsonPath("$.importados", is(1)))
+            .andExpect(jsonPath("$.rejeitados", is(1)))
+            .andExpect(jsonPath("$.rejeicoes", hasSize(1)))
+            .andExpect(jsonPath("$.rejeicoes[0].linha", is(3)))
+            .andExpect(jsonPath("$.rejeicoes[0].motivo", is("Matrícula já cadastrada")));
+    }
+
+    @Test
+    void deveImportarCursosDeNdjson() throws Exception {
+        when(importacaoService.importarCursos(any(InputStream.class), eq(FormatoImportacao.NDJSON)))
+            .thenReturn(new ResultadoImportacao(1, 1, 0, List.of()));
+
+        mockMvc.perform(post("/api/v1/importacao/cursos")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"codigo\":\"JAVA001\",\"nome\":\"Java\",\"descricao\":\"Desc\",\"cargaHoraria\":40}\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importados", is(1)));
+    }
+
+    @Test
+    void deveAceitarJsonlComoNdjson() throws Exception {
+        when(importacaoService.importarAlunos(any(InputStream.class), eq(FormatoImportacao.NDJSON)))
+            .thenReturn(new ResultadoImportacao(1, 1, 0, List.of()));
+
+        mockMvc.perform(post("/api/v1/importacao/alunos")
+                .contentType(FormatoImportacao.APPLICATION_JSONL_VALUE)
+                .content("{\"nome\":\"Ana\",\"email\":\"ana@email.com\",\"matricula\":\"MAT100\"}\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importados", is(1)));
+    }
+}
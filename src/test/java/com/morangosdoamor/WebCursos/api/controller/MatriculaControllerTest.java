@@ -0,0 +1,141 @@
+package com.morangosdoamor.WebCursos.api.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.api.dto.ConclusaoLoteRequest;
+import com.morangosdoamor.WebCursos.api.dto.MatriculaLoteRequest;
+import com.morangosdoamor.WebCursos.api.mapper.CursoMapper;
+import com.morangosdoamor.WebCursos.api.mapper.MatriculaMapper;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoMatricula;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoMatricula;
+import com.morangosdoamor.WebCursos.application.service.MatriculaService;
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+
+@WebMvcTest(controllers = MatriculaController.class)
+@Import({CursoMapper.class, MatriculaMapper.class})
+@ActiveProfiles("test")
+class MatriculaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private MatriculaService matriculaService;
+
+    @Test
+    void deveRetornarResultadoPorItemDaMatriculaEmLote() throws Exception {
+        UUID anaId = UUID.randomUUID();
+        UUID brunoId = UUID.randomUUID();
+        Matricula criada = Matricula.builder().id(UUID.randomUUID()).build();
+        SolicitacaoMatricula primeira = new SolicitacaoMatricula(anaId, "JAVA001");
+        SolicitacaoMatricula segunda = new SolicitacaoMatricula(brunoId, "JAVA999");
+
+        when(matriculaService.matricularEmLote(List.of(primeira, segunda))).thenReturn(List.of(
+            ResultadoMatricula.criada(primeira, criada),
+            ResultadoMatricula.rejeitada(segunda, "Curso não encontrado")));
+
+        MatriculaLoteRequest request = new MatriculaLoteRequest(List.of(
+            new MatriculaLoteRequest.Item(anaId, "JAVA001"),
+            new MatriculaLoteRequest.Item(brunoId, "JAVA999")));
+
+        mockMvc.perform(post("/api/v1/matriculas/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(2)))
+            .andExpect(jsonPath("$.matriculadas", is(1)))
+            .andExpect(jsonPath("$.rejeitadas", is(1)))
+            .andExpect(jsonPath("$.resultados", hasSize(2)))
+            .andExpect(jsonPath("$.resultados[0].sucesso", is(true)))
+            .andExpect(jsonPath("$.resultados[0].matriculaId", is(criada.getId().toString())))
+            .andExpect(jsonPath("$.resultados[1].sucesso", is(false)))
+            .andExpect(jsonPath("$.resultados[1].matriculaId", nullValue()))
+            .andExpect(jsonPath("$.resultados[1].motivo", is("Curso não encontrado")));
+    }
+
+    @Test
+    void deveRejeitarLoteVazio() throws Exception {
+        mockMvc.perform(post("/api/v1/matriculas/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"itens\": []}"))
+            .andExpect(status().isBadRequest());
+
+        verify(matriculaService, never()).matricularEmLote(anyList());
+    }
+
+    @Test
+    void deveRejeitarItemSemCodigoDoCurso() throws Exception {
+        mockMvc.perform(post("/api/v1/matriculas/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"itens\": [{\"alunoId\": \"" + UUID.randomUUID() + "\", \"codigoCurso\": \"\"}]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveRetornarResultadoPorItemDaConclusaoEmLote() throws Exception {
+        UUID matriculaId = UUID.randomUUID();
+        UUID inexistente = UUID.randomUUID();
+        Matricula concluida = Matricula.builder().id(matriculaId).build();
+        concluida.concluir(8.0);
+        SolicitacaoConclusao primeira = new SolicitacaoConclusao(matriculaId, 8.0);
+        SolicitacaoConclusao segunda = new SolicitacaoConclusao(inexistente, 6.5);
+
+        when(matriculaService.concluirEmLote(List.of(primeira, segunda))).thenReturn(List.of(
+            ResultadoConclusao.concluida(primeira, concluida),
+            ResultadoConclusao.rejeitada(segunda, "Matrícula não encontrada")));
+
+        ConclusaoLoteRequest request = new ConclusaoLoteRequest(List.of(
+            new ConclusaoLoteRequest.Item(matriculaId, 8.0),
+            new ConclusaoLoteRequest.Item(inexistente, 6.5)));
+
+        mockMvc.perform(post("/api/v1/matriculas/conclusao/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(2)))
+            .andExpect(jsonPath("$.concluidas", is(1)))
+            .andExpect(jsonPath("$.rejeitadas", is(1)))
+            .andExpect(jsonPath("$.resultados[0].sucesso", is(true)))
+            .andExpect(jsonPath("$.resultados[0].aprovado", is(true)))
+            .andExpect(jsonPath("$.resultados[1].sucesso", is(false)))
+            .andExpect(jsonPath("$.resultados[1].aprovado", nullValue()))
+            .andExpect(jsonPath("$.resultados[1].motivo", is("Matrícula não encontrada")));
+    }
+
+    @Test
+    void deveRejeitarConclusaoEmLoteComNotaInvalida() throws Exception {
+        mockMvc.perform(post("/api/v1/matriculas/conclusao/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"itens\": [{\"matriculaId\": \"" + UUID.randomUUID() + "\", \"notaFinal\": 10.5}]}"))
+            .andExpect(status().isBadRequest());
+
+        verify(matriculaService, never()).concluirEmLote(anyList());
+    }
+}
@@ -15,7 +15,7 @@ class DtoInstantiationTest {
         ConclusaoRequest conclusaoRequest = new ConclusaoRequest(8.0);
         MatriculaRequest matriculaRequest = new MatriculaRequest("JAVA001");
         CursoResponse cursoResponse = new CursoResponse(UUID.randomUUID(), "JAVA001", "Java", "Curso", 40, Set.of());
-        AlunoResponse alunoResponse = new AlunoResponse(UUID.randomUUID(), "Ana", "ana@example.com", "MAT-1", LocalDateTime.now());
+        AlunoResponse alunoResponse = new AlunoResponse(UUID.randomUUID(), "Ana", "ana@example.com", "MAT-1", LocalDateTime.now(), 2, 1, 1, 8.0);
         MatriculaResponse matriculaResponse = new MatriculaResponse(UUID.randomUUID(), "MATRICULADO", 9.0, LocalDateTime.now(), null, cursoResponse);
         ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), 400, "Bad Request", "erro", "/api");
 
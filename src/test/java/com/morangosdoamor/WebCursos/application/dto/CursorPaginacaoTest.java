@@ -0,0 +1,62 @@
+package com.morangosdoamor.WebCursos.application.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.morangosdoamor.WebCursos.domain.exception.DomainException;
+
+class CursorPaginacaoTest {
+
+    @Test
+    void deveCodificarEDecodificarCursorComNomeContendoSeparador() {
+        CursorPaginacao cursor = new CursorPaginacao("Ana: Maria da Conceição", UUID.randomUUID());
+
+        CursorPaginacao decodificado = CursorPaginacao.decodificar(cursor.codificar());
+
+        assertThat(decodificado).isEqualTo(cursor);
+    }
+
+    @Test
+    void deveRetornarNullParaCursorAusente() {
+        assertThat(CursorPaginacao.decodificar(null)).isNull();
+        assertThat(CursorPaginacao.decodificar(" ")).isNull();
+    }
+
+    @Test
+    void deveRejeitarCursorMalformado() {
+        String semSeparador = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+        String idInvalido = Base64.getUrlEncoder().encodeToString("abc:Ana".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorPaginacao.decodificar("%%%"))
+            .isInstanceOf(DomainException.class)
+            .hasMessage("Cursor de paginação inválido");
+        assertThatThrownBy(() -> CursorPaginacao.decodificar(semSeparador))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> CursorPaginacao.decodificar(idInvalido))
+            .isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    void deveMontarPaginaSemProximoCursorQuandoNaoHaItemExcedente() {
+        Pagina<String> pagina = Pagina.de(List.of("a", "b"), 2, item -> new CursorPaginacao(item, UUID.randomUUID()));
+
+        assertThat(pagina.itens()).containsExactly("a", "b");
+        assertThat(pagina.proximoCursor()).isNull();
+    }
+
+    @Test
+    void deveMontarPaginaComProximoCursorDoUltimoItemEntregue() {
+        UUID id = UUID.randomUUID();
+        Pagina<String> pagina = Pagina.de(List.of("a", "b", "c"), 2, item -> new CursorPaginacao(item, id));
+
+        assertThat(pagina.itens()).containsExactly("a", "b");
+        assertThat(pagina.proximoCursor()).isEqualTo(new CursorPaginacao("b", id));
+    }
+}
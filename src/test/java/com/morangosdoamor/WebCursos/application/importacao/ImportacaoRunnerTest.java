@@ -0,0 +1,52 @@
+package com.morangosdoamor.WebCursos.application.importacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.morangosdoamor.WebCursos.application.dto.ResultadoImportacao;
+import com.morangosdoamor.WebCursos.application.service.ImportacaoService;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoRunnerTest {
+
+    @Mock
+    private ImportacaoService importacaoService;
+
+    @Mock
+    private ConfigurableApplicationContext context;
+
+    @TempDir
+    private Path diretorio;
+
+    @Test
+    void deveImportarArquivoEEncerrarComCodigoDeRejeicoes() throws Exception {
+        Path arquivo = Files.writeString(diretorio.resolve("cursos.ndjson"), "{}\n");
+        when(importacaoService.importarCursos(any(InputStream.class), eq(FormatoImportacao.NDJSON)))
+            .thenReturn(new ResultadoImportacao(1, 0, 1,
+                List.of(new ResultadoImportacao.Rejeicao(1, "codigo: Código é obrigatório"))));
+        AtomicInteger codigoSaida = new AtomicInteger(-1);
+
+        new ImportacaoRunner(importacaoService, context, arquivo.toString(), "cursos", codigoSaida::set)
+            .run(new DefaultApplicationArguments());
+
+        assertThat(codigoSaida).hasValue(ImportacaoRunner.SAIDA_COM_REJEICOES);
+        verify(context).close();
+    }
+}
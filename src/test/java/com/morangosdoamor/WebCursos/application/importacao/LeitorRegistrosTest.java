@@ -0,0 +1,67 @@
+package com.morangosdoamor.WebCursos.application.importacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.api.dto.CursoRequest;
+
+class LeitorRegistrosTest {
+
+    private static LeitorRegistros<CursoRequest> leitor(String conteudo, FormatoImportacao formato) {
+        return new LeitorRegistros<>(new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)),
+            formato, CursoRequest.class, new ObjectMapper());
+    }
+
+    @Test
+    void deveLerCsvPeloCabecalhoIgnorandoColunasDesconhecidas() throws Exception {
+        try (LeitorRegistros<CursoRequest> leitor = leitor("""
+                prerequisitos,extra,codigo,nome,descricao,cargaHoraria
+                JAVA001;SQL001,x,SPRING001,Spring,"APIs, com Spring",60
+                """, FormatoImportacao.CSV)) {
+
+            LeitorRegistros.Registro<CursoRequest> registro = leitor.proximo();
+
+            assertThat(registro.linha()).isEqualTo(2);
+            assertThat(registro.erro()).isNull();
+            assertThat(registro.valor().codigo()).isEqualTo("SPRING001");
+            assertThat(registro.valor().descricao()).isEqualTo("APIs, com Spring");
+            assertThat(registro.valor().cargaHoraria()).isEqualTo(60);
+            assertThat(registro.valor().prerequisitos()).containsExactlyInAnyOrder("JAVA001", "SQL001");
+            assertThat(leitor.proximo()).isNull();
+        }
+    }
+
+    @Test
+    void deveDevolverErroDaLinhaEContinuarLeitura() throws Exception {
+        try (LeitorRegistros<CursoRequest> leitor = leitor("""
+                {"codigo":"JAVA001","cargaHoraria":"quarenta"}
+
+                {"codigo":"SQL001","cargaHoraria":30}
+                """, FormatoImportacao.NDJSON)) {
+
+            LeitorRegistros.Registro<CursoRequest> invalido = leitor.proximo();
+            LeitorRegistros.Registro<CursoRequest> valido = leitor.proximo();
+
+            assertThat(invalido.valor()).isNull();
+            assertThat(invalido.erro()).startsWith("Linha inválida");
+            assertThat(valido.linha()).isEqualTo(3);
+            assertThat(valido.valor().codigo()).isEqualTo("SQL001");
+            assertThat(leitor.proximo()).isNull();
+        }
+    }
+
+    @Test
+    void deveIdentificarFormatoPorContentTypeEExtensao() {
+        assertThat(FormatoImportacao.doContentType("text/csv; charset=UTF-8")).isEqualTo(FormatoImportacao.CSV);
+        assertThat(FormatoImportacao.doContentType("application/x-ndjson")).isEqualTo(FormatoImportacao.NDJSON);
+        assertThat(FormatoImportacao.doArquivo("/dados/alunos.JSONL")).isEqualTo(FormatoImportacao.NDJSON);
+        assertThatThrownBy(() -> FormatoImportacao.doArquivo("alunos.xlsx"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
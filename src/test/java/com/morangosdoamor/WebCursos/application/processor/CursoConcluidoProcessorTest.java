@@ -4,13 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,12 +24,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import com.morangosdoamor.WebCursos.application.dto.CursoCompletoDTO;
 import com.morangosdoamor.WebCursos.application.dto.CursoDisponivelDTO;
 import com.morangosdoamor.WebCursos.application.service.AiRecommendationService;
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
 import com.morangosdoamor.WebCursos.domain.entity.Matricula;
 import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
@@ -47,6 +56,9 @@ class CursoConcluidoProcessorTest {
     @Mock
     private AiRecommendationService aiRecommendationService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @Captor
     private ArgumentCaptor<List<CursoCompletoDTO>> cursosCompletosCaptor;
 
@@ -61,12 +73,13 @@ class CursoConcluidoProcessorTest {
     @BeforeEach
     void setUp() {
         processor = new CursoConcluidoProcessor(
-            matriculaRepository, cursoRepository, aiRecommendationService
+            matriculaRepository, cursoRepository, aiRecommendationService, transactionManager
         );
     }
 
     private CursoConcluidoEvent criarEvento() {
         return new CursoConcluidoEvent(
+            UUID.randomUUID(),
             ALUNO_ID,
             "João Silva",
             "joao@email.com",
@@ -121,7 +134,7 @@ class CursoConcluidoProcessorTest {
                 eq(ALUNO_ID), eq(MatriculaStatus.CONCLUIDO)
             )).thenReturn(List.of(matriculaJava, matriculaPython));
 
-            when(cursoRepository.findCursosNotEnrolledByAluno(ALUNO_ID))
+            when(cursoRepository.findCursosNotEnrolledByAluno(ALUNO_ID, Limit.of(CursoConcluidoProcessor.MAX_CURSOS_DISPONIVEIS)))
                 .thenReturn(List.of(cursoSpring, cursoDjango));
 
             when(aiRecommendationService.generateRecommendation(
@@ -138,7 +151,7 @@ class CursoConcluidoProcessorTest {
             verify(matriculaRepository).findTop3ByAlunoIdAndStatusOrderByDataConclusaoDesc(
                 ALUNO_ID, MatriculaStatus.CONCLUIDO
             );
-            verify(cursoRepository).findCursosNotEnrolledByAluno(ALUNO_ID);
+            verify(cursoRepository).findCursosNotEnrolledByAluno(ALUNO_ID, Limit.of(CursoConcluidoProcessor.MAX_CURSOS_DISPONIVEIS));
         }
 
         @Test
@@ -154,7 +167,7 @@ class CursoConcluidoProcessorTest {
                 any(), any()
             )).thenReturn(List.of(matricula));
 
-            when(cursoRepository.findCursosNotEnrolledByAluno(any()))
+            when(cursoRepository.findCursosNotEnrolledByAluno(any(), any()))
                 .thenReturn(Collections.emptyList());
 
             when(aiRecommendationService.generateRecommendation(
@@ -184,7 +197,7 @@ class CursoConcluidoProcessorTest {
                 any(), any()
             )).thenReturn(Collections.emptyList());
 
-            when(cursoRepository.findCursosNotEnrolledByAluno(any()))
+            when(cursoRepository.findCursosNotEnrolledByAluno(any(), any()))
                 .thenReturn(List.of(cursoSpring));
 
             when(aiRecommendationService.generateRecommendation(
@@ -212,7 +225,7 @@ class CursoConcluidoProcessorTest {
                 any(), any()
             )).thenReturn(Collections.emptyList());
 
-            when(cursoRepository.findCursosNotEnrolledByAluno(any()))
+            when(cursoRepository.findCursosNotEnrolledByAluno(any(), any()))
                 .thenReturn(Collections.emptyList());
 
             when(aiRecommendationService.generateRecommendation(
@@ -242,7 +255,7 @@ class CursoConcluidoProcessorTest {
                 any(), any()
             )).thenReturn(Collections.emptyList());
 
-            when(cursoRepository.findCursosNotEnrolledByAluno(any()))
+            when(cursoRepository.findCursosNotEnrolledByAluno(any(), any()))
                 .thenReturn(Collections.emptyList());
 
             when(aiRecommendationService.generateRecommendation(
@@ -255,6 +268,108 @@ class CursoConcluidoProcessorTest {
             // Assert
             assertThat(resultado).isEqualTo("Parabéns por completar todos os cursos!");
         }
+
+        @Test
+        @DisplayName("deve chamar a IA somente após encerrar a transação de leitura")
+        void deveChamarIaForaDaTransacao() {
+            CursoConcluidoEvent evento = criarEvento();
+            when(matriculaRepository.findTop3ByAlunoIdAndStatusOrderByDataConclusaoDesc(any(), any()))
+                .thenReturn(Collections.emptyList());
+            when(cursoRepository.findCursosNotEnrolledByAluno(any(), any()))
+                .thenReturn(Collections.emptyList());
+
+            processor.process(evento);
+
+            InOrder ordem = inOrder(transactionManager, cursoRepository, aiRecommendationService);
+            ordem.verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+            ordem.verify(cursoRepository).findCursosNotEnrolledByAluno(any(), any());
+            ordem.verify(transactionManager).commit(any());
+            ordem.verify(aiRecommendationService).generateRecommendation(
+                anyString(), anyString(), any(), anyList(), anyList());
+        }
     }
-}
 
+    @Nested
+    @DisplayName("processBatch")
+    class ProcessBatch {
+
+        private final UUID outroAlunoId = UUID.randomUUID();
+
+        private Matricula matriculaDoAluno(UUID alunoId, Curso curso, MatriculaStatus status, LocalDateTime conclusao) {
+            return Matricula.builder()
+                .id(UUID.randomUUID())
+                .aluno(Aluno.builder().id(alunoId).build())
+                .curso(curso)
+                .status(status)
+                .notaFinal(MatriculaStatus.CONCLUIDO.equals(status) ? 8.0 : null)
+                .dataConclusao(conclusao)
+                .build();
+        }
+
+        private CursoConcluidoEvent eventoDoAluno(UUID alunoId, String nome) {
+            return new CursoConcluidoEvent(UUID.randomUUID(), alunoId, nome, nome + "@email.com", CURSO_ID,
+                "Java Básico", "JAVA001", 8.5, true, LocalDateTime.now());
+        }
+
+        @Test
+        @DisplayName("deve carregar histórico e catálogo uma única vez para todo o lote")
+        void deveUsarConsultasEmLote() {
+            Curso java = criarCurso("JAVA001", "Java Básico", 40);
+            Curso spring = criarCurso("SPRING001", "Spring Boot", 60);
+            Curso web = criarCurso("WEB001", "Web", 50);
+
+            when(matriculaRepository.findAllByAlunoIdIn(any())).thenReturn(List.of(
+                matriculaDoAluno(ALUNO_ID, java, MatriculaStatus.CONCLUIDO, LocalDateTime.now()),
+                matriculaDoAluno(outroAlunoId, spring, MatriculaStatus.MATRICULADO, null)));
+            when(cursoRepository.findAllByOrderByNomeAscIdAsc(Limit.of(CursoConcluidoProcessor.MAX_CURSOS_DISPONIVEIS + 1)))
+                .thenReturn(List.of(java, spring, web));
+            when(aiRecommendationService.generateRecommendation(
+                anyString(), anyString(), any(), cursosCompletosCaptor.capture(), cursosDisponiveisCaptor.capture()
+            )).thenReturn("Rec A", "Rec B");
+
+            List<String> resultado = processor.processBatch(List.of(
+                eventoDoAluno(ALUNO_ID, "Ana"), eventoDoAluno(outroAlunoId, "Bruno")));
+
+            assertThat(resultado).containsExactly("Rec A", "Rec B");
+
+            List<List<CursoCompletoDTO>> historicos = cursosCompletosCaptor.getAllValues();
+            assertThat(historicos.get(0)).extracting(CursoCompletoDTO::codigo).containsExactly("JAVA001");
+            assertThat(historicos.get(1)).isEmpty();
+
+            List<List<CursoDisponivelDTO>> disponiveis = cursosDisponiveisCaptor.getAllValues();
+            assertThat(disponiveis.get(0)).extracting(CursoDisponivelDTO::codigo).containsExactly("SPRING001", "WEB001");
+            assertThat(disponiveis.get(1)).extracting(CursoDisponivelDTO::codigo).containsExactly("JAVA001", "WEB001");
+
+            verify(matriculaRepository).findAllByAlunoIdIn(Set.of(ALUNO_ID, outroAlunoId));
+            verify(cursoRepository).findAllByOrderByNomeAscIdAsc(Limit.of(CursoConcluidoProcessor.MAX_CURSOS_DISPONIVEIS + 1));
+
+            // Uma única transação curta para as consultas; as chamadas à IA ocorrem após o commit
+            InOrder ordem = inOrder(transactionManager, aiRecommendationService);
+            ordem.verify(transactionManager).commit(any());
+            ordem.verify(aiRecommendationService, times(2)).generateRecommendation(
+                anyString(), anyString(), any(), anyList(), anyList());
+        }
+
+        @Test
+        @DisplayName("deve limitar histórico aos 3 cursos concluídos mais recentes")
+        void deveLimitarHistoricoAosTresMaisRecentes() {
+            LocalDateTime agora = LocalDateTime.now();
+            List<Matricula> matriculas = List.of(
+                matriculaDoAluno(ALUNO_ID, criarCurso("C1", "Curso 1", 10), MatriculaStatus.CONCLUIDO, agora.minusDays(4)),
+                matriculaDoAluno(ALUNO_ID, criarCurso("C2", "Curso 2", 10), MatriculaStatus.CONCLUIDO, agora.minusDays(1)),
+                matriculaDoAluno(ALUNO_ID, criarCurso("C3", "Curso 3", 10), MatriculaStatus.CONCLUIDO, agora.minusDays(3)),
+                matriculaDoAluno(ALUNO_ID, criarCurso("C4", "Curso 4", 10), MatriculaStatus.CONCLUIDO, agora.minusDays(2)));
+
+            when(matriculaRepository.findAllByAlunoIdIn(any())).thenReturn(matriculas);
+            when(cursoRepository.findAllByOrderByNomeAscIdAsc(any())).thenReturn(Collections.emptyList());
+            when(aiRecommendationService.generateRecommendation(
+                anyString(), anyString(), any(), cursosCompletosCaptor.capture(), anyList()
+            )).thenReturn("Resultado");
+
+            processor.processBatch(List.of(criarEvento()));
+
+            assertThat(cursosCompletosCaptor.getValue()).extracting(CursoCompletoDTO::codigo)
+                .containsExactly("C2", "C4", "C3");
+        }
+    }
+}
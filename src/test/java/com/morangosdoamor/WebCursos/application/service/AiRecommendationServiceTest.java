@@ -2,10 +2,13 @@ package com.morangosdoamor.WebCursos.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,8 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.morangosdoamor.WebCursos.application.dto.CursoCompletoDTO;
 import com.morangosdoamor.WebCursos.application.dto.CursoDisponivelDTO;
+import com.morangosdoamor.WebCursos.infrastructure.ai.ResilientChatLanguageModel;
+import com.morangosdoamor.WebCursos.infrastructure.cache.AiRecommendationCache;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AiRecommendationService")
@@ -26,6 +32,10 @@ class AiRecommendationServiceTest {
     @Mock
     private ChatLanguageModel mockChatModel;
 
+    private static AiRecommendationCache novoCache() {
+        return new AiRecommendationCache(new SimpleMeterRegistry(), 100, 60);
+    }
+
     @Nested
     @DisplayName("Quando modelo de IA está disponível")
     class ComModeloIA {
@@ -37,7 +47,7 @@ class AiRecommendationServiceTest {
             when(mockChatModel.generate(anyString()))
                 .thenReturn("Parabéns! Recomendo o curso de Spring Boot.");
 
-            AiRecommendationService service = new AiRecommendationService(mockChatModel);
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, novoCache(), new SimpleMeterRegistry());
 
             List<CursoCompletoDTO> ultimosCursos = List.of(
                 new CursoCompletoDTO("Java", "JAVA001", 8.5),
@@ -65,7 +75,7 @@ class AiRecommendationServiceTest {
             when(mockChatModel.generate(anyString()))
                 .thenThrow(new RuntimeException("API indisponível"));
 
-            AiRecommendationService service = new AiRecommendationService(mockChatModel);
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, novoCache(), new SimpleMeterRegistry());
 
             List<CursoDisponivelDTO> cursosDisponiveis = List.of(
                 new CursoDisponivelDTO("Spring Boot", "SPRING001", "APIs com Spring", 60)
@@ -82,13 +92,128 @@ class AiRecommendationServiceTest {
                 .contains("Java")
                 .contains("Spring Boot");
         }
+
+        @Test
+        @DisplayName("deve usar fallback sem chamar o modelo quando o circuito está aberto")
+        void deveUsarFallbackQuandoCircuitoAberto() {
+            // Arrange
+            AtomicInteger chamadas = new AtomicInteger();
+            ChatLanguageModel stub = messages -> {
+                chamadas.incrementAndGet();
+                throw new IllegalStateException("Gemini indisponível");
+            };
+            ResilientChatLanguageModel protegido =
+                new ResilientChatLanguageModel(stub, new SimpleMeterRegistry(), 1, 0, 1000, 1, 60_000);
+            AiRecommendationService service = new AiRecommendationService(protegido, novoCache(), new SimpleMeterRegistry());
+            List<CursoDisponivelDTO> cursosDisponiveis = List.of(
+                new CursoDisponivelDTO("Spring Boot", "SPRING001", "APIs com Spring", 60)
+            );
+
+            // Act
+            service.generateRecommendation("Maria", "Java", 9.0, Collections.emptyList(), cursosDisponiveis);
+            String resultado = service.generateRecommendation(
+                "Ana", "Java", 8.0, Collections.emptyList(), cursosDisponiveis
+            );
+            protegido.close();
+
+            // Assert
+            assertThat(resultado).contains("Olá, Ana!").contains("Spring Boot");
+            assertThat(chamadas).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("deve registrar latência do modelo e recomendações por origem")
+        void deveRegistrarMetricasDoModeloEDoFallback() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            when(mockChatModel.generate(anyString()))
+                .thenReturn("Recomendação")
+                .thenThrow(new RuntimeException("API indisponível"));
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, novoCache(), registry);
+            List<CursoDisponivelDTO> cursosDisponiveis = List.of(
+                new CursoDisponivelDTO("Spring Boot", "SPRING001", "APIs com Spring", 60)
+            );
+
+            service.generateRecommendation("João", "Java", 8.0, Collections.emptyList(), cursosDisponiveis);
+            service.generateRecommendation("Maria", "Java", 9.0, Collections.emptyList(), cursosDisponiveis);
+
+            assertThat(registry.get("ai.recomendacoes.modelo").tag("resultado", "sucesso").timer().count()).isEqualTo(1);
+            assertThat(registry.get("ai.recomendacoes.modelo").tag("resultado", "erro").timer().count()).isEqualTo(1);
+            assertThat(registry.get("ai.recomendacoes").tag("origem", "modelo").counter().count()).isEqualTo(1.0);
+            assertThat(registry.get("ai.recomendacoes").tag("origem", "fallback").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache de recomendações")
+    class CacheDeRecomendacoes {
+
+        private final List<CursoCompletoDTO> ultimosCursos = List.of(new CursoCompletoDTO("Java", "JAVA001", 8.5));
+        private final List<CursoDisponivelDTO> cursosDisponiveis =
+            List.of(new CursoDisponivelDTO("Spring Boot", "SPRING001", "APIs com Spring", 60));
+
+        @Test
+        @DisplayName("deve reaproveitar recomendação para entradas equivalentes sem nova chamada à IA")
+        void deveReaproveitarRecomendacaoParaEntradasEquivalentes() {
+            when(mockChatModel.generate(anyString())).thenReturn("Recomendação única");
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, novoCache(), new SimpleMeterRegistry());
+
+            String primeira = service.generateRecommendation("João", "React.js", 8.0, ultimosCursos, cursosDisponiveis);
+            String segunda = service.generateRecommendation("João", "React.js", 8.04, ultimosCursos, cursosDisponiveis);
+
+            assertThat(segunda).isEqualTo(primeira).isEqualTo("Recomendação única");
+            verify(mockChatModel, times(1)).generate(anyString());
+        }
+
+        @Test
+        @DisplayName("deve chamar a IA novamente quando o histórico muda")
+        void deveChamarIANovamenteQuandoHistoricoMuda() {
+            when(mockChatModel.generate(anyString())).thenReturn("Primeira", "Segunda");
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, novoCache(), new SimpleMeterRegistry());
+
+            service.generateRecommendation("João", "React.js", 8.0, ultimosCursos, cursosDisponiveis);
+            String resultado = service.generateRecommendation("João", "React.js", 8.0, List.of(), cursosDisponiveis);
+
+            assertThat(resultado).isEqualTo("Segunda");
+            verify(mockChatModel, times(2)).generate(anyString());
+        }
+
+        @Test
+        @DisplayName("não deve armazenar mensagem de fallback")
+        void naoDeveArmazenarFallback() {
+            when(mockChatModel.generate(anyString()))
+                .thenThrow(new RuntimeException("API indisponível"))
+                .thenReturn("Resposta da IA");
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, novoCache(), new SimpleMeterRegistry());
+
+            service.generateRecommendation("Maria", "Java", 9.0, ultimosCursos, cursosDisponiveis);
+            String resultado = service.generateRecommendation("Maria", "Java", 9.0, ultimosCursos, cursosDisponiveis);
+
+            assertThat(resultado).isEqualTo("Resposta da IA");
+        }
+
+        @Test
+        @DisplayName("deve publicar acertos e faltas do cache no Micrometer")
+        void devePublicarMetricasDoCache() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            AiRecommendationCache cache = new AiRecommendationCache(registry, 100, 60);
+            when(mockChatModel.generate(anyString())).thenReturn("Recomendação");
+            AiRecommendationService service = new AiRecommendationService(mockChatModel, cache, new SimpleMeterRegistry());
+
+            service.generateRecommendation("João", "React.js", 8.0, ultimosCursos, cursosDisponiveis);
+            service.generateRecommendation("João", "React.js", 8.0, ultimosCursos, cursosDisponiveis);
+
+            assertThat(registry.get("cache.gets").tag("cache", "ai.recomendacoes").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("cache.gets").tag("cache", "ai.recomendacoes").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        }
     }
 
     @Nested
     @DisplayName("Quando modelo de IA não está disponível (null)")
     class SemModeloIA {
 
-        private final AiRecommendationService service = new AiRecommendationService(null);
+        private final AiRecommendationService service = new AiRecommendationService(null, novoCache(), new SimpleMeterRegistry());
 
         @Test
         @DisplayName("deve gerar mensagem de fallback para aluno aprovado com nota excelente")
@@ -3,34 +3,46 @@ package com.morangosdoamor.WebCursos.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 
 import com.morangosdoamor.WebCursos.api.dto.AlunoUpdateRequest;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
 import com.morangosdoamor.WebCursos.domain.exception.ResourceNotFoundException;
 import com.morangosdoamor.WebCursos.domain.valueobject.Email;
 import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
 
+import jakarta.persistence.EntityManager;
+
 @ExtendWith(MockitoExtension.class)
 class AlunoServiceTest {
 
     @Mock
     private AlunoRepository alunoRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private AlunoService alunoService;
 
@@ -85,7 +97,7 @@ class AlunoServiceTest {
             .criadoEm(LocalDateTime.now())
             .build();
 
-        when(alunoRepository.findById(alunoId)).thenReturn(Optional.of(aluno));
+        when(alunoRepository.findDetalhadoById(alunoId)).thenReturn(Optional.of(aluno));
 
         Aluno encontrado = alunoService.buscarPorId(alunoId);
 
@@ -95,7 +107,7 @@ class AlunoServiceTest {
     @Test
     void deveLancarErroQuandoAlunoNaoExiste() {
         UUID alunoId = UUID.randomUUID();
-        when(alunoRepository.findById(alunoId)).thenReturn(Optional.empty());
+        when(alunoRepository.findDetalhadoById(alunoId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> alunoService.buscarPorId(alunoId))
             .isInstanceOf(ResourceNotFoundException.class)
@@ -103,16 +115,30 @@ class AlunoServiceTest {
     }
 
     @Test
-    void deveListarTodosOsAlunos() {
+    void deveListarPrimeiraPaginaDeAlunos() {
         Aluno aluno1 = Aluno.builder().id(UUID.randomUUID()).nome("Ana").matricula("MAT-1").criadoEm(LocalDateTime.now()).build();
         Aluno aluno2 = Aluno.builder().id(UUID.randomUUID()).nome("Bruno").matricula("MAT-2").criadoEm(LocalDateTime.now()).build();
 
-        when(alunoRepository.findAll(any(Sort.class))).thenReturn(List.of(aluno1, aluno2));
+        when(alunoRepository.findAllByOrderByNomeAscIdAsc(Limit.of(3))).thenReturn(List.of(aluno1, aluno2));
 
-        List<Aluno> alunos = alunoService.listarTodos();
+        Pagina<Aluno> pagina = alunoService.listarPagina(null, 2);
 
-        assertThat(alunos).hasSize(2);
-        assertThat(alunos).extracting(Aluno::getNome).containsExactly("Ana", "Bruno");
+        assertThat(pagina.itens()).extracting(Aluno::getNome).containsExactly("Ana", "Bruno");
+        assertThat(pagina.proximoCursor()).isNull();
+    }
+
+    @Test
+    void deveListarPaginaSeguinteAoCursor() {
+        UUID ultimoId = UUID.randomUUID();
+        Aluno aluno1 = Aluno.builder().id(UUID.randomUUID()).nome("Carla").matricula("MAT-3").criadoEm(LocalDateTime.now()).build();
+        Aluno aluno2 = Aluno.builder().id(UUID.randomUUID()).nome("Diego").matricula("MAT-4").criadoEm(LocalDateTime.now()).build();
+
+        when(alunoRepository.findPaginaApos("Bruno", ultimoId, Limit.of(2))).thenReturn(List.of(aluno1, aluno2));
+
+        Pagina<Aluno> pagina = alunoService.listarPagina(new CursorPaginacao("Bruno", ultimoId), 1);
+
+        assertThat(pagina.itens()).extracting(Aluno::getNome).containsExactly("Carla");
+        assertThat(pagina.proximoCursor()).isEqualTo(new CursorPaginacao("Carla", aluno1.getId()));
     }
 
     @Test
@@ -279,4 +305,22 @@ class AlunoServiceTest {
 
         verify(alunoRepository).delete(aluno);
     }
+
+    @Test
+    void deveExportarAlunosUmPorVezDesanexandoCadaUm() {
+        Aluno ana = Aluno.builder().id(UUID.randomUUID()).nome("Ana").build();
+        Aluno bruno = Aluno.builder().id(UUID.randomUUID()).nome("Bruno").build();
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(alunoRepository.streamExportacao()).thenReturn(Stream.of(ana, bruno).onClose(() -> fechado.set(true)));
+        List<String> exportados = new ArrayList<>();
+
+        long total = alunoService.exportar(aluno -> exportados.add(aluno.getNome()));
+
+        assertThat(total).isEqualTo(2);
+        assertThat(exportados).containsExactly("Ana", "Bruno");
+        InOrder ordem = inOrder(entityManager);
+        ordem.verify(entityManager).detach(ana);
+        ordem.verify(entityManager).detach(bruno);
+        assertThat(fechado).isTrue();
+    }
 }
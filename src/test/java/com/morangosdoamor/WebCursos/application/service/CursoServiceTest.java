@@ -3,6 +3,8 @@ package com.morangosdoamor.WebCursos.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,21 +12,26 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import com.morangosdoamor.WebCursos.api.dto.CursoRequest;
 import com.morangosdoamor.WebCursos.api.dto.CursoUpdateRequest;
+import com.morangosdoamor.WebCursos.application.dto.CursorPaginacao;
+import com.morangosdoamor.WebCursos.application.dto.Pagina;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
-import com.morangosdoamor.WebCursos.domain.entity.Matricula;
-import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
 import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
 import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
 import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.MatriculaRepository;
 
@@ -34,6 +41,15 @@ class CursoServiceTest {
     @Mock
     private CursoRepository cursoRepository;
 
+    @Mock
+    private CursoCatalogCache cursoCatalogCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GrafoPrerequisitos grafoPrerequisitos;
+
     @Mock
     private MatriculaRepository matriculaRepository;
 
@@ -43,41 +59,58 @@ class CursoServiceTest {
     @Test
     void deveRetornarCursosLiberados() {
         UUID alunoId = UUID.randomUUID();
-        Curso curso1 = Curso.builder().id(UUID.randomUUID()).codigo("JAVA001").nome("Java").descricao("Desc").cargaHoraria(new CargaHoraria(40)).build();
         Curso curso2 = Curso.builder().id(UUID.randomUUID()).codigo("SPRING001").nome("Spring").descricao("Desc").cargaHoraria(new CargaHoraria(60)).build();
         Curso curso3 = Curso.builder().id(UUID.randomUUID()).codigo("WEB001").nome("Web").descricao("Desc").cargaHoraria(new CargaHoraria(50)).build();
 
-        Matricula matricula = Matricula.builder()
-            .curso(curso1)
-            .status(MatriculaStatus.CONCLUIDO)
-            .notaFinal(8.0)
-            .build();
+        when(matriculaRepository.findCodigosAprovados(alunoId, 7.0)).thenReturn(List.of("JAVA001"));
+        Curso bloqueado = Curso.builder().id(UUID.randomUUID()).codigo("REACT001").nome("React").descricao("Desc").cargaHoraria(new CargaHoraria(40)).build();
 
-        when(matriculaRepository.countByAlunoIdAndStatusAndNotaFinalGreaterThanEqual(alunoId, MatriculaStatus.CONCLUIDO, 7.0))
-            .thenReturn(1L);
-        when(matriculaRepository.findAllByAlunoId(alunoId)).thenReturn(List.of(matricula));
-        when(cursoRepository.findAll(any(Sort.class))).thenReturn(List.of(curso1, curso2, curso3));
+        when(matriculaRepository.findCodigosAprovados(alunoId, 7.0)).thenReturn(List.of("JAVA001"));
+        when(grafoPrerequisitos.liberados(List.of("JAVA001"))).thenReturn(codigo -> !codigo.equals("REACT001"));
+        when(cursoRepository.findCursosNotEnrolledByAluno(alunoId, Limit.of(20))).thenReturn(List.of(bloqueado, curso2, curso3));
 
         List<Curso> liberados = cursoService.buscarCursosLiberados(alunoId);
 
         assertThat(liberados).extracting(Curso::getCodigo).containsExactly("SPRING001", "WEB001");
+        verify(cursoRepository, never()).findCursosNotEnrolledByAlunoApos(any(), any(), any(), any());
     }
 
     @Test
-    void deveRetornarListaVaziaSemCursosConcluidos() {
+    void deveBuscarProximasPaginasAteCompletarOLimite() {
         UUID alunoId = UUID.randomUUID();
-        when(matriculaRepository.countByAlunoIdAndStatusAndNotaFinalGreaterThanEqual(alunoId, MatriculaStatus.CONCLUIDO, 7.0))
-            .thenReturn(0L);
+        List<Curso> primeiraPagina = IntStream.range(0, 20)
+            .mapToObj(i -> Curso.builder().id(UUID.randomUUID()).codigo("AVANC%03d".formatted(i)).nome("Avançado " + i)
+                .descricao("Desc").cargaHoraria(new CargaHoraria(40)).build())
+            .toList();
+        Curso ultimo = primeiraPagina.get(19);
+        Curso livre1 = Curso.builder().id(UUID.randomUUID()).codigo("LIVRE001").nome("Livre 1").descricao("Desc").cargaHoraria(new CargaHoraria(40)).build();
+        Curso livre2 = Curso.builder().id(UUID.randomUUID()).codigo("LIVRE002").nome("Livre 2").descricao("Desc").cargaHoraria(new CargaHoraria(40)).build();
+
+        when(matriculaRepository.findCodigosAprovados(alunoId, 7.0)).thenReturn(List.of("JAVA001"));
+        when(grafoPrerequisitos.liberados(List.of("JAVA001")))
+            .thenReturn(codigo -> codigo.startsWith("LIVRE") || codigo.equals("AVANC007"));
+        when(cursoRepository.findCursosNotEnrolledByAluno(alunoId, Limit.of(20))).thenReturn(primeiraPagina);
+        when(cursoRepository.findCursosNotEnrolledByAlunoApos(alunoId, ultimo.getNome(), ultimo.getId(), Limit.of(20)))
+            .thenReturn(List.of(livre1, livre2));
 
         List<Curso> liberados = cursoService.buscarCursosLiberados(alunoId);
 
-        assertThat(liberados).isEmpty();
+        assertThat(liberados).extracting(Curso::getCodigo).containsExactly("AVANC007", "LIVRE001", "LIVRE002");
+    }
+
+    @Test
+    void naoDeveLiberarCursosSemAprovacoes() {
+        UUID alunoId = UUID.randomUUID();
+        when(matriculaRepository.findCodigosAprovados(alunoId, 7.0)).thenReturn(List.of());
+
+        assertThat(cursoService.buscarCursosLiberados(alunoId)).isEmpty();
+        verify(cursoRepository, never()).findCursosNotEnrolledByAluno(any(), any());
     }
 
     @Test
     void deveBuscarCursoPorCodigo() {
         Curso curso = Curso.builder().id(UUID.randomUUID()).codigo("JAVA001").nome("Java").descricao("Desc").cargaHoraria(new CargaHoraria(40)).build();
-        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+        when(cursoCatalogCache.buscarPorCodigo("JAVA001")).thenReturn(Optional.of(curso));
 
         Curso encontrado = cursoService.buscarPorCodigo("JAVA001");
         assertThat(encontrado.getCodigo()).isEqualTo("JAVA001");
@@ -85,17 +118,34 @@ class CursoServiceTest {
 
     @Test
     void deveLancarErroQuandoCursoNaoEncontrado() {
-        when(cursoRepository.findByCodigo("JAVA999")).thenReturn(Optional.empty());
+        when(cursoCatalogCache.buscarPorCodigo("JAVA999")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> cursoService.buscarPorCodigo("JAVA999"))
             .hasMessageContaining("Curso não encontrado");
     }
 
     @Test
-    void deveListarCursosOrdenados() {
-        when(cursoRepository.findAll(any(Sort.class))).thenReturn(List.of());
+    void deveListarPrimeiraPaginaDeCursos() {
+        when(cursoRepository.findAllByOrderByNomeAscIdAsc(Limit.of(21))).thenReturn(List.of());
+
+        Pagina<Curso> pagina = cursoService.listarPagina(null, 20);
+
+        assertThat(pagina.itens()).isEmpty();
+        assertThat(pagina.proximoCursor()).isNull();
+    }
+
+    @Test
+    void deveListarPaginaDeCursosAposCursor() {
+        UUID ultimoId = UUID.randomUUID();
+        Curso curso1 = Curso.builder().id(UUID.randomUUID()).codigo("SPRING001").nome("Spring").descricao("Desc").cargaHoraria(new CargaHoraria(60)).build();
+        Curso curso2 = Curso.builder().id(UUID.randomUUID()).codigo("WEB001").nome("Web").descricao("Desc").cargaHoraria(new CargaHoraria(50)).build();
 
-        assertThat(cursoService.listarTodos()).isEmpty();
+        when(cursoRepository.findPaginaApos("Java", ultimoId, Limit.of(2))).thenReturn(List.of(curso1, curso2));
+
+        Pagina<Curso> pagina = cursoService.listarPagina(new CursorPaginacao("Java", ultimoId), 1);
+
+        assertThat(pagina.itens()).extracting(Curso::getCodigo).containsExactly("SPRING001");
+        assertThat(pagina.proximoCursor()).isEqualTo(new CursorPaginacao("Spring", curso1.getId()));
     }
 
     @Test
@@ -116,6 +166,7 @@ class CursoServiceTest {
 
         assertThat(criado.getCodigo()).isEqualTo("PYTHON001");
         verify(cursoRepository).save(any(Curso.class));
+        verify(eventPublisher).publishEvent(new CursoCatalogoInvalidadoEvent("PYTHON001"));
     }
 
     @Test
@@ -215,6 +266,7 @@ class CursoServiceTest {
 
         assertThat(atualizado.getNome()).isEqualTo("Java Atualizado");
         verify(cursoRepository).save(curso);
+        verify(eventPublisher).publishEvent(new CursoCatalogoInvalidadoEvent("JAVA001"));
     }
 
     @Test
@@ -297,9 +349,33 @@ class CursoServiceTest {
         Curso atualizado = cursoService.atualizar(cursoId, dto);
 
         assertThat(atualizado.getPrerequisitos()).containsExactlyInAnyOrderElementsOf(novosPrerequisitos);
+        verify(grafoPrerequisitos).validarPrerequisitos("JAVA001", novosPrerequisitos);
         verify(cursoRepository).save(curso);
     }
 
+    @Test
+    void deveRecusarPrerequisitosQueFormamCiclo() {
+        UUID cursoId = UUID.randomUUID();
+        Curso curso = Curso.builder()
+            .id(cursoId)
+            .codigo("JAVA001")
+            .nome("Java")
+            .descricao("Descrição")
+            .cargaHoraria(new CargaHoraria(40))
+            .build();
+        Set<String> prerequisitos = Set.of("SPRING001");
+        when(cursoRepository.findById(cursoId)).thenReturn(Optional.of(curso));
+        doThrow(new BusinessRuleException("Pré-requisitos formariam um ciclo"))
+            .when(grafoPrerequisitos).validarPrerequisitos("JAVA001", prerequisitos);
+
+        CursoUpdateRequest dto = new CursoUpdateRequest(null, null, null, null, prerequisitos);
+
+        assertThatThrownBy(() -> cursoService.atualizar(cursoId, dto))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("ciclo");
+        verify(cursoRepository, never()).save(any());
+    }
+
     @Test
     void deveExcluirCurso() {
         UUID cursoId = UUID.randomUUID();
@@ -310,5 +386,6 @@ class CursoServiceTest {
         cursoService.excluir(cursoId);
 
         verify(cursoRepository).delete(curso);
+        verify(eventPublisher).publishEvent(new CursoCatalogoInvalidadoEvent("JAVA001"));
     }
 }
@@ -3,8 +3,15 @@ package com.morangosdoamor.WebCursos.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +27,8 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EmailService")
 class EmailServiceTest {
@@ -106,5 +115,68 @@ class EmailServiceTest {
             assertThat(message.getText()).isEqualTo(corpoLongo);
         }
     }
-}
 
+    @Nested
+    @DisplayName("sendBatch")
+    class SendBatch {
+
+        private EmailNotificationEvent notificacao(String email) {
+            return new EmailNotificationEvent(UUID.randomUUID(), email, "Aluno", "Assunto " + email, "Corpo", UUID.randomUUID(), UUID.randomUUID());
+        }
+
+        @Test
+        @DisplayName("deve enviar todas as notificações em uma única chamada")
+        void deveEnviarTodasEmUmaUnicaChamada() {
+            // Act
+            List<EmailNotificationEvent> naoEntregues =
+                emailService.sendBatch(List.of(notificacao("a@email.com"), notificacao("b@email.com")));
+
+            // Assert
+            ArgumentCaptor<SimpleMailMessage[]> captor = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+            verify(mailSender).send(captor.capture());
+            assertThat(captor.getValue())
+                .extracting(SimpleMailMessage::getFrom, m -> m.getTo()[0], SimpleMailMessage::getSubject)
+                .containsExactly(
+                    tuple("noreply@webcursos.com", "a@email.com", "Assunto a@email.com"),
+                    tuple("noreply@webcursos.com", "b@email.com", "Assunto b@email.com"));
+            assertThat(naoEntregues).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve retornar apenas as notificações que falharam")
+        void deveRetornarNotificacoesQueFalharam() {
+            // Arrange
+            EmailNotificationEvent entregue = notificacao("a@email.com");
+            EmailNotificationEvent falhou = notificacao("b@email.com");
+            doAnswer(invocation -> {
+                Object segunda = invocation.getArguments()[1];
+                throw new MailSendException(Map.of(segunda, new RuntimeException("recusado")));
+            }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+            // Act
+            List<EmailNotificationEvent> naoEntregues = emailService.sendBatch(List.of(entregue, falhou));
+
+            // Assert
+            assertThat(naoEntregues).containsExactly(falhou);
+        }
+
+        @Test
+        @DisplayName("deve propagar falha sem mensagens identificadas")
+        void devePropagarFalhaGeral() {
+            // Arrange
+            doThrow(new MailSendException("SMTP indisponível"))
+                .when(mailSender).send(any(SimpleMailMessage[].class));
+
+            // Act & Assert
+            assertThatThrownBy(() -> emailService.sendBatch(List.of(notificacao("a@email.com"))))
+                .isInstanceOf(MailSendException.class);
+        }
+
+        @Test
+        @DisplayName("não deve chamar o servidor para lote vazio")
+        void naoDeveChamarServidorParaLoteVazio() {
+            assertThat(emailService.sendBatch(List.of())).isEmpty();
+            verifyNoInteractions(mailSender);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.morangosdoamor.WebCursos.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoImportacao;
+import com.morangosdoamor.WebCursos.application.importacao.FormatoImportacao;
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
+import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoServiceTest {
+
+    @Mock
+    private AlunoRepository alunoRepository;
+
+    @Mock
+    private CursoRepository cursoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImportacaoService service;
+
+    @BeforeEach
+    void setUp() {
+        service = novoServico(1000);
+    }
+
+    private ImportacaoService novoServico(int tamanhoLote) {
+        return new ImportacaoService(alunoRepository, cursoRepository, new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, transactionManager, tamanhoLote, 1000);
+    }
+
+    private static InputStream arquivo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void deveImportarAlunosDeCsvRejeitandoLinhasInvalidasEDuplicadas() throws Exception {
+        when(alunoRepository.findAllMatriculas()).thenReturn(List.of("MAT001"));
+        when(alunoRepository.findAllEmails()).thenReturn(List.of("existente@email.com"));
+        List<Aluno> gravados = new ArrayList<>();
+        when(alunoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            gravados.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        ResultadoImportacao resultado = service.importarAlunos(arquivo("""
+            nome,email,matricula
+            Ana,ana@email.com,MAT100
+            Bruno,invalido,MAT101
+            Carla,carla@email.com,MAT001
+            Davi,existente@email.com,MAT102
+            Eva,ana@email.com,MAT103
+
+            Fábio,fabio@email.com,MAT104
+            """), FormatoImportacao.CSV);
+
+        assertThat(resultado.linhasLidas()).isEqualTo(6);
+        assertThat(resultado.importados()).isEqualTo(2);
+        assertThat(resultado.rejeitados()).isEqualTo(4);
+        assertThat(resultado.rejeicoes())
+            .extracting(ResultadoImportacao.Rejeicao::linha, ResultadoImportacao.Rejeicao::motivo)
+            .containsExactly(
+                tuple(3L, "email: Formato de e-mail inválido"),
+                tuple(4L, "Matrícula já cadastrada"),
+                tuple(5L, "Email já cadastrado"),
+                tuple(6L, "Email já cadastrado"));
+        assertThat(gravados).extracting(Aluno::getMatricula).containsExactly("MAT100", "MAT104");
+    }
+
+    @Test
+    void deveImportarCursosDeCsvComPrerequisitos() throws Exception {
+        when(cursoRepository.findAllCodigos()).thenReturn(List.of("JAVA001"));
+        List<Curso> gravados = new ArrayList<>();
+        when(cursoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            gravados.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        ResultadoImportacao resultado = service.importarCursos(arquivo("""
+            codigo,nome,descricao,cargaHoraria,prerequisitos
+            SPRING001,Spring,APIs com Spring,60,JAVA001;SQL001
+            JAVA001,Java,Duplicado no banco,40,
+            LONGO001,Longo,Acima do limite,1001,
+            SQL001,SQL,Banco de dados,30,
+            """), FormatoImportacao.CSV);
+
+        assertThat(resultado.importados()).isEqualTo(2);
+        assertThat(resultado.rejeicoes())
+            .extracting(ResultadoImportacao.Rejeicao::linha, ResultadoImportacao.Rejeicao::motivo)
+            .containsExactly(
+                tuple(3L, "Código já cadastrado para outro curso"),
+                tuple(4L, "Carga horária não pode exceder 1000 horas"));
+        assertThat(gravados).extracting(Curso::getCodigo).containsExactly("SPRING001", "SQL001");
+        assertThat(gravados.get(0).getPrerequisitos()).containsExactlyInAnyOrder("JAVA001", "SQL001");
+        assertThat(gravados.get(1).getPrerequisitos()).isEmpty();
+        verify(eventPublisher).publishEvent(CursoCatalogoInvalidadoEvent.catalogoCompleto());
+    }
+
+    @Test
+    void deveImportarCursosDeNdjsonRejeitandoLinhaMalformada() throws Exception {
+        when(cursoRepository.findAllCodigos()).thenReturn(List.of());
+
+        ResultadoImportacao resultado = service.importarCursos(arquivo("""
+            {"codigo":"JAVA001","nome":"Java","descricao":"Fundamentos","cargaHoraria":40}
+            {"codigo":"SPRING001","nome":"Spring"
+            {"codigo":"SPRING001","nome":"Spring","descricao":"APIs","cargaHoraria":60,"prerequisitos":["JAVA001"]}
+            {"codigo":"JAVA001","nome":"Java","descricao":"Repetido no arquivo","cargaHoraria":40}
+            """), FormatoImportacao.NDJSON);
+
+        assertThat(resultado.importados()).isEqualTo(2);
+        assertThat(resultado.rejeitados()).isEqualTo(2);
+        assertThat(resultado.rejeicoes().get(0).linha()).isEqualTo(2);
+        assertThat(resultado.rejeicoes().get(0).motivo()).startsWith("Linha inválida");
+        assertThat(resultado.rejeicoes().get(1).motivo()).isEqualTo("Código já cadastrado para outro curso");
+    }
+
+    @Test
+    void deveGravarEmLotesDoTamanhoConfigurado() throws Exception {
+        service = novoServico(2);
+        when(alunoRepository.findAllMatriculas()).thenReturn(List.of());
+        when(alunoRepository.findAllEmails()).thenReturn(List.of());
+
+        ResultadoImportacao resultado = service.importarAlunos(arquivo("""
+            {"nome":"A","email":"a@email.com","matricula":"M1"}
+            {"nome":"B","email":"b@email.com","matricula":"M2"}
+            {"nome":"C","email":"c@email.com","matricula":"M3"}
+            {"nome":"D","email":"d@email.com","matricula":"M4"}
+            {"nome":"E","email":"e@email.com","matricula":"M5"}
+            """), FormatoImportacao.NDJSON);
+
+        assertThat(resultado.importados()).isEqualTo(5);
+        verify(alunoRepository, times(3)).saveAll(anyList());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void deveLimitarRejeicoesReportadasMantendoTotal() throws Exception {
+        service = new ImportacaoService(alunoRepository, cursoRepository, new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, transactionManager, 1000, 1);
+        when(alunoRepository.findAllMatriculas()).thenReturn(List.of());
+        when(alunoRepository.findAllEmails()).thenReturn(List.of());
+
+        ResultadoImportacao resultado = service.importarAlunos(arquivo("""
+            nome,email,matricula
+            ,a@email.com,M1
+            ,b@email.com,M2
+            """), FormatoImportacao.CSV);
+
+        assertThat(resultado.rejeitados()).isEqualTo(2);
+        assertThat(resultado.rejeicoes()).hasSize(1);
+        verify(alunoRepository, never()).saveAll(anyList());
+    }
+}
@@ -3,11 +3,17 @@ package com.morangosdoamor.WebCursos.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +24,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.morangosdoamor.WebCursos.application.dto.ResultadoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoMatricula;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoConclusao;
+import com.morangosdoamor.WebCursos.application.dto.SolicitacaoMatricula;
 import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
 import com.morangosdoamor.WebCursos.domain.entity.Matricula;
@@ -26,10 +36,11 @@ import com.morangosdoamor.WebCursos.domain.valueobject.Email;
 import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
 import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
 import com.morangosdoamor.WebCursos.domain.exception.ResourceNotFoundException;
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.publisher.CursoConcluidoEventPublisher;
 import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
-import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.MatriculaRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +50,7 @@ class MatriculaServiceTest {
     private AlunoRepository alunoRepository;
 
     @Mock
-    private CursoRepository cursoRepository;
+    private CursoCatalogCache cursoCatalogCache;
 
     @Mock
     private MatriculaRepository matriculaRepository;
@@ -47,6 +58,9 @@ class MatriculaServiceTest {
     @Mock
     private CursoConcluidoEventPublisher eventPublisher;
 
+    @Mock
+    private GrafoPrerequisitos grafoPrerequisitos;
+
     @InjectMocks
     private MatriculaService matriculaService;
 
@@ -73,7 +87,7 @@ class MatriculaServiceTest {
     @Test
     void deveMatricularAlunoEmCurso() {
         when(alunoRepository.findById(aluno.getId())).thenReturn(Optional.of(aluno));
-        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+        when(cursoCatalogCache.buscarPorCodigo("JAVA001")).thenReturn(Optional.of(curso));
         when(matriculaRepository.existsByAlunoIdAndCursoId(aluno.getId(), curso.getId())).thenReturn(false);
 
         ArgumentCaptor<Matricula> matriculaCaptor = ArgumentCaptor.forClass(Matricula.class);
@@ -85,12 +99,13 @@ class MatriculaServiceTest {
         assertThat(matricula.getCurso()).isEqualTo(curso);
         assertThat(matricula.getStatus()).isEqualTo(MatriculaStatus.MATRICULADO);
         assertThat(matricula.getDataMatricula()).isNotNull();
+        verify(alunoRepository).incrementarMatriculas(List.of(aluno.getId()), 1);
     }
 
     @Test
     void deveLancarErroAoMatricularAlunoJaMatriculado() {
         when(alunoRepository.findById(aluno.getId())).thenReturn(Optional.of(aluno));
-        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+        when(cursoCatalogCache.buscarPorCodigo("JAVA001")).thenReturn(Optional.of(curso));
         when(matriculaRepository.existsByAlunoIdAndCursoId(aluno.getId(), curso.getId())).thenReturn(true);
 
         assertThatThrownBy(() -> matriculaService.matricular(aluno.getId(), "JAVA001"))
@@ -98,6 +113,65 @@ class MatriculaServiceTest {
             .hasMessageContaining("já matriculado");
     }
 
+    @Test
+    void deveLancarErroAoMatricularComPrerequisitosPendentes() {
+        when(alunoRepository.findById(aluno.getId())).thenReturn(Optional.of(aluno));
+        when(cursoCatalogCache.buscarPorCodigo("JAVA001")).thenReturn(Optional.of(curso));
+        when(grafoPrerequisitos.possuiPrerequisitos("JAVA001")).thenReturn(true);
+        when(matriculaRepository.findCodigosAprovados(aluno.getId(), 7.0)).thenReturn(List.of("LOGICA001"));
+        when(grafoPrerequisitos.pendentes("JAVA001", List.of("LOGICA001"))).thenReturn(Set.of("ALGO001"));
+
+        assertThatThrownBy(() -> matriculaService.matricular(aluno.getId(), "JAVA001"))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Pré-requisitos não concluídos: ALGO001");
+        verify(matriculaRepository, never()).save(any());
+    }
+
+    @Test
+    void naoDeveConsultarHistoricoQuandoCursoNaoPossuiPrerequisitos() {
+        when(alunoRepository.findById(aluno.getId())).thenReturn(Optional.of(aluno));
+        when(cursoCatalogCache.buscarPorCodigo("JAVA001")).thenReturn(Optional.of(curso));
+        when(matriculaRepository.save(any(Matricula.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        matriculaService.matricular(aluno.getId(), "JAVA001");
+
+        verify(matriculaRepository, never()).findCodigosAprovados(any(), anyDouble());
+    }
+
+    @Test
+    void deveRejeitarItensDoLoteComPrerequisitosPendentes() {
+        Aluno bruno = Aluno.builder().id(UUID.randomUUID()).nome("Bruno").matricula("MAT-2").build();
+        List<SolicitacaoMatricula> solicitacoes = List.of(
+            new SolicitacaoMatricula(aluno.getId(), "JAVA001"),
+            new SolicitacaoMatricula(bruno.getId(), "JAVA001"));
+        when(alunoRepository.findAllById(Set.of(aluno.getId(), bruno.getId()))).thenReturn(List.of(aluno, bruno));
+        when(cursoCatalogCache.buscarPorCodigos(Set.of("JAVA001"))).thenReturn(Map.of("JAVA001", curso));
+        when(grafoPrerequisitos.possuiPrerequisitos("JAVA001")).thenReturn(true);
+        when(matriculaRepository.findCursosAprovados(Set.of(aluno.getId(), bruno.getId()), 7.0))
+            .thenReturn(List.of(cursoAprovado(aluno.getId(), "LOGICA001")));
+        when(grafoPrerequisitos.pendentes("JAVA001", List.of("LOGICA001"))).thenReturn(Set.of());
+        when(grafoPrerequisitos.pendentes("JAVA001", List.of())).thenReturn(Set.of("LOGICA001"));
+
+        List<ResultadoMatricula> resultados = matriculaService.matricularEmLote(solicitacoes);
+
+        assertThat(resultados).extracting(ResultadoMatricula::motivo)
+            .containsExactly(null, "Pré-requisitos não concluídos: LOGICA001");
+    }
+
+    private static MatriculaRepository.CursoAprovado cursoAprovado(UUID alunoId, String codigo) {
+        return new MatriculaRepository.CursoAprovado() {
+            @Override
+            public UUID getAlunoId() {
+                return alunoId;
+            }
+
+            @Override
+            public String getCodigo() {
+                return codigo;
+            }
+        };
+    }
+
     @Test
     void deveLancarErroQuandoAlunoNaoEncontradoAoMatricular() {
         when(alunoRepository.findById(aluno.getId())).thenReturn(Optional.empty());
@@ -109,7 +183,7 @@ class MatriculaServiceTest {
     @Test
     void deveLancarErroQuandoCursoNaoEncontrado() {
         when(alunoRepository.findById(aluno.getId())).thenReturn(Optional.of(aluno));
-        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.empty());
+        when(cursoCatalogCache.buscarPorCodigo("JAVA001")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> matriculaService.matricular(aluno.getId(), "JAVA001"))
             .isInstanceOf(ResourceNotFoundException.class);
@@ -158,6 +232,7 @@ class MatriculaServiceTest {
         assertThat(event.cursoCodigo()).isEqualTo(curso.getCodigo());
         assertThat(event.notaFinal()).isEqualTo(nota);
         assertThat(event.aprovado()).isTrue();
+        verify(alunoRepository).registrarConclusoes(List.of(aluno.getId()), 1, 1, nota);
     }
 
     @Test
@@ -180,6 +255,7 @@ class MatriculaServiceTest {
         CursoConcluidoEvent event = eventCaptor.getValue();
         assertThat(event.notaFinal()).isEqualTo(nota);
         assertThat(event.aprovado()).isFalse();
+        verify(alunoRepository).registrarConclusoes(List.of(aluno.getId()), 1, 0, nota);
     }
 
     @Test
@@ -252,4 +328,129 @@ class MatriculaServiceTest {
 
         assertThat(matriculaService.buscarNotaFinal(aluno.getId(), UUID.randomUUID())).isNull();
     }
+
+    @Test
+    void deveMatricularEmLoteComConsultasPorConjunto() {
+        Aluno bruno = Aluno.builder().id(UUID.randomUUID()).nome("Bruno").build();
+        UUID alunoInexistente = UUID.randomUUID();
+        List<SolicitacaoMatricula> solicitacoes = List.of(
+            new SolicitacaoMatricula(aluno.getId(), "JAVA001"),
+            new SolicitacaoMatricula(bruno.getId(), "JAVA001"),
+            new SolicitacaoMatricula(aluno.getId(), "JAVA001"),
+            new SolicitacaoMatricula(alunoInexistente, "JAVA001"),
+            new SolicitacaoMatricula(aluno.getId(), "JAVA999")
+        );
+        MatriculaRepository.ParAlunoCurso existente = mock(MatriculaRepository.ParAlunoCurso.class);
+        when(existente.getAlunoId()).thenReturn(bruno.getId());
+        when(existente.getCursoId()).thenReturn(curso.getId());
+
+        when(alunoRepository.findAllById(Set.of(aluno.getId(), bruno.getId(), alunoInexistente)))
+            .thenReturn(List.of(aluno, bruno));
+        when(cursoCatalogCache.buscarPorCodigos(Set.of("JAVA001", "JAVA999"))).thenReturn(Map.of("JAVA001", curso));
+        when(matriculaRepository.findParesExistentes(Set.of(aluno.getId(), bruno.getId()), Set.of(curso.getId())))
+            .thenReturn(List.of(existente));
+
+        List<ResultadoMatricula> resultados = matriculaService.matricularEmLote(solicitacoes);
+
+        assertThat(resultados).extracting(ResultadoMatricula::motivo).containsExactly(
+            null,
+            "Aluno já matriculado ou curso concluído anteriormente",
+            "Matrícula repetida no lote",
+            "Aluno não encontrado",
+            "Curso não encontrado");
+
+        Matricula criada = resultados.get(0).matricula();
+        assertThat(criada.getAluno()).isEqualTo(aluno);
+        assertThat(criada.getCurso()).isEqualTo(curso);
+        assertThat(criada.getStatus()).isEqualTo(MatriculaStatus.MATRICULADO);
+        assertThat(criada.getDataMatricula()).isNotNull();
+        verify(matriculaRepository).saveAll(List.of(criada));
+        verify(alunoRepository).incrementarMatriculas(List.of(aluno.getId()), 1);
+        verify(alunoRepository, never()).findById(any(UUID.class));
+        verify(matriculaRepository, never()).existsByAlunoIdAndCursoId(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void naoDeveConsultarMatriculasExistentesQuandoNenhumAlunoExiste() {
+        SolicitacaoMatricula solicitacao = new SolicitacaoMatricula(UUID.randomUUID(), "JAVA001");
+        when(alunoRepository.findAllById(Set.of(solicitacao.alunoId()))).thenReturn(List.of());
+        when(cursoCatalogCache.buscarPorCodigos(Set.of("JAVA001"))).thenReturn(Map.of("JAVA001", curso));
+
+        List<ResultadoMatricula> resultados = matriculaService.matricularEmLote(List.of(solicitacao));
+
+        assertThat(resultados).singleElement().satisfies(resultado -> assertThat(resultado.sucesso()).isFalse());
+        verify(matriculaRepository, never()).findParesExistentes(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveConcluirEmLoteGravandoEventosDeUmaVez() {
+        Matricula aberta = Matricula.builder().id(UUID.randomUUID()).aluno(aluno).curso(curso)
+            .status(MatriculaStatus.MATRICULADO).build();
+        Matricula jaConcluida = Matricula.builder().id(UUID.randomUUID()).aluno(aluno).curso(curso)
+            .status(MatriculaStatus.CONCLUIDO).notaFinal(9.0).build();
+        UUID inexistente = UUID.randomUUID();
+        List<SolicitacaoConclusao> solicitacoes = List.of(
+            new SolicitacaoConclusao(aberta.getId(), 8.0),
+            new SolicitacaoConclusao(aberta.getId(), 6.0),
+            new SolicitacaoConclusao(jaConcluida.getId(), 7.0),
+            new SolicitacaoConclusao(inexistente, 7.0),
+            new SolicitacaoConclusao(aberta.getId(), 11.0)
+        );
+        when(matriculaRepository.findAllByIdIn(Set.of(aberta.getId(), jaConcluida.getId(), inexistente)))
+            .thenReturn(List.of(aberta, jaConcluida));
+
+        List<ResultadoConclusao> resultados = matriculaService.concluirEmLote(solicitacoes);
+
+        assertThat(resultados).extracting(ResultadoConclusao::motivo).containsExactly(
+            null,
+            "Conclusão repetida no lote",
+            "O curso já está concluído",
+            "Matrícula não encontrada",
+            "Nota final deve estar entre 0 e 10");
+        assertThat(aberta.getStatus()).isEqualTo(MatriculaStatus.CONCLUIDO);
+        assertThat(aberta.getNotaFinal()).isEqualTo(8.0);
+        assertThat(jaConcluida.getNotaFinal()).isEqualTo(9.0);
+
+        ArgumentCaptor<List<CursoConcluidoEvent>> eventosCaptor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(eventosCaptor.capture());
+        assertThat(eventosCaptor.getValue()).singleElement().satisfies(evento -> {
+            assertThat(evento.alunoId()).isEqualTo(aluno.getId());
+            assertThat(evento.cursoCodigo()).isEqualTo("JAVA001");
+            assertThat(evento.notaFinal()).isEqualTo(8.0);
+            assertThat(evento.aprovado()).isTrue();
+        });
+        verify(eventPublisher, never()).publish(any(CursoConcluidoEvent.class));
+        verify(matriculaRepository, never()).findByIdAndAlunoId(any(UUID.class), any(UUID.class));
+        verify(alunoRepository).registrarConclusoes(List.of(aluno.getId()), 1, 1, 8.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveAtualizarEstatisticasDoLoteComUmIncrementoPorVariacao() {
+        Aluno bruno = Aluno.builder().id(UUID.randomUUID()).nome("Bruno").build();
+        Aluno carla = Aluno.builder().id(UUID.randomUUID()).nome("Carla").build();
+        Curso spring = Curso.builder().id(UUID.randomUUID()).codigo("SPRING001").nome("Spring").build();
+        Matricula anaJava = Matricula.builder().id(UUID.randomUUID()).aluno(aluno).curso(curso)
+            .status(MatriculaStatus.MATRICULADO).build();
+        Matricula brunoJava = Matricula.builder().id(UUID.randomUUID()).aluno(bruno).curso(curso)
+            .status(MatriculaStatus.MATRICULADO).build();
+        Matricula carlaJava = Matricula.builder().id(UUID.randomUUID()).aluno(carla).curso(curso)
+            .status(MatriculaStatus.MATRICULADO).build();
+        Matricula carlaSpring = Matricula.builder().id(UUID.randomUUID()).aluno(carla).curso(spring)
+            .status(MatriculaStatus.MATRICULADO).build();
+        when(matriculaRepository.findAllByIdIn(Set.of(anaJava.getId(), brunoJava.getId(), carlaJava.getId(), carlaSpring.getId())))
+            .thenReturn(List.of(anaJava, brunoJava, carlaJava, carlaSpring));
+
+        matriculaService.concluirEmLote(List.of(
+            new SolicitacaoConclusao(anaJava.getId(), 8.0),
+            new SolicitacaoConclusao(brunoJava.getId(), 8.0),
+            new SolicitacaoConclusao(carlaJava.getId(), 9.0),
+            new SolicitacaoConclusao(carlaSpring.getId(), 4.0)));
+
+        ArgumentCaptor<List<UUID>> idsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(alunoRepository).registrarConclusoes(idsCaptor.capture(), eq(1), eq(1), eq(8.0));
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(aluno.getId(), bruno.getId());
+        verify(alunoRepository).registrarConclusoes(List.of(carla.getId()), 2, 1, 13.0);
+    }
 }
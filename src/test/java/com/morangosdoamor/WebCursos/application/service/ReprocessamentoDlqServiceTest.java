@@ -0,0 +1,186 @@
+package com.morangosdoamor.WebCursos.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.application.dto.FiltroReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.application.dto.ResultadoReprocessamentoDlq;
+import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ReprocessamentoDlqServiceTest {
+
+    private static final String DLQ_NAME = "curso.concluido.dlq";
+    private static final String TIPO_CONCLUSAO = "com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private Channel channel;
+
+    private ReprocessamentoDlqService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReprocessamentoDlqService(rabbitTemplate, new ObjectMapper(), DLQ_NAME, 1000, 100, 5000);
+    }
+
+    private void executarNoCanal() {
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+    }
+
+    private static GetResponse mensagem(long tag, int restantes, Map<String, Object> headers, UUID alunoId) {
+        byte[] corpo = ("{\"alunoId\":\"" + alunoId + "\"}").getBytes(StandardCharsets.UTF_8);
+        AMQP.BasicProperties props = new AMQP.BasicProperties.Builder()
+            .contentType("application/json")
+            .deliveryMode(2)
+            .headers(headers)
+            .build();
+        return new GetResponse(new Envelope(tag, false, "", DLQ_NAME), props, corpo, restantes);
+    }
+
+    private static Map<String, Object> headersEncaminhador(String tipo, long parkedAt) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("__TypeId__", tipo);
+        headers.put("x-original-exchange", "webcursos.exchange");
+        headers.put("x-original-routingKey", "curso.concluido");
+        headers.put("x-retry-count", 3);
+        headers.put("x-exception-message", "Gemini indisponível");
+        headers.put("x-parked-at", parkedAt);
+        return headers;
+    }
+
+    @Test
+    void deveReenviarAoDestinoOriginalSemHeadersDeFalha() throws Exception {
+        executarNoCanal();
+        UUID alunoId = UUID.randomUUID();
+        when(channel.basicGet(DLQ_NAME, false))
+            .thenReturn(mensagem(1, 0, headersEncaminhador(TIPO_CONCLUSAO, System.currentTimeMillis()), alunoId));
+
+        ResultadoReprocessamentoDlq resultado = service.reprocessar(
+            new FiltroReprocessamentoDlq(null, null, null, null, null, null));
+
+        ArgumentCaptor<AMQP.BasicProperties> props = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).confirmSelect();
+        verify(channel).basicPublish(eq("webcursos.exchange"), eq("curso.concluido"), props.capture(), any(byte[].class));
+        verify(channel).waitForConfirmsOrDie(5000);
+        verify(channel).basicAck(1, false);
+        assertThat(props.getValue().getHeaders())
+            .containsKey("__TypeId__")
+            .doesNotContainKeys("x-retry-count", "x-exception-message", "x-parked-at");
+        assertThat(props.getValue().getDeliveryMode()).isEqualTo(2);
+        assertThat(resultado).isEqualTo(new ResultadoReprocessamentoDlq(1, 1, 0, 1000));
+    }
+
+    @Test
+    void deveManterNaDlqMensagensForaDoFiltro() throws Exception {
+        executarNoCanal();
+        UUID alunoId = UUID.randomUUID();
+        long agora = System.currentTimeMillis();
+        when(channel.basicGet(DLQ_NAME, false)).thenReturn(
+            mensagem(1, 2, headersEncaminhador(TIPO_CONCLUSAO, agora), UUID.randomUUID()),
+            mensagem(2, 1, headersEncaminhador("EmailNotificationEvent", agora), alunoId),
+            mensagem(3, 0, headersEncaminhador(TIPO_CONCLUSAO, agora), alunoId));
+
+        ResultadoReprocessamentoDlq resultado = service.reprocessar(
+            new FiltroReprocessamentoDlq("CursoConcluidoEvent", alunoId, null, null, 5, null));
+
+        verify(channel).basicPublish(anyString(), anyString(), any(), any(byte[].class));
+        verify(channel).basicAck(3, false);
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicNack(2, false, true);
+        assertThat(resultado).isEqualTo(new ResultadoReprocessamentoDlq(3, 1, 2, 5));
+    }
+
+    @Test
+    void deveFiltrarPorJanelaDeChegadaNaDlq() throws Exception {
+        executarNoCanal();
+        LocalDateTime ontem = LocalDateTime.now().minusDays(1);
+        when(channel.basicGet(DLQ_NAME, false)).thenReturn(
+            mensagem(1, 0, headersEncaminhador(TIPO_CONCLUSAO, System.currentTimeMillis()), UUID.randomUUID()));
+
+        ResultadoReprocessamentoDlq resultado = service.reprocessar(
+            new FiltroReprocessamentoDlq(null, null, ontem.minusDays(1), ontem, null, null));
+
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(), any(byte[].class));
+        verify(channel).basicNack(1, false, true);
+        assertThat(resultado.mantidas()).isEqualTo(1);
+    }
+
+    @Test
+    void deveUsarXDeathQuandoNaoHaDestinoOriginal() throws Exception {
+        executarNoCanal();
+        Map<String, Object> morte = new HashMap<>();
+        morte.put("queue", "curso.concluido.email-notification");
+        morte.put("exchange", "webcursos.exchange");
+        morte.put("routing-keys", List.of("curso.concluido.email"));
+        morte.put("time", new Date());
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("x-death", List.of(morte));
+        when(channel.basicGet(DLQ_NAME, false)).thenReturn(mensagem(1, 0, headers, UUID.randomUUID()));
+
+        service.reprocessar(new FiltroReprocessamentoDlq(null, null, LocalDateTime.now().minusHours(1), null, null, null));
+
+        ArgumentCaptor<AMQP.BasicProperties> props = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).basicPublish(eq("webcursos.exchange"), eq("curso.concluido.email"), props.capture(), any(byte[].class));
+        assertThat(props.getValue().getHeaders()).doesNotContainKey("x-death");
+    }
+
+    @Test
+    void deveRespeitarQuantidadeMaximaDeMensagens() throws Exception {
+        executarNoCanal();
+        when(channel.basicGet(DLQ_NAME, false)).thenReturn(
+            mensagem(1, 1, headersEncaminhador(TIPO_CONCLUSAO, System.currentTimeMillis()), UUID.randomUUID()),
+            mensagem(2, 0, headersEncaminhador(TIPO_CONCLUSAO, System.currentTimeMillis()), UUID.randomUUID()));
+
+        ResultadoReprocessamentoDlq resultado = service.reprocessar(
+            new FiltroReprocessamentoDlq(null, null, null, null, null, 1));
+
+        verify(channel).basicAck(1, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        assertThat(resultado.reenviadas()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRecusarJanelaInvertida() {
+        LocalDateTime agora = LocalDateTime.now();
+
+        assertThatThrownBy(() -> service.reprocessar(
+                new FiltroReprocessamentoDlq(null, null, agora, agora.minusHours(1), null, null)))
+            .isInstanceOf(BusinessRuleException.class);
+        verifyNoInteractions(rabbitTemplate);
+    }
+}
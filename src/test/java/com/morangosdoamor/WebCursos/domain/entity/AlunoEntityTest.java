@@ -2,6 +2,7 @@ package com.morangosdoamor.WebCursos.domain.entity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.time.LocalDateTime;
 
@@ -9,33 +10,34 @@ import org.junit.jupiter.api.Test;
 
 import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
 import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+import com.morangosdoamor.WebCursos.domain.valueobject.EstatisticasAluno;
 
 class AlunoEntityTest {
 
     @Test
-    void deveCalcularTotalDeCursosAprovados() {
+    void deveObterTotalDeCursosAprovadosDasEstatisticas() {
         Aluno aluno = Aluno.builder()
             .nome("Maria")
             .email(new Email("maria@example.com"))
             .matricula("MAT123")
             .criadoEm(LocalDateTime.now())
+            .estatisticas(new EstatisticasAluno(3, 2, 1, 14.0))
             .build();
 
-        Matricula matriculaAprovada = Matricula.builder()
-            .status(MatriculaStatus.CONCLUIDO)
-            .notaFinal(9.0)
-            .build();
-        matriculaAprovada.concluir(9.0);
+        assertEquals(1, aluno.totalCursosAprovados());
+        assertEquals(7.0, aluno.getEstatisticas().getMediaNotas());
+    }
 
-        Matricula matriculaReprovada = Matricula.builder()
-            .status(MatriculaStatus.MATRICULADO)
-            .notaFinal(5.0)
+    @Test
+    void deveIniciarEstatisticasZeradasSemMedia() {
+        Aluno aluno = Aluno.builder()
+            .nome("Maria")
+            .email(new Email("maria@example.com"))
+            .matricula("MAT123")
             .build();
 
-        aluno.adicionarMatricula(matriculaAprovada);
-        aluno.adicionarMatricula(matriculaReprovada);
-
-        assertEquals(1, aluno.totalCursosAprovados());
+        assertEquals(0, aluno.totalCursosAprovados());
+        assertNull(aluno.getEstatisticas().getMediaNotas());
     }
 
     @Test
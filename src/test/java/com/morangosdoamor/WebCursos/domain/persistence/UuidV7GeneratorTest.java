@@ -0,0 +1,57 @@
+package com.morangosdoamor.WebCursos.domain.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    private final AtomicLong relogio = new AtomicLong(1_700_000_000_000L);
+    private final UuidV7Generator generator = new UuidV7Generator(relogio::get);
+
+    @Test
+    void deveGerarUuidVersao7ComVarianteIetf() {
+        UUID uuid = new UuidV7Generator().gerar();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void deveCodificarTimestampEmMilissegundosNosPrimeiros48Bits() {
+        UUID uuid = generator.gerar();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void deveGerarIdsEstritamenteCrescentesNoMesmoMilissegundo() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            ids.add(generator.gerar());
+        }
+
+        // Ordem de bytes (unsigned), a mesma usada pelo PostgreSQL e pelo H2 para colunas uuid
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(),
+                ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+        assertThat(ids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void naoDeveRetrocederQuandoRelogioVoltaNoTempo() {
+        UUID anterior = generator.gerar();
+        relogio.addAndGet(-60_000);
+
+        UUID posterior = generator.gerar();
+
+        assertThat(Long.compareUnsigned(posterior.getMostSignificantBits(), anterior.getMostSignificantBits()))
+            .isPositive();
+    }
+}
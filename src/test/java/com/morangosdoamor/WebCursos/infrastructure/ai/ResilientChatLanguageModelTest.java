@@ -0,0 +1,198 @@
+package com.morangosdoamor.WebCursos.infrastructure.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ResilientChatLanguageModel")
+class ResilientChatLanguageModelTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong relogio = new AtomicLong();
+    private ResilientChatLanguageModel model;
+
+    @AfterEach
+    void tearDown() {
+        if (model != null) {
+            model.close();
+        }
+    }
+
+    private ResilientChatLanguageModel criar(ChatLanguageModel stub, int maxConcorrentes, long timeoutMs, int limiteFalhas) {
+        model = new ResilientChatLanguageModel(stub, registry, maxConcorrentes, 0, timeoutMs, limiteFalhas, 1000, relogio::get);
+        return model;
+    }
+
+    private static ChatLanguageModel respondendo(String texto) {
+        return messages -> Response.from(AiMessage.from(texto));
+    }
+
+    private static ChatLanguageModel falhando(AtomicInteger chamadas) {
+        return messages -> {
+            chamadas.incrementAndGet();
+            throw new IllegalStateException("Gemini indisponível");
+        };
+    }
+
+    private double contador(String nome, String motivo) {
+        return motivo == null
+            ? registry.get(nome).counter().count()
+            : registry.get(nome).tag("motivo", motivo).counter().count();
+    }
+
+    @Test
+    @DisplayName("deve repassar a resposta do modelo")
+    void deveRepassarRespostaDoModelo() {
+        criar(respondendo("Olá"), 2, 1000, 3);
+
+        assertThat(model.generate("prompt")).isEqualTo("Olá");
+        assertThat(registry.get("ai.chat.circuito.aberto").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("deve abandonar a chamada que excede o prazo")
+    void deveAbandonarChamadaQueExcedePrazo() {
+        CountDownLatch liberar = new CountDownLatch(1);
+        criar(messages -> {
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Response.from(AiMessage.from("tarde demais"));
+        }, 1, 50, 3);
+
+        assertThatThrownBy(() -> model.generate("prompt"))
+            .isInstanceOf(ChatModelIndisponivelException.class)
+            .hasMessageContaining("50 ms");
+        assertThat(contador("ai.chat.timeouts", null)).isEqualTo(1.0);
+        liberar.countDown();
+    }
+
+    @Test
+    @DisplayName("deve recusar chamadas além do limite de concorrência")
+    void deveRecusarChamadasAlemDoLimite() throws Exception {
+        CountDownLatch emAndamento = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        criar(messages -> {
+            emAndamento.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Response.from(AiMessage.from("ok"));
+        }, 1, 5000, 3);
+
+        CompletableFuture<String> primeira = CompletableFuture.supplyAsync(() -> model.generate("primeira"));
+        assertThat(emAndamento.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> model.generate("segunda"))
+            .isInstanceOf(ChatModelIndisponivelException.class);
+        assertThat(contador("ai.chat.rejeicoes", "bulkhead")).isEqualTo(1.0);
+        assertThat(registry.get("ai.chat.chamadas.ativas").gauge().value()).isEqualTo(1.0);
+
+        liberar.countDown();
+        assertThat(primeira.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("deve devolver a vaga de chamada cancelada antes de começar a executar")
+    void deveDevolverVagaDeChamadaCanceladaNaFila() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch liberarExecutor = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                liberarExecutor.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicInteger chamadas = new AtomicInteger();
+        model = new ResilientChatLanguageModel(messages -> {
+            chamadas.incrementAndGet();
+            return Response.from(AiMessage.from("ok"));
+        }, registry, 1, 0, 50, 3, 1000, relogio::get, executor);
+
+        // A tarefa fica na fila do executor ocupado até o prazo e é cancelada sem executar
+        assertThatThrownBy(() -> model.generate("na fila"))
+            .isInstanceOf(ChatModelIndisponivelException.class)
+            .hasMessageContaining("50 ms");
+        liberarExecutor.countDown();
+
+        assertThat(model.generate("seguinte")).isEqualTo("ok");
+        assertThat(chamadas).hasValue(1);
+        assertThat(contador("ai.chat.rejeicoes", "bulkhead")).isZero();
+    }
+
+    @Nested
+    @DisplayName("Circuit breaker")
+    class CircuitBreaker {
+
+        @Test
+        @DisplayName("deve abrir após falhas consecutivas e recusar sem chamar o modelo")
+        void deveAbrirAposFalhasConsecutivas() {
+            AtomicInteger chamadas = new AtomicInteger();
+            criar(falhando(chamadas), 2, 1000, 2);
+
+            assertThatThrownBy(() -> model.generate("1")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> model.generate("2")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> model.generate("3")).isInstanceOf(ChatModelIndisponivelException.class);
+
+            assertThat(chamadas).hasValue(2);
+            assertThat(contador("ai.chat.rejeicoes", "circuito")).isEqualTo(1.0);
+            assertThat(registry.get("ai.chat.circuito.aberto").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("deve fechar quando a chamada de teste após o período aberto tem sucesso")
+        void deveFecharAposChamadaDeTesteComSucesso() {
+            AtomicInteger chamadas = new AtomicInteger();
+            criar(messages -> {
+                if (chamadas.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Gemini indisponível");
+                }
+                return Response.from(AiMessage.from("voltou"));
+            }, 2, 1000, 1);
+
+            assertThatThrownBy(() -> model.generate("1")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> model.generate("2")).isInstanceOf(ChatModelIndisponivelException.class);
+
+            relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+            assertThat(model.generate("3")).isEqualTo("voltou");
+            assertThat(model.circuitoAberto()).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve reabrir quando a chamada de teste falha")
+        void deveReabrirQuandoChamadaDeTesteFalha() {
+            AtomicInteger chamadas = new AtomicInteger();
+            criar(falhando(chamadas), 2, 1000, 1);
+
+            assertThatThrownBy(() -> model.generate("1")).isInstanceOf(IllegalStateException.class);
+            relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+            assertThatThrownBy(() -> model.generate("2")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> model.generate("3")).isInstanceOf(ChatModelIndisponivelException.class);
+
+            assertThat(chamadas).hasValue(2);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.morangosdoamor.WebCursos.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AiRecommendationCacheTest {
+
+    private final AiRecommendationCache cache = new AiRecommendationCache(new SimpleMeterRegistry(), 100, 60);
+
+    @Test
+    void deveGerarMesmaChaveParaPromptsComEspacamentoDiferente() {
+        assertThat(AiRecommendationCache.fingerprint("Olá,  João\n\nCursos: JAVA001 "))
+            .isEqualTo(AiRecommendationCache.fingerprint("Olá, João Cursos: JAVA001"))
+            .hasSize(64);
+    }
+
+    @Test
+    void deveGerarChavesDiferentesParaPromptsDiferentes() {
+        assertThat(AiRecommendationCache.fingerprint("Curso JAVA001"))
+            .isNotEqualTo(AiRecommendationCache.fingerprint("Curso SPRING001"));
+    }
+
+    @Test
+    void deveArmazenarEBuscarRecomendacao() {
+        String chave = AiRecommendationCache.fingerprint("prompt");
+
+        assertThat(cache.buscar(chave)).isEmpty();
+        cache.armazenar(chave, "Recomendação");
+        assertThat(cache.buscar(chave)).contains("Recomendação");
+    }
+}
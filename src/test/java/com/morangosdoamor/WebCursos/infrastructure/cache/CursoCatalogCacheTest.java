@@ -0,0 +1,107 @@
+package com.morangosdoamor.WebCursos.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CursoCatalogCacheTest {
+
+    @Mock
+    private CursoRepository cursoRepository;
+
+    private CursoCatalogCache cache;
+
+    private final Curso curso = Curso.builder()
+        .id(UUID.randomUUID())
+        .codigo("JAVA001")
+        .nome("Java")
+        .descricao("Desc")
+        .cargaHoraria(new CargaHoraria(40))
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        cache = new CursoCatalogCache(cursoRepository, 100);
+    }
+
+    @Test
+    void deveConsultarBancoApenasNaPrimeiraBusca() {
+        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+
+        assertThat(cache.buscarPorCodigo("JAVA001")).contains(curso);
+        assertThat(cache.buscarPorCodigo("JAVA001")).contains(curso);
+
+        verify(cursoRepository, times(1)).findByCodigo("JAVA001");
+    }
+
+    @Test
+    void naoDeveArmazenarCodigoInexistente() {
+        when(cursoRepository.findByCodigo("JAVA999")).thenReturn(Optional.empty());
+
+        assertThat(cache.buscarPorCodigo("JAVA999")).isEmpty();
+        assertThat(cache.buscarPorCodigo("JAVA999")).isEmpty();
+
+        verify(cursoRepository, times(2)).findByCodigo("JAVA999");
+    }
+
+    @Test
+    void deveRecarregarCursoAposInvalidacao() {
+        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+
+        cache.buscarPorCodigo("JAVA001");
+        cache.invalidar("JAVA001");
+        cache.buscarPorCodigo("JAVA001");
+
+        verify(cursoRepository, times(2)).findByCodigo("JAVA001");
+    }
+
+    @Test
+    void deveRecarregarCursoAposInvalidacaoTotal() {
+        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+
+        cache.buscarPorCodigo("JAVA001");
+        cache.invalidarTudo();
+        cache.buscarPorCodigo("JAVA001");
+
+        verify(cursoRepository, times(2)).findByCodigo("JAVA001");
+    }
+
+    @Test
+    void deveBuscarCodigosAusentesEmUmaUnicaConsulta() {
+        Curso spring = Curso.builder()
+            .id(UUID.randomUUID())
+            .codigo("SPRING001")
+            .nome("Spring")
+            .descricao("Desc")
+            .cargaHoraria(new CargaHoraria(60))
+            .build();
+        when(cursoRepository.findByCodigo("JAVA001")).thenReturn(Optional.of(curso));
+        when(cursoRepository.findAllByCodigoIn(Set.of("SPRING001", "JAVA999"))).thenReturn(List.of(spring));
+        cache.buscarPorCodigo("JAVA001");
+
+        Map<String, Curso> cursos = cache.buscarPorCodigos(List.of("JAVA001", "SPRING001", "JAVA999"));
+
+        assertThat(cursos).containsOnly(Map.entry("JAVA001", curso), Map.entry("SPRING001", spring));
+        assertThat(cache.buscarPorCodigo("SPRING001")).contains(spring);
+        verify(cursoRepository, never()).findByCodigo("SPRING001");
+    }
+}
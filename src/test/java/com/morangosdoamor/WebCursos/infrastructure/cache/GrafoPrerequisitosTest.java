@@ -0,0 +1,160 @@
+package com.morangosdoamor.WebCursos.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.morangosdoamor.WebCursos.domain.exception.BusinessRuleException;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
+import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository.ArestaPrerequisito;
+
+@ExtendWith(MockitoExtension.class)
+class GrafoPrerequisitosTest {
+
+    @Mock
+    private CursoRepository cursoRepository;
+
+    private GrafoPrerequisitos grafo;
+
+    @BeforeEach
+    void setUp() {
+        grafo = new GrafoPrerequisitos(cursoRepository);
+    }
+
+    private static ArestaPrerequisito aresta(String codigo, String prerequisito) {
+        return new ArestaPrerequisito() {
+            @Override
+            public String getCodigo() {
+                return codigo;
+            }
+
+            @Override
+            public String getPrerequisito() {
+                return prerequisito;
+            }
+        };
+    }
+
+    /**
+     * JAVA001 ← SPRING001 ← MICRO001 (e MICRO001 também exige DOCKER001).
+     */
+    private void catalogoEmCadeia() {
+        when(cursoRepository.findAllArestasPrerequisitos()).thenReturn(List.of(
+            aresta("JAVA001", null),
+            aresta("DOCKER001", null),
+            aresta("SPRING001", "JAVA001"),
+            aresta("MICRO001", "SPRING001"),
+            aresta("MICRO001", "DOCKER001")));
+    }
+
+    @Test
+    void deveExigirPrerequisitosDiretosEIndiretos() {
+        catalogoEmCadeia();
+
+        assertThat(grafo.pendentes("MICRO001", List.of())).containsExactly("DOCKER001", "JAVA001", "SPRING001");
+        assertThat(grafo.pendentes("MICRO001", List.of("JAVA001", "DOCKER001"))).containsExactly("SPRING001");
+        assertThat(grafo.pendentes("SPRING001", List.of("JAVA001"))).isEmpty();
+        assertThat(grafo.possuiPrerequisitos("MICRO001")).isTrue();
+        assertThat(grafo.possuiPrerequisitos("JAVA001")).isFalse();
+    }
+
+    @Test
+    void deveLiberarCursosPeloHistorico() {
+        catalogoEmCadeia();
+
+        assertThat(Stream.of("JAVA001", "DOCKER001", "SPRING001", "MICRO001", "NOVO001")
+                .filter(grafo.liberados(List.of("JAVA001"))))
+            .containsExactly("JAVA001", "DOCKER001", "SPRING001", "NOVO001");
+        assertThat(Stream.of("JAVA001", "DOCKER001", "SPRING001", "MICRO001")
+                .filter(grafo.liberados(List.of())))
+            .containsExactly("JAVA001", "DOCKER001");
+    }
+
+    @Test
+    void deveIgnorarPrerequisitoQueNaoECursoCadastrado() {
+        when(cursoRepository.findAllArestasPrerequisitos()).thenReturn(List.of(
+            aresta("SPRING001", "LEGADO001")));
+
+        assertThat(grafo.possuiPrerequisitos("SPRING001")).isFalse();
+        assertThat(grafo.pendentes("SPRING001", List.of())).isEmpty();
+    }
+
+    @Test
+    void deveRecusarPrerequisitosQueFormamCiclo() {
+        catalogoEmCadeia();
+
+        assertThatThrownBy(() -> grafo.validarPrerequisitos("JAVA001", Set.of("MICRO001")))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessageContaining("'MICRO001' já depende de 'JAVA001'");
+        assertThatThrownBy(() -> grafo.validarPrerequisitos("JAVA001", Set.of("JAVA001")))
+            .isInstanceOf(BusinessRuleException.class);
+        grafo.validarPrerequisitos("JAVA001", Set.of("DOCKER001"));
+    }
+
+    @Test
+    void deveBloquearCursosEmCicloExistenteNoBanco() {
+        when(cursoRepository.findAllArestasPrerequisitos()).thenReturn(List.of(
+            aresta("A001", "B001"),
+            aresta("B001", "A001"),
+            aresta("C001", "A001")));
+
+        assertThat(Stream.of("A001", "B001", "C001").allMatch(grafo.liberados(List.of("A001", "B001")))).isTrue();
+        assertThat(grafo.pendentes("A001", List.of())).containsExactly("A001", "B001");
+        assertThat(grafo.pendentes("C001", List.of("B001"))).containsExactly("A001");
+    }
+
+    @Test
+    void deveAtualizarDependentesIncrementalmente() {
+        catalogoEmCadeia();
+        grafo.possuiPrerequisitos("JAVA001");
+        when(cursoRepository.findArestasPrerequisitosByCodigo("SPRING001"))
+            .thenReturn(List.of(aresta("SPRING001", null)));
+
+        grafo.recarregar("SPRING001");
+
+        assertThat(grafo.pendentes("SPRING001", List.of())).isEmpty();
+        assertThat(grafo.pendentes("MICRO001", List.of())).containsExactly("DOCKER001", "SPRING001");
+        verify(cursoRepository, times(1)).findAllArestasPrerequisitos();
+    }
+
+    @Test
+    void deveIncluirNovoCursoEDesconsiderarCursoExcluido() {
+        catalogoEmCadeia();
+        grafo.possuiPrerequisitos("JAVA001");
+        when(cursoRepository.findArestasPrerequisitosByCodigo("K8S001"))
+            .thenReturn(List.of(aresta("K8S001", "MICRO001")));
+        when(cursoRepository.findArestasPrerequisitosByCodigo("DOCKER001")).thenReturn(List.of());
+
+        grafo.recarregar("K8S001");
+        grafo.recarregar("DOCKER001");
+
+        assertThat(grafo.pendentes("K8S001", List.of("JAVA001"))).containsExactly("MICRO001", "SPRING001");
+        assertThat(grafo.pendentes("MICRO001", List.of("JAVA001", "SPRING001"))).isEmpty();
+        assertThatThrownBy(() -> grafo.validarPrerequisitos("JAVA001", Set.of("K8S001")))
+            .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void deveReconstruirGrafoAposInvalidacaoTotal() {
+        catalogoEmCadeia();
+        grafo.possuiPrerequisitos("JAVA001");
+
+        grafo.invalidarTudo();
+        grafo.recarregar("SPRING001");
+        grafo.possuiPrerequisitos("JAVA001");
+
+        verify(cursoRepository, times(2)).findAllArestasPrerequisitos();
+    }
+}
@@ -0,0 +1,35 @@
+package com.morangosdoamor.WebCursos.infrastructure.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MailConfigTest {
+
+    @Test
+    void deveCriarPooledJavaMailSenderComPropriedadesDoSpringMail() {
+        MailConfig config = new MailConfig();
+        ReflectionTestUtils.setField(config, "maxConexoes", 2);
+        ReflectionTestUtils.setField(config, "esperaMaxMs", 1000L);
+        ReflectionTestUtils.setField(config, "maxMensagensPorConexao", 50);
+        ReflectionTestUtils.setField(config, "ociosoMaxMs", 5000L);
+        MailProperties properties = new MailProperties();
+        properties.setHost("smtp.webcursos.com");
+        properties.setPort(587);
+        properties.setUsername("usuario");
+        properties.setPassword("senha");
+        properties.getProperties().put("mail.smtp.starttls.enable", "true");
+
+        PooledJavaMailSender sender = config.mailSender(properties);
+
+        assertThat(sender.getHost()).isEqualTo("smtp.webcursos.com");
+        assertThat(sender.getPort()).isEqualTo(587);
+        assertThat(sender.getUsername()).isEqualTo("usuario");
+        assertThat(sender.getPassword()).isEqualTo("senha");
+        assertThat(sender.getDefaultEncoding()).isEqualTo("UTF-8");
+        assertThat(sender.getJavaMailProperties()).containsEntry("mail.smtp.starttls.enable", "true");
+        assertThat(sender.getSessoesOciosas()).isZero();
+    }
+}
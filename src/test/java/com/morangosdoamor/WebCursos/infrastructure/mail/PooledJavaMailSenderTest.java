@@ -0,0 +1,152 @@
+package com.morangosdoamor.WebCursos.infrastructure.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.morangosdoamor.WebCursos.application.service.EmailService;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Testes do pool de sessões SMTP contra um servidor GreenMail local.
+ */
+@DisplayName("PooledJavaMailSender")
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final AtomicInteger conexoes = new AtomicInteger();
+    private PooledJavaMailSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.destroy();
+        }
+    }
+
+    private PooledJavaMailSender criar(int maxMensagensPorConexao, long ociosoMaxMs, int porta) {
+        sender = new PooledJavaMailSender(2, 1000, maxMensagensPorConexao, ociosoMaxMs) {
+            @Override
+            protected Transport connectTransport() throws MessagingException {
+                conexoes.incrementAndGet();
+                return super.connectTransport();
+            }
+        };
+        sender.setHost("localhost");
+        sender.setPort(porta);
+        sender.setDefaultEncoding("UTF-8");
+        return sender;
+    }
+
+    private PooledJavaMailSender criar(int maxMensagensPorConexao) {
+        return criar(maxMensagensPorConexao, 30_000, ServerSetupTest.SMTP.getPort());
+    }
+
+    private static SimpleMailMessage mensagem(String destinatario) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@webcursos.com");
+        message.setTo(destinatario);
+        message.setSubject("Assunto " + destinatario);
+        message.setText("Corpo");
+        return message;
+    }
+
+    @Test
+    @DisplayName("deve enviar todas as mensagens do lote pela mesma sessão")
+    void deveEnviarLoteNaMesmaSessao() {
+        criar(100).send(mensagem("a@email.com"), mensagem("b@email.com"), mensagem("c@email.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(conexoes).hasValue(1);
+        assertThat(sender.getSessoesOciosas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deve reutilizar a sessão entre chamadas consecutivas")
+    void deveReutilizarSessaoEntreChamadas() {
+        criar(100);
+
+        sender.send(mensagem("a@email.com"));
+        sender.send(mensagem("b@email.com"));
+        sender.send(mensagem("c@email.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(conexoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("deve renovar a sessão ao atingir o limite de mensagens por conexão")
+    void deveRenovarSessaoAoAtingirLimite() {
+        criar(2).send(mensagem("a@email.com"), mensagem("b@email.com"), mensagem("c@email.com"),
+            mensagem("d@email.com"), mensagem("e@email.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(conexoes).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("deve descartar sessões ociosas além do tempo máximo")
+    void deveDescartarSessoesOciosas() throws InterruptedException {
+        criar(100, 1, ServerSetupTest.SMTP.getPort());
+
+        sender.send(mensagem("a@email.com"));
+        Thread.sleep(20);
+        sender.send(mensagem("b@email.com"));
+
+        assertThat(conexoes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("deve reportar todas as mensagens como falhas quando o servidor está indisponível")
+    void deveReportarFalhasQuandoServidorIndisponivel() {
+        criar(100, 30_000, ServerSetupTest.SMTP.getPort() + 1000);
+        SimpleMailMessage primeira = mensagem("a@email.com");
+        SimpleMailMessage segunda = mensagem("b@email.com");
+
+        assertThatThrownBy(() -> sender.send(primeira, segunda))
+            .isInstanceOfSatisfying(MailSendException.class, e ->
+                assertThat(e.getFailedMessages()).containsOnlyKeys(primeira, segunda));
+        assertThat(sender.getSessoesOciosas()).isZero();
+    }
+
+    @Test
+    @DisplayName("deve entregar lote do EmailService em uma única sessão")
+    void deveEntregarLoteDoEmailService() throws MessagingException {
+        EmailService emailService = new EmailService(criar(100));
+        ReflectionTestUtils.setField(emailService, "fromAddress", "noreply@webcursos.com");
+        List<EmailNotificationEvent> notificacoes = List.of(
+            EmailNotificationEvent.forCourseCompletion(UUID.randomUUID(), "ana@email.com", "Ana", "Java", "Parabéns, Ana!",
+                UUID.randomUUID(), UUID.randomUUID()),
+            EmailNotificationEvent.forCourseCompletion(UUID.randomUUID(), "bruno@email.com", "Bruno", "SQL", "Parabéns, Bruno!",
+                UUID.randomUUID(), UUID.randomUUID())
+        );
+
+        List<EmailNotificationEvent> naoEntregues = emailService.sendBatch(notificacoes);
+
+        MimeMessage[] recebidas = greenMail.getReceivedMessages();
+        assertThat(naoEntregues).isEmpty();
+        assertThat(recebidas).hasSize(2);
+        assertThat(recebidas[0].getSubject()).isEqualTo("Parabéns pela conclusão do curso Java!");
+        assertThat(recebidas[1].getAllRecipients()[0].toString()).isEqualTo("bruno@email.com");
+        assertThat(conexoes).hasValue(1);
+    }
+}
@@ -1,16 +1,32 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa.EncaminhadorRetentativas;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Testes unitários de configuração do RabbitMQ.
@@ -21,12 +37,16 @@ class RabbitMQConfigTest {
 
     private RabbitMQConfig config;
 
+    private final EncaminhadorRetentativas encaminhador = new EncaminhadorRetentativas(
+        mock(RabbitTemplate.class), new SimpleMeterRegistry(), List.of(1000L, 10000L), "curso.concluido.dlq");
+
     private static final String EXCHANGE_NAME = "webcursos.exchange";
     private static final String AI_QUEUE_NAME = "curso.concluido.ai-recommendation";
     private static final String EMAIL_QUEUE_NAME = "curso.concluido.email-notification";
     private static final String DLQ_NAME = "curso.concluido.dlq";
     private static final String ROUTING_KEY = "curso.concluido";
     private static final String EMAIL_ROUTING_KEY = "curso.concluido.email";
+    private static final String CATALOGO_ROUTING_KEY = "curso.catalogo.invalidado";
 
     @BeforeEach
     void setUp() {
@@ -37,6 +57,19 @@ class RabbitMQConfigTest {
         ReflectionTestUtils.setField(config, "dlqName", DLQ_NAME);
         ReflectionTestUtils.setField(config, "routingKey", ROUTING_KEY);
         ReflectionTestUtils.setField(config, "emailRoutingKey", EMAIL_ROUTING_KEY);
+        ReflectionTestUtils.setField(config, "catalogoRoutingKey", CATALOGO_ROUTING_KEY);
+        ReflectionTestUtils.setField(config, "aiRecommendationBatchSize", 25);
+        ReflectionTestUtils.setField(config, "aiRecommendationBatchReceiveTimeoutMs", 500L);
+        ReflectionTestUtils.setField(config, "aiRecommendationMinConsumidores", 4);
+        ReflectionTestUtils.setField(config, "aiRecommendationMaxConsumidores", 8);
+        ReflectionTestUtils.setField(config, "aiMaxConcorrentes", 8);
+        ReflectionTestUtils.setField(config, "aiRecommendationPrefetch", 1);
+        ReflectionTestUtils.setField(config, "aiRecommendationMensagensPorConsumidor", 5);
+        ReflectionTestUtils.setField(config, "emailNotificationMinConsumidores", 2);
+        ReflectionTestUtils.setField(config, "emailNotificationMaxConsumidores", 1);
+        ReflectionTestUtils.setField(config, "emailNotificationPrefetch", 20);
+        ReflectionTestUtils.setField(config, "emailNotificationMensagensPorConsumidor", 50);
+        ReflectionTestUtils.setField(config, "retryAtrasosMs", List.of(1000L, 10000L));
     }
 
     @Test
@@ -108,6 +141,121 @@ class RabbitMQConfigTest {
         assertThat(binding.getRoutingKey()).isEqualTo(EMAIL_ROUTING_KEY);
     }
 
+    @Test
+    void deveConfigurarFilaDeInvalidacaoDoCatalogoPorNo() {
+        Queue queue = config.cursoCatalogoInvalidacaoQueue();
+        TopicExchange exchange = config.webcursosExchange();
+
+        Binding binding = config.cursoCatalogoInvalidacaoBinding(queue, exchange);
+
+        assertThat(queue.isExclusive()).isTrue();
+        assertThat(queue.isAutoDelete()).isTrue();
+        assertThat(queue.isDurable()).isFalse();
+        assertThat(binding.getExchange()).isEqualTo(EXCHANGE_NAME);
+        assertThat(binding.getDestination()).isEqualTo(queue.getName());
+        assertThat(binding.getRoutingKey()).isEqualTo(CATALOGO_ROUTING_KEY);
+    }
+
+    @Test
+    void deveConfigurarContainerFactoryDeConsumoEmLote() {
+        SimpleRabbitListenerContainerFactoryConfigurer configurer =
+            new SimpleRabbitListenerContainerFactoryConfigurer(new RabbitProperties());
+
+        SimpleRabbitListenerContainerFactory factory =
+            config.aiRecommendationBatchContainerFactory(configurer, mock(ConnectionFactory.class), encaminhador,
+                config.consumoAiRecommendation());
+        SimpleMessageListenerContainer container = factory.createListenerContainer();
+
+        assertThat(container.isConsumerBatchEnabled()).isTrue();
+        assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(4);
+        assertThat(ReflectionTestUtils.getField(container, "batchSize")).isEqualTo(25);
+        assertThat(ReflectionTestUtils.getField(container, "receiveTimeout")).isEqualTo(500L);
+        assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(25);
+    }
+
+    @Test
+    void deveConfigurarContainerFactoryDaFilaDeIA() {
+        SimpleRabbitListenerContainerFactoryConfigurer configurer =
+            new SimpleRabbitListenerContainerFactoryConfigurer(new RabbitProperties());
+        Executor executor = new SimpleAsyncTaskExecutor("consumidor-");
+        configurer.setTaskExecutor(executor);
+
+        SimpleRabbitListenerContainerFactory factory =
+            config.aiRecommendationContainerFactory(configurer, mock(ConnectionFactory.class), encaminhador,
+                config.consumoAiRecommendation());
+        SimpleMessageListenerContainer container = factory.createListenerContainer();
+
+        assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(4);
+        assertThat(ReflectionTestUtils.getField(container, "maxConcurrentConsumers")).isEqualTo(8);
+        assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(1);
+        assertThat(ReflectionTestUtils.getField(container, "taskExecutor")).isSameAs(executor);
+        assertThat((Object[]) ReflectionTestUtils.getField(container, "adviceChain")).hasSize(1);
+        assertThat(ReflectionTestUtils.getField(container, "defaultRequeueRejected")).isEqualTo(false);
+    }
+
+    @Test
+    void deveConfigurarContainerFactoryDaFilaDeEmailComParametrosProprios() {
+        SimpleRabbitListenerContainerFactoryConfigurer configurer =
+            new SimpleRabbitListenerContainerFactoryConfigurer(new RabbitProperties());
+        ConsumoFila consumo = config.consumoEmailNotification();
+
+        SimpleMessageListenerContainer container = config.emailNotificationContainerFactory(configurer,
+                mock(ConnectionFactory.class), encaminhador, consumo)
+            .createListenerContainer();
+
+        assertThat(consumo.listenerId()).isEqualTo("email-notification");
+        assertThat(consumo.fila()).isEqualTo(EMAIL_QUEUE_NAME);
+        // Máximo menor que o mínimo é elevado ao mínimo
+        assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(2);
+        assertThat(ReflectionTestUtils.getField(container, "maxConcurrentConsumers")).isEqualTo(2);
+        assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(20);
+    }
+
+    @Test
+    void deveCalcularConsumidoresPelaProfundidadeDaFila() {
+        ConsumoFila consumo = config.consumoAiRecommendation();
+
+        assertThat(consumo.consumidoresPara(0)).isEqualTo(4);
+        assertThat(consumo.consumidoresPara(31)).isEqualTo(7);
+        assertThat(consumo.consumidoresPara(100_000)).isEqualTo(8);
+    }
+
+    @Test
+    void deveRecusarConsumidoresDeIAAcimaDasChamadasSimultaneasAoGemini() {
+        ReflectionTestUtils.setField(config, "aiRecommendationMaxConsumidores", 9);
+
+        assertThatThrownBy(config::consumoAiRecommendation)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("max-concorrentes (8)");
+
+        // Máximo menor que o mínimo é elevado ao mínimo antes da verificação
+        ReflectionTestUtils.setField(config, "aiRecommendationMinConsumidores", 10);
+        ReflectionTestUtils.setField(config, "aiRecommendationMaxConsumidores", 1);
+
+        assertThatThrownBy(config::consumoAiRecommendation)
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void deveConfigurarFilasDeRetentativaQueDevolvemParaAFilaDeTrabalho() {
+        Declarables declarables = config.filasRetentativa();
+
+        List<Queue> filas = declarables.getDeclarablesByType(Queue.class);
+
+        assertThat(filas).extracting(Queue::getName).containsExactly(
+            AI_QUEUE_NAME + ".retry.1000ms", AI_QUEUE_NAME + ".retry.10000ms",
+            EMAIL_QUEUE_NAME + ".retry.1000ms", EMAIL_QUEUE_NAME + ".retry.10000ms");
+        Queue primeira = filas.get(0);
+        assertThat(primeira.isDurable()).isTrue();
+        assertThat(primeira.getArguments())
+            .containsEntry("x-message-ttl", 1000L)
+            .containsEntry("x-dead-letter-exchange", "")
+            .containsEntry("x-dead-letter-routing-key", AI_QUEUE_NAME);
+        assertThat(filas.get(3).getArguments())
+            .containsEntry("x-message-ttl", 10000L)
+            .containsEntry("x-dead-letter-routing-key", EMAIL_QUEUE_NAME);
+    }
+
     @Test
     void deveConfigurarObjectMapperCorretamente() {
         ObjectMapper mapper = config.objectMapper();
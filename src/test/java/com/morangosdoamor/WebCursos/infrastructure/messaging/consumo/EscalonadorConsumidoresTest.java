@@ -0,0 +1,98 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.consumo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import com.morangosdoamor.WebCursos.infrastructure.messaging.config.ConsumoFila;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class EscalonadorConsumidoresTest {
+
+    private static final String FILA = "curso.concluido.ai-recommendation";
+    private static final ConsumoFila CONSUMO = new ConsumoFila("ai-recommendation", FILA, 1, 10, 1, 5);
+
+    @Mock
+    private RabbitListenerEndpointRegistry registry;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private SimpleMessageListenerContainer container;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EscalonadorConsumidores escalonador(boolean habilitado) {
+        return new EscalonadorConsumidores(registry, amqpAdmin, meterRegistry, List.of(CONSUMO), habilitado);
+    }
+
+    private void containerRegistrado() {
+        when(registry.getListenerContainer("ai-recommendation")).thenReturn(container);
+    }
+
+    @Test
+    void deveAjustarConsumidoresPelaProfundidadeDaFila() {
+        containerRegistrado();
+        when(amqpAdmin.getQueueInfo(FILA)).thenReturn(
+            new QueueInformation(FILA, 23, 1),
+            new QueueInformation(FILA, 22, 5),
+            new QueueInformation(FILA, 0, 5));
+        EscalonadorConsumidores escalonador = escalonador(true);
+
+        escalonador.ajustar();
+        escalonador.ajustar();
+        escalonador.ajustar();
+
+        verify(container, times(1)).setConcurrentConsumers(5);
+        verify(container).setConcurrentConsumers(1);
+        assertThat(meterRegistry.get("webcursos.listener.fila.profundidade").tag("fila", FILA).gauge().value())
+            .isZero();
+    }
+
+    @Test
+    void deveIgnorarFilaQuandoLeituraFalha() {
+        containerRegistrado();
+        when(amqpAdmin.getQueueInfo(FILA)).thenThrow(new AmqpIOException(new IOException("broker indisponível")));
+
+        escalonador(true).ajustar();
+
+        verify(container, never()).setConcurrentConsumers(anyInt());
+    }
+
+    @Test
+    void naoDeveAjustarQuandoDesabilitado() {
+        escalonador(false).ajustar();
+
+        verify(amqpAdmin, never()).getQueueInfo(anyString());
+    }
+
+    @Test
+    void devePublicarConsumidoresAtivos() {
+        containerRegistrado();
+        when(container.getActiveConsumerCount()).thenReturn(3);
+        escalonador(true);
+
+        assertThat(meterRegistry.get("webcursos.listener.consumidores.ativos").tag("fila", FILA).gauge().value())
+            .isEqualTo(3.0);
+    }
+}
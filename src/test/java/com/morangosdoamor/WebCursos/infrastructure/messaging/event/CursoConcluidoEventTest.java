@@ -32,6 +32,7 @@ class CursoConcluidoEventTest {
         LocalDateTime dataConclusao = LocalDateTime.now();
 
         CursoConcluidoEvent event = new CursoConcluidoEvent(
+            UUID.randomUUID(),
             alunoId,
             "João Silva",
             "joao@email.com",
@@ -68,6 +69,7 @@ class CursoConcluidoEventTest {
 
         assertThat(event.aprovado()).isTrue();
         assertThat(event.notaFinal()).isEqualTo(9.0);
+        assertThat(event.eventId()).isNotNull();
     }
 
     @Test
@@ -108,6 +110,7 @@ class CursoConcluidoEventTest {
         LocalDateTime dataConclusao = LocalDateTime.of(2025, 12, 4, 14, 30, 0);
 
         CursoConcluidoEvent event = new CursoConcluidoEvent(
+            UUID.fromString("770e8400-e29b-41d4-a716-446655440002"),
             alunoId, "João Silva", "joao.silva@email.com",
             cursoId, "Programação Java", "JAVA001",
             8.5, true, dataConclusao
@@ -115,6 +118,7 @@ class CursoConcluidoEventTest {
 
         String json = objectMapper.writeValueAsString(event);
 
+        assertThat(json).contains("\"eventId\":\"770e8400-e29b-41d4-a716-446655440002\"");
         assertThat(json).contains("\"alunoId\":\"550e8400-e29b-41d4-a716-446655440000\"");
         assertThat(json).contains("\"alunoNome\":\"João Silva\"");
         assertThat(json).contains("\"alunoEmail\":\"joao.silva@email.com\"");
@@ -153,5 +157,6 @@ class CursoConcluidoEventTest {
         assertThat(event.notaFinal()).isEqualTo(8.5);
         assertThat(event.aprovado()).isTrue();
         assertThat(event.dataConclusao()).isEqualTo(LocalDateTime.of(2025, 12, 4, 14, 30, 0));
+        assertThat(event.eventId()).isNull();
     }
 }
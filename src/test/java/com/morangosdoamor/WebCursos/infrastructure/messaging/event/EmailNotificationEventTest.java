@@ -24,6 +24,7 @@ class EmailNotificationEventTest {
 
             // Act
             EmailNotificationEvent event = new EmailNotificationEvent(
+                UUID.randomUUID(),
                 "joao@email.com",
                 "João Silva",
                 "Parabéns!",
@@ -55,6 +56,7 @@ class EmailNotificationEventTest {
 
             // Act
             EmailNotificationEvent event = EmailNotificationEvent.forCourseCompletion(
+                UUID.randomUUID(),
                 "maria@email.com",
                 "Maria Santos",
                 "Java Básico",
@@ -77,6 +79,7 @@ class EmailNotificationEventTest {
         void deveFormatarAssuntoComCaracteresEspeciais() {
             // Act
             EmailNotificationEvent event = EmailNotificationEvent.forCourseCompletion(
+                UUID.randomUUID(),
                 "test@email.com",
                 "Test User",
                 "C++ & Algorithms",
@@ -88,6 +91,39 @@ class EmailNotificationEventTest {
             // Assert
             assertThat(event.assunto()).isEqualTo("Parabéns pela conclusão do curso C++ & Algorithms!");
         }
+
+        @Test
+        @DisplayName("deve derivar o mesmo eventId para a mesma conclusão de origem")
+        void deveDerivarEventIdEstavelDaConclusaoDeOrigem() {
+            // Arrange
+            UUID eventoOrigemId = UUID.randomUUID();
+
+            // Act
+            EmailNotificationEvent primeira = EmailNotificationEvent.forCourseCompletion(
+                eventoOrigemId, "test@email.com", "Test User", "Java", "Recomendação A",
+                UUID.randomUUID(), UUID.randomUUID());
+            EmailNotificationEvent reprocessada = EmailNotificationEvent.forCourseCompletion(
+                eventoOrigemId, "test@email.com", "Test User", "Java", "Recomendação B",
+                UUID.randomUUID(), UUID.randomUUID());
+            EmailNotificationEvent outra = EmailNotificationEvent.forCourseCompletion(
+                UUID.randomUUID(), "test@email.com", "Test User", "Java", "Recomendação A",
+                UUID.randomUUID(), UUID.randomUUID());
+
+            // Assert
+            assertThat(primeira.eventId()).isEqualTo(reprocessada.eventId()).isNotEqualTo(eventoOrigemId);
+            assertThat(outra.eventId()).isNotEqualTo(primeira.eventId());
+        }
+
+        @Test
+        @DisplayName("deve gerar eventId quando a conclusão de origem não possui eventId")
+        void deveGerarEventIdSemConclusaoDeOrigem() {
+            // Act
+            EmailNotificationEvent event = EmailNotificationEvent.forCourseCompletion(
+                null, "test@email.com", "Test User", "Java", "Corpo", UUID.randomUUID(), UUID.randomUUID());
+
+            // Assert
+            assertThat(event.eventId()).isNotNull();
+        }
     }
 
     @Nested
@@ -98,13 +134,16 @@ class EmailNotificationEventTest {
         @DisplayName("dois eventos com mesmos valores devem ser iguais")
         void eventosComMesmosValoresDevemSerIguais() {
             // Arrange
+            UUID eventId = UUID.randomUUID();
             UUID alunoId = UUID.randomUUID();
             UUID cursoId = UUID.randomUUID();
 
             EmailNotificationEvent event1 = new EmailNotificationEvent(
+                eventId,
                 "email@test.com", "Nome", "Assunto", "Corpo", alunoId, cursoId
             );
             EmailNotificationEvent event2 = new EmailNotificationEvent(
+                eventId,
                 "email@test.com", "Nome", "Assunto", "Corpo", alunoId, cursoId
             );
 
@@ -118,10 +157,12 @@ class EmailNotificationEventTest {
         void eventosComValoresDiferentesNaoDevemSerIguais() {
             // Arrange
             EmailNotificationEvent event1 = new EmailNotificationEvent(
+                UUID.randomUUID(),
                 "email1@test.com", "Nome1", "Assunto1", "Corpo1", 
                 UUID.randomUUID(), UUID.randomUUID()
             );
             EmailNotificationEvent event2 = new EmailNotificationEvent(
+                UUID.randomUUID(),
                 "email2@test.com", "Nome2", "Assunto2", "Corpo2", 
                 UUID.randomUUID(), UUID.randomUUID()
             );
@@ -143,6 +184,7 @@ class EmailNotificationEventTest {
             UUID cursoId = UUID.randomUUID();
 
             EmailNotificationEvent event = new EmailNotificationEvent(
+                UUID.randomUUID(),
                 "test@email.com", "Test", "Subject", "Body", alunoId, cursoId
             );
 
@@ -0,0 +1,114 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.morangosdoamor.WebCursos.infrastructure.repository.EventoProcessadoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RegistroEventosProcessadosTest {
+
+    private static final String CONSUMIDOR = "email-notification";
+
+    @Mock
+    private EventoProcessadoRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistroEventosProcessados registro;
+
+    @BeforeEach
+    void setUp() {
+        registro = new RegistroEventosProcessados(repository, transactionManager, 100, 7);
+    }
+
+    @Test
+    void deveResponderDoCacheLocalAposRegistrar() {
+        UUID eventId = UUID.randomUUID();
+
+        registro.registrar(CONSUMIDOR, eventId);
+
+        assertThat(registro.jaProcessado(CONSUMIDOR, eventId)).isTrue();
+        assertThat(registro.jaProcessado("ai-recommendation", eventId)).isFalse();
+        verify(repository).registrar(eq(CONSUMIDOR), eq(eventId), any(LocalDateTime.class));
+        verify(repository, never()).existsById(new EventoProcessado.Chave(CONSUMIDOR, eventId));
+    }
+
+    @Test
+    void deveConsultarBancoApenasNaPrimeiraVerificacao() {
+        UUID eventId = UUID.randomUUID();
+        EventoProcessado.Chave chave = new EventoProcessado.Chave(CONSUMIDOR, eventId);
+        when(repository.existsById(chave)).thenReturn(true);
+
+        assertThat(registro.jaProcessado(CONSUMIDOR, eventId)).isTrue();
+        assertThat(registro.jaProcessado(CONSUMIDOR, eventId)).isTrue();
+
+        verify(repository, times(1)).existsById(chave);
+    }
+
+    @Test
+    void naoDeveConsiderarDuplicadoEventoSemEventId() {
+        assertThat(registro.jaProcessado(CONSUMIDOR, null)).isFalse();
+        assertThat(registro.processados(CONSUMIDOR, Arrays.asList(null, null))).isEmpty();
+        registro.registrar(CONSUMIDOR, (UUID) null);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveBuscarEventosAusentesDoCacheEmUmaUnicaConsulta() {
+        UUID emCache = UUID.randomUUID();
+        UUID noBanco = UUID.randomUUID();
+        UUID novo = UUID.randomUUID();
+        registro.registrar(CONSUMIDOR, emCache);
+        when(repository.findEventIdsProcessados(CONSUMIDOR, Set.of(noBanco, novo))).thenReturn(List.of(noBanco));
+
+        assertThat(registro.processados(CONSUMIDOR, List.of(emCache, noBanco, novo)))
+            .containsExactlyInAnyOrder(emCache, noBanco);
+        assertThat(registro.jaProcessado(CONSUMIDOR, noBanco)).isTrue();
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void deveManterRegistroLocalQuandoGravacaoNoBancoFalha() {
+        UUID eventId = UUID.randomUUID();
+        when(repository.registrar(eq(CONSUMIDOR), eq(eventId), any(LocalDateTime.class)))
+            .thenThrow(new DataAccessResourceFailureException("banco indisponível"));
+
+        registro.registrar(CONSUMIDOR, List.of(eventId));
+
+        assertThat(registro.jaProcessado(CONSUMIDOR, eventId)).isTrue();
+    }
+
+    @Test
+    void deveRemoverRegistrosAnterioresAoPeriodoDeRetencao() {
+        LocalDateTime antes = LocalDateTime.now().minusDays(7);
+
+        registro.removerExpirados();
+
+        verify(repository).removerProcessadosAntesDe(argThat(limite ->
+            !limite.isBefore(antes) && limite.isBefore(LocalDateTime.now().minusDays(6))));
+    }
+}
@@ -0,0 +1,136 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.morangosdoamor.WebCursos.application.processor.CursoConcluidoProcessor;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiRecommendationBatchListener")
+class AiRecommendationBatchListenerTest {
+
+    @Mock
+    private CursoConcluidoProcessor cursoConcluidoProcessor;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RegistroEventosProcessados registroEventosProcessados;
+
+    @Captor
+    private ArgumentCaptor<EmailNotificationEvent> emailEventCaptor;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricasListener metricas = new MetricasListener(registry);
+
+    private AiRecommendationBatchListener listener;
+
+    private static final String EXCHANGE_NAME = "webcursos.exchange";
+    private static final String EMAIL_ROUTING_KEY = "curso.concluido.email";
+
+    @BeforeEach
+    void setUp() {
+        listener = new AiRecommendationBatchListener(cursoConcluidoProcessor, rabbitTemplate, metricas,
+            registroEventosProcessados);
+        ReflectionTestUtils.setField(listener, "exchangeName", EXCHANGE_NAME);
+        ReflectionTestUtils.setField(listener, "emailRoutingKey", EMAIL_ROUTING_KEY);
+    }
+
+    private CursoConcluidoEvent criarEvento(String nome) {
+        return new CursoConcluidoEvent(UUID.randomUUID(), UUID.randomUUID(), nome, nome + "@email.com", UUID.randomUUID(),
+            "Java Básico", "JAVA001", 8.5, true, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("deve processar lote e publicar um EmailNotificationEvent por evento")
+    void deveProcessarLoteEPublicarEmails() {
+        List<CursoConcluidoEvent> eventos = List.of(criarEvento("ana"), criarEvento("bruno"));
+        when(cursoConcluidoProcessor.processBatch(eventos)).thenReturn(List.of("Rec ana", "Rec bruno"));
+
+        listener.processAiRecommendationBatch(eventos);
+
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(EXCHANGE_NAME), eq(EMAIL_ROUTING_KEY), emailEventCaptor.capture());
+        assertThat(emailEventCaptor.getAllValues())
+            .extracting(EmailNotificationEvent::destinatario, EmailNotificationEvent::corpo)
+            .containsExactly(
+                tuple("ana@email.com", "Rec ana"),
+                tuple("bruno@email.com", "Rec bruno"));
+        verify(registroEventosProcessados).registrar("ai-recommendation",
+            List.of(eventos.get(0).eventId(), eventos.get(1).eventId()));
+    }
+
+    @Test
+    @DisplayName("deve processar apenas eventos inéditos, descartando redeliveries e repetições no lote")
+    void deveDescartarEventosJaProcessados() {
+        CursoConcluidoEvent processado = criarEvento("ana");
+        CursoConcluidoEvent novo = criarEvento("bruno");
+        List<CursoConcluidoEvent> eventos = List.of(processado, novo, novo);
+        when(registroEventosProcessados.processados("ai-recommendation",
+                List.of(processado.eventId(), novo.eventId(), novo.eventId())))
+            .thenReturn(Set.of(processado.eventId()));
+        when(cursoConcluidoProcessor.processBatch(List.of(novo))).thenReturn(List.of("Rec bruno"));
+
+        listener.processAiRecommendationBatch(eventos);
+
+        verify(rabbitTemplate).convertAndSend(eq(EXCHANGE_NAME), eq(EMAIL_ROUTING_KEY), emailEventCaptor.capture());
+        assertThat(emailEventCaptor.getValue().destinatario()).isEqualTo("bruno@email.com");
+        assertThat(registry.get("webcursos.listener.mensagens")
+            .tag("listener", "ai-recommendation")
+            .tag("resultado", "duplicada")
+            .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("deve confirmar sem processar lote composto apenas de redeliveries")
+    void deveIgnorarLoteSomenteComDuplicados() {
+        CursoConcluidoEvent processado = criarEvento("ana");
+        when(registroEventosProcessados.processados("ai-recommendation", List.of(processado.eventId())))
+            .thenReturn(Set.of(processado.eventId()));
+
+        listener.processAiRecommendationBatch(List.of(processado));
+
+        verify(cursoConcluidoProcessor, never()).processBatch(any());
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("deve propagar exceção para rejeitar o lote quando o processor falha")
+    void devePropagarExcecaoQuandoProcessorFalha() {
+        List<CursoConcluidoEvent> eventos = List.of(criarEvento("ana"));
+        when(cursoConcluidoProcessor.processBatch(eventos)).thenThrow(new RuntimeException("Erro no lote"));
+
+        assertThatThrownBy(() -> listener.processAiRecommendationBatch(eventos))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Erro no lote");
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+    }
+}
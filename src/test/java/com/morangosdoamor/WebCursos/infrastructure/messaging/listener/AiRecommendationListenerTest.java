@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +27,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.morangosdoamor.WebCursos.application.processor.CursoConcluidoProcessor;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,9 +43,15 @@ class AiRecommendationListenerTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    @Mock
+    private RegistroEventosProcessados registroEventosProcessados;
+
     @Captor
     private ArgumentCaptor<EmailNotificationEvent> emailEventCaptor;
 
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricasListener metricas = new MetricasListener(registry);
+
     private AiRecommendationListener listener;
 
     private static final String EXCHANGE_NAME = "webcursos.exchange";
@@ -48,13 +59,15 @@ class AiRecommendationListenerTest {
 
     @BeforeEach
     void setUp() {
-        listener = new AiRecommendationListener(cursoConcluidoProcessor, rabbitTemplate);
+        listener = new AiRecommendationListener(cursoConcluidoProcessor, rabbitTemplate, metricas,
+            registroEventosProcessados);
         ReflectionTestUtils.setField(listener, "exchangeName", EXCHANGE_NAME);
         ReflectionTestUtils.setField(listener, "emailRoutingKey", EMAIL_ROUTING_KEY);
     }
 
     private CursoConcluidoEvent criarEvento() {
         return new CursoConcluidoEvent(
+            UUID.randomUUID(),
             UUID.randomUUID(),
             "João Silva",
             "joao@email.com",
@@ -96,6 +109,58 @@ class AiRecommendationListenerTest {
             assertThat(emailEvent.nomeDestinatario()).isEqualTo("João Silva");
             assertThat(emailEvent.assunto()).contains("Java Básico");
             assertThat(emailEvent.corpo()).isEqualTo(mensagemGerada);
+            verify(registroEventosProcessados).registrar("ai-recommendation", evento.eventId());
+        }
+
+        @Test
+        @DisplayName("deve descartar evento já processado sem chamar a IA nem publicar email")
+        void deveDescartarEventoJaProcessado() {
+            // Arrange
+            CursoConcluidoEvent evento = criarEvento();
+            when(registroEventosProcessados.jaProcessado("ai-recommendation", evento.eventId())).thenReturn(true);
+
+            // Act
+            listener.processAiRecommendation(evento);
+
+            // Assert
+            verify(cursoConcluidoProcessor, never()).process(any());
+            verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+            assertThat(registry.get("webcursos.listener.mensagens")
+                .tag("listener", "ai-recommendation")
+                .tag("resultado", "duplicada")
+                .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("deve derivar o eventId do email do eventId da conclusão")
+        void deveDerivarEventIdDoEmailDaConclusao() {
+            // Arrange
+            CursoConcluidoEvent evento = criarEvento();
+            when(cursoConcluidoProcessor.process(evento)).thenReturn("Recomendação");
+
+            // Act
+            listener.processAiRecommendation(evento);
+            listener.processAiRecommendation(evento);
+
+            // Assert
+            verify(rabbitTemplate, times(2)).convertAndSend(
+                eq(EXCHANGE_NAME), eq(EMAIL_ROUTING_KEY), emailEventCaptor.capture());
+            assertThat(emailEventCaptor.getAllValues())
+                .extracting(EmailNotificationEvent::eventId)
+                .containsOnly(emailEventCaptor.getAllValues().get(0).eventId())
+                .doesNotContainNull();
+        }
+
+        @Test
+        @DisplayName("não deve registrar evento cujo processamento falhou")
+        void naoDeveRegistrarEventoComFalha() {
+            // Arrange
+            CursoConcluidoEvent evento = criarEvento();
+            when(cursoConcluidoProcessor.process(evento)).thenThrow(new RuntimeException("Erro no processamento"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> listener.processAiRecommendation(evento)).isInstanceOf(RuntimeException.class);
+            verify(registroEventosProcessados, never()).registrar(any(String.class), any(UUID.class));
         }
 
         @Test
@@ -135,6 +200,7 @@ class AiRecommendationListenerTest {
             UUID alunoId = UUID.randomUUID();
             UUID cursoId = UUID.randomUUID();
             CursoConcluidoEvent evento = new CursoConcluidoEvent(
+                UUID.randomUUID(),
                 alunoId,
                 "Maria Santos",
                 "maria@test.com",
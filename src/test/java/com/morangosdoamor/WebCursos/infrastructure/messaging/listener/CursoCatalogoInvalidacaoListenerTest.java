@@ -0,0 +1,46 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
+
+@ExtendWith(MockitoExtension.class)
+class CursoCatalogoInvalidacaoListenerTest {
+
+    @Mock
+    private CursoCatalogCache cursoCatalogCache;
+
+    @Mock
+    private GrafoPrerequisitos grafoPrerequisitos;
+
+    @Mock
+    private MetricasListener metricas;
+
+    @InjectMocks
+    private CursoCatalogoInvalidacaoListener listener;
+
+    @Test
+    void deveInvalidarCursoNoCacheLocal() {
+        listener.onCatalogoInvalidado(new CursoCatalogoInvalidadoEvent("SPRING001"));
+
+        verify(cursoCatalogCache).invalidar("SPRING001");
+        verify(grafoPrerequisitos).recarregar("SPRING001");
+        verify(metricas).sucesso("curso-catalogo-invalidacao", 1);
+    }
+
+    @Test
+    void deveInvalidarCatalogoCompleto() {
+        listener.onCatalogoInvalidado(CursoCatalogoInvalidadoEvent.catalogoCompleto());
+
+        verify(cursoCatalogCache).invalidarTudo();
+        verify(grafoPrerequisitos).invalidarTudo();
+    }
+}
@@ -0,0 +1,144 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+
+import com.morangosdoamor.WebCursos.application.service.EmailService;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa.EncaminhadorRetentativas;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailNotificationBatchListener")
+class EmailNotificationBatchListenerTest {
+
+    private static final String FILA = "curso.concluido.email-notification";
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private EncaminhadorRetentativas encaminhadorRetentativas;
+
+    @Mock
+    private RegistroEventosProcessados registroEventosProcessados;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricasListener metricas = new MetricasListener(registry);
+    private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+
+    private EmailNotificationBatchListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new EmailNotificationBatchListener(emailService, converter, encaminhadorRetentativas, metricas,
+            registroEventosProcessados);
+    }
+
+    private EmailNotificationEvent criarEvento(String nome) {
+        return new EmailNotificationEvent(UUID.randomUUID(), nome + "@email.com", nome, "Assunto", "Corpo",
+            UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    private Message mensagem(EmailNotificationEvent evento) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(FILA);
+        return converter.toMessage(evento, properties);
+    }
+
+    private List<Message> mensagens(EmailNotificationEvent... eventos) {
+        return Stream.of(eventos).map(this::mensagem).toList();
+    }
+
+    @Test
+    @DisplayName("deve enviar o lote sem encaminhar mensagens quando todos os emails são entregues")
+    void deveEnviarLoteSemEncaminharMensagens() {
+        EmailNotificationEvent ana = criarEvento("ana");
+        EmailNotificationEvent bruno = criarEvento("bruno");
+        when(emailService.sendBatch(List.of(ana, bruno))).thenReturn(List.of());
+
+        listener.processEmailNotificationBatch(mensagens(ana, bruno));
+
+        verify(emailService).sendBatch(List.of(ana, bruno));
+        verify(encaminhadorRetentativas, never()).recover(any(Message.class), any());
+    }
+
+    @Test
+    @DisplayName("deve encaminhar para retentativa apenas as mensagens das notificações não entregues")
+    void deveEncaminharApenasNaoEntreguesParaRetentativa() {
+        EmailNotificationEvent entregue = criarEvento("ana");
+        EmailNotificationEvent falhou = criarEvento("bruno");
+        List<Message> lote = mensagens(entregue, falhou);
+        when(emailService.sendBatch(List.of(entregue, falhou))).thenAnswer(invocation ->
+            List.of(invocation.<List<EmailNotificationEvent>>getArgument(0).get(1)));
+
+        listener.processEmailNotificationBatch(lote);
+
+        ArgumentCaptor<Throwable> causa = ArgumentCaptor.forClass(Throwable.class);
+        verify(encaminhadorRetentativas).recover(same(lote.get(1)), causa.capture());
+        verify(encaminhadorRetentativas, never()).recover(same(lote.get(0)), any());
+        assertThat(causa.getValue()).isInstanceOf(MailSendException.class);
+        assertThat(contagem("sucesso")).isEqualTo(1.0);
+        assertThat(contagem("falha")).isEqualTo(1.0);
+        verify(registroEventosProcessados).registrar("email-notification", List.of(entregue.eventId()));
+    }
+
+    @Test
+    @DisplayName("não deve reenviar notificações já entregues em redeliveries do lote")
+    void naoDeveReenviarNotificacoesJaEntregues() {
+        EmailNotificationEvent enviada = criarEvento("ana");
+        EmailNotificationEvent nova = criarEvento("bruno");
+        when(registroEventosProcessados.processados("email-notification", List.of(enviada.eventId(), nova.eventId())))
+            .thenReturn(Set.of(enviada.eventId()));
+        when(emailService.sendBatch(List.of(nova))).thenReturn(List.of());
+
+        listener.processEmailNotificationBatch(mensagens(enviada, nova));
+
+        verify(emailService).sendBatch(List.of(nova));
+        assertThat(contagem("duplicada")).isEqualTo(1.0);
+        assertThat(contagem("sucesso")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("deve propagar falha que impede o envio do lote inteiro")
+    void devePropagarFalhaDoLoteInteiro() {
+        EmailNotificationEvent ana = criarEvento("ana");
+        when(emailService.sendBatch(List.of(ana))).thenThrow(new MailAuthenticationException("credenciais inválidas"));
+
+        assertThatThrownBy(() -> listener.processEmailNotificationBatch(mensagens(ana)))
+            .isInstanceOf(MailAuthenticationException.class);
+        assertThat(contagem("falha")).isEqualTo(1.0);
+    }
+
+    private double contagem(String resultado) {
+        return registry.get("webcursos.listener.mensagens")
+            .tag("listener", "email-notification")
+            .tag("resultado", resultado)
+            .counter().count();
+    }
+}
@@ -1,9 +1,14 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.listener;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.UUID;
 
@@ -18,6 +23,9 @@ import org.springframework.mail.MailSendException;
 
 import com.morangosdoamor.WebCursos.application.service.EmailService;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.EmailNotificationEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.RegistroEventosProcessados;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EmailNotificationListener")
@@ -26,15 +34,22 @@ class EmailNotificationListenerTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private RegistroEventosProcessados registroEventosProcessados;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricasListener metricas = new MetricasListener(registry);
+
     private EmailNotificationListener listener;
 
     @BeforeEach
     void setUp() {
-        listener = new EmailNotificationListener(emailService);
+        listener = new EmailNotificationListener(emailService, metricas, registroEventosProcessados);
     }
 
     private EmailNotificationEvent criarEvento() {
         return new EmailNotificationEvent(
+            UUID.randomUUID(),
             "joao@email.com",
             "João Silva",
             "Parabéns pela conclusão do curso Java!",
@@ -63,6 +78,22 @@ class EmailNotificationListenerTest {
                 eq("Parabéns pela conclusão do curso Java!"),
                 eq("Corpo do email com recomendação")
             );
+            verify(registroEventosProcessados).registrar("email-notification", evento.eventId());
+        }
+
+        @Test
+        @DisplayName("deve descartar notificação já enviada sem reenviar o email")
+        void deveDescartarNotificacaoJaEnviada() {
+            // Arrange
+            EmailNotificationEvent evento = criarEvento();
+            when(registroEventosProcessados.jaProcessado("email-notification", evento.eventId())).thenReturn(true);
+
+            // Act
+            listener.processEmailNotification(evento);
+
+            // Assert
+            verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+            verify(registroEventosProcessados, never()).registrar(anyString(), any(UUID.class));
         }
 
         @Test
@@ -81,6 +112,8 @@ class EmailNotificationListenerTest {
             // Act & Assert
             assertThatThrownBy(() -> listener.processEmailNotification(evento))
                 .isInstanceOf(MailSendException.class);
+            assertThat(registry.get("webcursos.listener.mensagens").tag("resultado", "falha").counter().count())
+                .isEqualTo(1.0);
         }
 
         @Test
@@ -89,6 +122,7 @@ class EmailNotificationListenerTest {
             // Arrange
             String mensagemLonga = "A".repeat(5000);
             EmailNotificationEvent evento = new EmailNotificationEvent(
+                UUID.randomUUID(),
                 "test@email.com",
                 "Test User",
                 "Assunto",
@@ -113,6 +147,7 @@ class EmailNotificationListenerTest {
         void deveProcessarEventoComCaracteresEspeciais() {
             // Arrange
             EmailNotificationEvent evento = new EmailNotificationEvent(
+                UUID.randomUUID(),
                 "user+tag@sub.domain.com",
                 "Usuário Ação",
                 "Assunto com ação & símbolos",
@@ -0,0 +1,162 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.morangosdoamor.WebCursos.infrastructure.repository.OutboxEventoRepository;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes unitários do relay da outbox transacional.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int TAMANHO_LOTE = 2;
+
+    @Mock
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TracerTeste tracerTeste = new TracerTeste();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventoRepository, rabbitTemplate, transactionManager,
+            tracerTeste.rastreamento(), meterRegistry, TAMANHO_LOTE, 1000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void simularCanalDoBroker() {
+        when(rabbitTemplate.invoke(any(OperationsCallback.class)))
+            .thenAnswer(inv -> inv.getArgument(0, OperationsCallback.class).doInRabbit(rabbitOperations));
+    }
+
+    @Test
+    void devePublicarLoteComConfirmacaoERemoverDaOutbox() {
+        OutboxEvento evento = criarEvento();
+        when(outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(TAMANHO_LOTE))).thenReturn(List.of(evento));
+        simularCanalDoBroker();
+
+        relay.drenar();
+
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitOperations).send(eq("webcursos.exchange"), eq("curso.concluido"), message.capture());
+        assertThat(new String(message.getValue().getBody(), StandardCharsets.UTF_8)).isEqualTo(evento.getPayload());
+        assertThat(message.getValue().getMessageProperties().getMessageId()).isEqualTo(evento.getId().toString());
+        assertThat((String) message.getValue().getMessageProperties().getHeader(OutboxRelay.TYPE_ID_HEADER))
+            .isEqualTo(evento.getTipo());
+        verify(rabbitOperations).waitForConfirmsOrDie(1000);
+        verify(outboxEventoRepository).deleteAllInBatch(List.of(evento));
+    }
+
+    @Test
+    void devePublicarDentroDeSpanDoTraceQueGravouOEvento() {
+        String traceId = "0af7651916cd43dd8448eb211c80319c";
+        OutboxEvento evento = criarEvento();
+        evento.setTraceParent("00-" + traceId + "-b7ad6b7169203331-01");
+        evento.setCriadoEm(LocalDateTime.now().minusSeconds(2));
+        when(outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(TAMANHO_LOTE))).thenReturn(List.of(evento));
+        simularCanalDoBroker();
+        List<String> tracesNoEnvio = new ArrayList<>();
+        doAnswer(inv -> tracesNoEnvio.add(tracerTeste.tracer.currentSpan().context().traceId()))
+            .when(rabbitOperations).send(any(String.class), any(String.class), any(Message.class));
+
+        relay.drenar();
+
+        assertThat(tracesNoEnvio).containsExactly(traceId);
+        assertThat(tracerTeste.tracer.currentSpan()).isNull();
+        Timer espera = meterRegistry.get("webcursos.outbox.espera").timer();
+        assertThat(espera.count()).isEqualTo(1);
+        assertThat(espera.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2.0);
+    }
+
+    @Test
+    void deveContinuarDrenandoEnquantoLotesEstiveremCheios() {
+        List<OutboxEvento> loteCheio = List.of(criarEvento(), criarEvento());
+        when(outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(TAMANHO_LOTE)))
+            .thenReturn(loteCheio)
+            .thenReturn(List.of());
+        simularCanalDoBroker();
+
+        relay.drenar();
+
+        verify(outboxEventoRepository, times(2)).findByOrderByCriadoEmAsc(Limit.of(TAMANHO_LOTE));
+        verify(rabbitOperations, times(2)).send(any(String.class), any(String.class), any(Message.class));
+    }
+
+    @Test
+    void naoDevePublicarQuandoOutboxVazia() {
+        when(outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(TAMANHO_LOTE))).thenReturn(List.of());
+
+        relay.drenar();
+
+        verify(rabbitTemplate, never()).invoke(any());
+        verify(outboxEventoRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void deveManterEventosNaOutboxQuandoBrokerNaoConfirmar() {
+        when(outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(TAMANHO_LOTE))).thenReturn(List.of(criarEvento()));
+        simularCanalDoBroker();
+        doThrow(new AmqpException("nack")).when(rabbitOperations).waitForConfirmsOrDie(anyLong());
+
+        relay.drenar();
+
+        verify(outboxEventoRepository, never()).deleteAllInBatch(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private OutboxEvento criarEvento() {
+        return OutboxEvento.builder()
+            .id(UUID.randomUUID())
+            .exchange("webcursos.exchange")
+            .routingKey("curso.concluido")
+            .tipo("com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent")
+            .payload("{\"alunoNome\":\"João\"}")
+            .criadoEm(LocalDateTime.now())
+            .build();
+    }
+}
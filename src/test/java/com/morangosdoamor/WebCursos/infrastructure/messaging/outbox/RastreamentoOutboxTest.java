@@ -0,0 +1,79 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+
+class RastreamentoOutboxTest {
+
+    private final TracerTeste teste = new TracerTeste();
+    private final RastreamentoOutbox rastreamento = teste.rastreamento();
+
+    @Test
+    void deveCapturarTraceparentDoSpanCorrente() {
+        Span requisicao = teste.tracer.nextSpan().name("POST /conclusao").start();
+        String traceParent;
+        try (Tracer.SpanInScope escopo = teste.tracer.withSpan(requisicao)) {
+            traceParent = rastreamento.capturar();
+        } finally {
+            requisicao.end();
+        }
+
+        assertThat(traceParent).isEqualTo("00-%s-%s-01".formatted(
+            requisicao.context().traceId(), requisicao.context().spanId()));
+    }
+
+    @Test
+    void naoDeveCapturarSemSpanCorrente() {
+        assertThat(rastreamento.capturar()).isNull();
+    }
+
+    @Test
+    void deveIniciarPublicacaoComoFilhaDoSpanQueGravouOEvento() {
+        Span requisicao = teste.tracer.nextSpan().name("POST /conclusao").start();
+        OutboxEvento evento = evento("00-%s-%s-01".formatted(requisicao.context().traceId(), requisicao.context().spanId()));
+
+        Span publicacao = rastreamento.iniciarPublicacao(evento);
+        publicacao.end();
+        requisicao.end();
+
+        assertThat(publicacao.context().traceId()).isEqualTo(requisicao.context().traceId());
+        assertThat(publicacao.context().parentId()).isEqualTo(requisicao.context().spanId());
+    }
+
+    @Test
+    void deveIniciarNovoTraceQuandoEventoNaoTemContexto() {
+        Span publicacao = rastreamento.iniciarPublicacao(evento(null));
+        publicacao.end();
+
+        assertThat(publicacao.context().traceId()).isNotBlank();
+        assertThat(publicacao.context().parentId()).isNull();
+    }
+
+    @Test
+    void deveFuncionarSemTracingConfigurado() {
+        RastreamentoOutbox semTracing = new RastreamentoOutbox(Tracer.NOOP, Propagator.NOOP);
+
+        assertThat(semTracing.capturar()).isNull();
+        semTracing.iniciarPublicacao(evento("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")).end();
+    }
+
+    private static OutboxEvento evento(String traceParent) {
+        return OutboxEvento.builder()
+            .id(UUID.randomUUID())
+            .exchange("webcursos.exchange")
+            .routingKey("curso.concluido")
+            .tipo("tipo")
+            .payload("{}")
+            .criadoEm(LocalDateTime.now())
+            .traceParent(traceParent)
+            .build();
+    }
+}
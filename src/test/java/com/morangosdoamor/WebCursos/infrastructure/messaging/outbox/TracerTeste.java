@@ -0,0 +1,27 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.outbox;
+
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+
+/**
+ * Tracer OpenTelemetry em memória (sem exportação) para os testes de propagação.
+ */
+final class TracerTeste {
+
+    final OtelTracer tracer;
+    final OtelPropagator propagator;
+
+    TracerTeste() {
+        io.opentelemetry.api.trace.Tracer otel = SdkTracerProvider.builder().build().get("webcursos-teste");
+        this.tracer = new OtelTracer(otel, new OtelCurrentTraceContext(), evento -> { });
+        this.propagator = new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otel);
+    }
+
+    RastreamentoOutbox rastreamento() {
+        return new RastreamentoOutbox(tracer, propagator);
+    }
+}
@@ -0,0 +1,67 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.publisher;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.morangosdoamor.WebCursos.infrastructure.cache.CursoCatalogCache;
+import com.morangosdoamor.WebCursos.infrastructure.cache.GrafoPrerequisitos;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoCatalogoInvalidadoEvent;
+
+/**
+ * Testes unitários para o publisher de invalidação do catálogo de cursos.
+ */
+@ExtendWith(MockitoExtension.class)
+class CursoCatalogoInvalidacaoPublisherTest {
+
+    @Mock
+    private CursoCatalogCache cursoCatalogCache;
+
+    @Mock
+    private GrafoPrerequisitos grafoPrerequisitos;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private CursoCatalogoInvalidacaoPublisher publisher;
+
+    private static final String EXCHANGE_NAME = "webcursos.exchange";
+    private static final String ROUTING_KEY = "curso.catalogo.invalidado";
+
+    @BeforeEach
+    void setUp() {
+        publisher = new CursoCatalogoInvalidacaoPublisher(cursoCatalogCache, grafoPrerequisitos, rabbitTemplate);
+        ReflectionTestUtils.setField(publisher, "exchangeName", EXCHANGE_NAME);
+        ReflectionTestUtils.setField(publisher, "catalogoRoutingKey", ROUTING_KEY);
+    }
+
+    @Test
+    void deveInvalidarCacheLocalEPublicarParaOsDemaisNos() {
+        CursoCatalogoInvalidadoEvent event = new CursoCatalogoInvalidadoEvent("JAVA001");
+
+        publisher.publish(event);
+
+        verify(cursoCatalogCache).invalidar("JAVA001");
+        verify(grafoPrerequisitos).recarregar("JAVA001");
+        verify(rabbitTemplate).convertAndSend(EXCHANGE_NAME, ROUTING_KEY, event);
+    }
+
+    @Test
+    void naoDevePropagarExcecaoQuandoFalharPublicacao() {
+        CursoCatalogoInvalidadoEvent event = new CursoCatalogoInvalidadoEvent("JAVA001");
+        doThrow(new AmqpException("Connection refused"))
+            .when(rabbitTemplate).convertAndSend(EXCHANGE_NAME, ROUTING_KEY, event);
+
+        publisher.publish(event);
+
+        verify(cursoCatalogCache).invalidar("JAVA001");
+    }
+}
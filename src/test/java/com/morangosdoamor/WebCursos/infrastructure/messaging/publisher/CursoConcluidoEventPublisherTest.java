@@ -1,32 +1,55 @@
 package com.morangosdoamor.WebCursos.infrastructure.messaging.publisher;
 
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.morangosdoamor.WebCursos.infrastructure.messaging.event.CursoConcluidoEvent;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.outbox.OutboxEvento;
+import com.morangosdoamor.WebCursos.infrastructure.messaging.outbox.RastreamentoOutbox;
+import com.morangosdoamor.WebCursos.infrastructure.repository.OutboxEventoRepository;
 
 /**
  * Testes unitários para o publisher de eventos de conclusão de curso.
- * Valida publicação de mensagens e tratamento de erros.
+ * Valida o registro do evento na outbox transacional.
  */
 @ExtendWith(MockitoExtension.class)
 class CursoConcluidoEventPublisherTest {
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Mock
+    private RastreamentoOutbox rastreamento;
+
+    @Captor
+    private ArgumentCaptor<OutboxEvento> outboxCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<OutboxEvento>> outboxListCaptor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     private CursoConcluidoEventPublisher publisher;
 
@@ -35,57 +58,79 @@ class CursoConcluidoEventPublisherTest {
 
     @BeforeEach
     void setUp() {
-        publisher = new CursoConcluidoEventPublisher(rabbitTemplate);
+        publisher = new CursoConcluidoEventPublisher(outboxEventoRepository, objectMapper, rastreamento);
         ReflectionTestUtils.setField(publisher, "exchangeName", EXCHANGE_NAME);
         ReflectionTestUtils.setField(publisher, "routingKey", ROUTING_KEY);
     }
 
     @Test
-    void devePublicarEventoComSucesso() {
+    void deveRegistrarEventoNaOutbox() throws Exception {
         CursoConcluidoEvent event = createEvent(8.5, true);
+        String traceParent = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+        when(rastreamento.capturar()).thenReturn(traceParent);
 
         publisher.publish(event);
 
-        verify(rabbitTemplate).convertAndSend(
-            eq(EXCHANGE_NAME),
-            eq(ROUTING_KEY),
-            eq(event)
-        );
+        verify(outboxEventoRepository).save(outboxCaptor.capture());
+        OutboxEvento registrado = outboxCaptor.getValue();
+        assertThat(registrado.getTraceParent()).isEqualTo(traceParent);
+        assertThat(registrado.getExchange()).isEqualTo(EXCHANGE_NAME);
+        assertThat(registrado.getRoutingKey()).isEqualTo(ROUTING_KEY);
+        assertThat(registrado.getTipo()).isEqualTo(CursoConcluidoEvent.class.getName());
+        assertThat(registrado.getCriadoEm()).isNotNull();
+        assertThat(objectMapper.readValue(registrado.getPayload(), CursoConcluidoEvent.class)).isEqualTo(event);
     }
 
     @Test
-    void devePublicarEventoDeAlunoReprovado() {
+    void deveRegistrarEventoDeAlunoReprovado() throws Exception {
         CursoConcluidoEvent event = createEvent(5.0, false);
 
         publisher.publish(event);
 
-        verify(rabbitTemplate).convertAndSend(
-            eq(EXCHANGE_NAME),
-            eq(ROUTING_KEY),
-            eq(event)
-        );
+        verify(outboxEventoRepository).save(outboxCaptor.capture());
+        CursoConcluidoEvent payload = objectMapper.readValue(outboxCaptor.getValue().getPayload(), CursoConcluidoEvent.class);
+        assertThat(payload.aprovado()).isFalse();
     }
 
     @Test
-    void naoDevePropagarExcecaoQuandoFalharPublicacao() {
-        CursoConcluidoEvent event = createEvent(8.5, true);
+    void deveLancarErroQuandoEventoNaoPuderSerSerializado() throws Exception {
+        ObjectMapper mapperComFalha = mock(ObjectMapper.class);
+        when(mapperComFalha.writeValueAsString(any())).thenThrow(new JsonProcessingException("falha") { });
+        CursoConcluidoEventPublisher publisherComFalha =
+            new CursoConcluidoEventPublisher(outboxEventoRepository, mapperComFalha, rastreamento);
+
+        assertThatThrownBy(() -> publisherComFalha.publish(createEvent(8.5, true)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("serializar");
+    }
 
-        doThrow(new AmqpException("Connection refused"))
-            .when(rabbitTemplate)
-            .convertAndSend(eq(EXCHANGE_NAME), eq(ROUTING_KEY), eq(event));
+    @Test
+    void deveRegistrarVariosEventosComUmUnicoSaveAll() throws Exception {
+        CursoConcluidoEvent aprovado = createEvent(8.5, true);
+        CursoConcluidoEvent reprovado = createEvent(5.0, false);
+
+        publisher.publishAll(List.of(aprovado, reprovado));
+
+        verify(outboxEventoRepository).saveAll(outboxListCaptor.capture());
+        List<OutboxEvento> registrados = outboxListCaptor.getValue();
+        assertThat(registrados).hasSize(2).allSatisfy(registrado -> {
+            assertThat(registrado.getExchange()).isEqualTo(EXCHANGE_NAME);
+            assertThat(registrado.getRoutingKey()).isEqualTo(ROUTING_KEY);
+        });
+        assertThat(objectMapper.readValue(registrados.get(1).getPayload(), CursoConcluidoEvent.class)).isEqualTo(reprovado);
+        verify(outboxEventoRepository, never()).save(any());
+    }
 
-        // Não deve lançar exceção
-        publisher.publish(event);
+    @Test
+    void naoDeveAcessarOutboxQuandoNaoHaEventos() {
+        publisher.publishAll(List.of());
 
-        verify(rabbitTemplate).convertAndSend(
-            eq(EXCHANGE_NAME),
-            eq(ROUTING_KEY),
-            eq(event)
-        );
+        verifyNoInteractions(outboxEventoRepository);
     }
 
     private CursoConcluidoEvent createEvent(double nota, boolean aprovado) {
         return new CursoConcluidoEvent(
+            UUID.randomUUID(),
             UUID.randomUUID(),
             "João Silva",
             "joao@email.com",
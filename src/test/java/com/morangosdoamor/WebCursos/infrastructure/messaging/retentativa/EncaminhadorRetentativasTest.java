@@ -0,0 +1,119 @@
+package com.morangosdoamor.WebCursos.infrastructure.messaging.retentativa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class EncaminhadorRetentativasTest {
+
+    private static final String FILA = "curso.concluido.email-notification";
+    private static final String DLQ = "curso.concluido.dlq";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Captor
+    private ArgumentCaptor<Message> mensagemCaptor;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private EncaminhadorRetentativas encaminhador;
+
+    @BeforeEach
+    void setUp() {
+        encaminhador = new EncaminhadorRetentativas(rabbitTemplate, registry, List.of(1000L, 10000L, 60000L), DLQ);
+    }
+
+    private Message mensagem(Integer tentativas) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(FILA);
+        properties.setReceivedExchange("webcursos.exchange");
+        properties.setReceivedRoutingKey("curso.concluido.email");
+        properties.setReceivedDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        if (tentativas != null) {
+            properties.setHeader(EncaminhadorRetentativas.X_RETRY_COUNT, tentativas);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+
+    private static RuntimeException falha(Throwable causa) {
+        return new ListenerExecutionFailedException("Listener falhou", causa);
+    }
+
+    @Test
+    void deveAgendarPrimeiraRetentativaNaFilaDeMenorAtraso() {
+        encaminhador.recover(mensagem(null), falha(new IllegalStateException("SMTP indisponível")));
+
+        verify(rabbitTemplate).send(eq(""), eq(FILA + ".retry.1000ms"), mensagemCaptor.capture());
+        MessageProperties enviada = mensagemCaptor.getValue().getMessageProperties();
+        assertThat((Integer) enviada.getHeader(EncaminhadorRetentativas.X_RETRY_COUNT)).isEqualTo(1);
+        assertThat((String) enviada.getHeader("x-original-exchange")).isEqualTo("webcursos.exchange");
+        assertThat((String) enviada.getHeader("x-original-routingKey")).isEqualTo("curso.concluido.email");
+        assertThat(enviada.getDeliveryMode()).isEqualTo(MessageDeliveryMode.PERSISTENT);
+    }
+
+    @Test
+    void deveAvancarParaOProximoAtrasoPreservandoRoutingKeyOriginal() {
+        Message retentativa = mensagem(1);
+        retentativa.getMessageProperties().setHeader("x-original-exchange", "webcursos.exchange");
+        retentativa.getMessageProperties().setHeader("x-original-routingKey", "curso.concluido.email");
+        retentativa.getMessageProperties().setReceivedExchange("");
+        retentativa.getMessageProperties().setReceivedRoutingKey(FILA);
+
+        encaminhador.recover(retentativa, falha(new IllegalStateException("429")));
+
+        verify(rabbitTemplate).send(eq(""), eq(FILA + ".retry.10000ms"), mensagemCaptor.capture());
+        MessageProperties enviada = mensagemCaptor.getValue().getMessageProperties();
+        assertThat((Integer) enviada.getHeader(EncaminhadorRetentativas.X_RETRY_COUNT)).isEqualTo(2);
+        assertThat((String) enviada.getHeader("x-original-routingKey")).isEqualTo("curso.concluido.email");
+    }
+
+    @Test
+    void deveEncaminharParaDlqAposAUltimaRetentativa() {
+        encaminhador.recover(mensagem(3), falha(new IllegalStateException("SMTP indisponível")));
+
+        verify(rabbitTemplate).send(eq(""), eq(DLQ), mensagemCaptor.capture());
+        assertThat((String) mensagemCaptor.getValue().getMessageProperties().getHeader("x-exception-message"))
+            .isEqualTo("SMTP indisponível");
+        assertThat((Long) mensagemCaptor.getValue().getMessageProperties().getHeader(EncaminhadorRetentativas.X_PARKED_AT))
+            .isNotNull();
+        assertThat(registry.get("webcursos.listener.retentativas")
+            .tag("fila", FILA).tag("destino", "dlq").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void deveEncaminharFalhaDeConversaoDiretoParaDlq() {
+        encaminhador.recover(mensagem(null), falha(new MessageConversionException("JSON inválido")));
+
+        verify(rabbitTemplate).send(eq(""), eq(DLQ), mensagemCaptor.capture());
+    }
+
+    @Test
+    void deveEncaminharCadaMensagemDoLoteConformeSuasTentativas() {
+        encaminhador.recover(List.of(mensagem(null), mensagem(3)), falha(new IllegalStateException("falha no lote")));
+
+        verify(rabbitTemplate).send(eq(""), eq(FILA + ".retry.1000ms"), mensagemCaptor.capture());
+        verify(rabbitTemplate).send(eq(""), eq(DLQ), mensagemCaptor.capture());
+        assertThat(registry.get("webcursos.listener.retentativas")
+            .tag("fila", FILA).tag("destino", "retry.1000ms").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.morangosdoamor.WebCursos.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
+import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+import com.morangosdoamor.WebCursos.domain.valueobject.EstatisticasAluno;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class AlunoRepositoryTest {
+
+    private static final int TOTAL_CURSOS = 5;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private UUID alunoId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+
+        Aluno aluno = entityManager.persist(Aluno.builder()
+            .nome("Aluno Grafo")
+            .email(new Email("grafo@example.com"))
+            .matricula("MAT-GRAFO")
+            .criadoEm(LocalDateTime.now())
+            .build());
+
+        for (int i = 0; i < TOTAL_CURSOS; i++) {
+            Curso curso = entityManager.persist(Curso.builder()
+                .codigo("GRAFO" + i)
+                .nome("Curso Grafo " + i)
+                .descricao("Curso para verificação do grafo de carga")
+                .cargaHoraria(new CargaHoraria(10))
+                .prerequisitos(new HashSet<>(Set.of("JAVA001", "WEB001")))
+                .build());
+            entityManager.persist(Matricula.builder()
+                .aluno(aluno)
+                .curso(curso)
+                .status(MatriculaStatus.MATRICULADO)
+                .dataMatricula(LocalDateTime.now())
+                .build());
+        }
+
+        alunoId = aluno.getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve carregar aluno detalhado com matrículas, cursos e pré-requisitos em uma única consulta")
+    void deveCarregarAlunoDetalhadoEmUmaConsulta() {
+        Aluno aluno = alunoRepository.findDetalhadoById(alunoId).orElseThrow();
+
+        assertThat(aluno.getMatriculas()).hasSize(TOTAL_CURSOS);
+        assertThat(aluno.getMatriculas())
+            .allSatisfy(m -> assertThat(m.getCurso().getPrerequisitos()).containsExactlyInAnyOrder("JAVA001", "WEB001"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve listar matrículas do aluno com cursos em uma única consulta")
+    void deveListarMatriculasComCursosEmUmaConsulta() {
+        List<Matricula> matriculas = matriculaRepository.findAllByAlunoId(alunoId);
+
+        assertThat(matriculas).hasSize(TOTAL_CURSOS);
+        assertThat(matriculas)
+            .allSatisfy(m -> assertThat(m.getCurso().getPrerequisitos()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve exportar alunos com matrículas e cursos em um único cursor, inclusive alunos sem matrícula")
+    void deveExportarAlunosEmUmUnicoCursor() {
+        Aluno semMatricula = entityManager.persist(Aluno.builder()
+            .nome("Aluno Sem Matrícula")
+            .email(new Email("sem-matricula@example.com"))
+            .matricula("MAT-SEM")
+            .criadoEm(LocalDateTime.now())
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Aluno> exportados;
+        try (Stream<Aluno> alunos = alunoRepository.streamExportacao()) {
+            exportados = alunos.toList();
+        }
+
+        assertThat(exportados).extracting(Aluno::getId)
+            .containsExactlyInAnyOrder(alunoId, semMatricula.getId());
+        Aluno comMatriculas = exportados.stream().filter(a -> a.getId().equals(alunoId)).findFirst().orElseThrow();
+        assertThat(comMatriculas.getMatriculas()).hasSize(TOTAL_CURSOS)
+            .allSatisfy(m -> assertThat(m.getCurso().getPrerequisitos()).hasSize(2));
+        // O cursor e uma carga em lote (@BatchSize) dos pré-requisitos dos cursos
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve incrementar estatísticas no banco sem sobrescrevê-las ao salvar o aluno")
+    void deveIncrementarEstatisticasAtomicamente() {
+        alunoRepository.incrementarMatriculas(List.of(alunoId), 2);
+        alunoRepository.registrarConclusoes(List.of(alunoId), 2, 1, 15.0);
+        Aluno aluno = alunoRepository.findById(alunoId).orElseThrow();
+        aluno.setNome("Aluno Renomeado");
+        entityManager.flush();
+        entityManager.clear();
+
+        Aluno recarregado = alunoRepository.findById(alunoId).orElseThrow();
+
+        assertThat(recarregado.getNome()).isEqualTo("Aluno Renomeado");
+        assertThat(recarregado.getEstatisticas()).isEqualTo(new EstatisticasAluno(2, 2, 1, 15.0));
+        assertThat(recarregado.getEstatisticas().getMediaNotas()).isEqualTo(7.5);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular estatísticas a partir das matrículas")
+    void deveRecalcularEstatisticasAPartirDasMatriculas() {
+        List<Matricula> matriculas = matriculaRepository.findAllByAlunoId(alunoId);
+        matriculas.get(0).concluir(9.0);
+        matriculas.get(1).concluir(5.0);
+        entityManager.flush();
+        entityManager.clear();
+
+        int atualizados = alunoRepository.recalcularEstatisticas(Matricula.NOTA_MINIMA_APROVACAO);
+        entityManager.clear();
+
+        assertThat(atualizados).isEqualTo(1);
+        assertThat(alunoRepository.findById(alunoId).orElseThrow().getEstatisticas())
+            .isEqualTo(new EstatisticasAluno(TOTAL_CURSOS, 2, 1, 14.0));
+    }
+}
@@ -1,16 +1,28 @@
 package com.morangosdoamor.WebCursos.infrastructure.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
 import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+import com.morangosdoamor.WebCursos.domain.enums.MatriculaStatus;
+import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.domain.valueobject.Email;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -19,6 +31,9 @@ class CursoRepositoryTest {
     @Autowired
     private CursoRepository cursoRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("Deve localizar curso pelo código")
     void deveLocalizarCursoPorCodigo() {
@@ -33,4 +48,97 @@ class CursoRepositoryTest {
         Optional<Curso> curso = cursoRepository.findByCodigo("INEXISTENTE");
         assertThat(curso).isNotPresent();
     }
+
+    @Test
+    @DisplayName("Deve paginar cursos por keyset (nome, id)")
+    void devePaginarCursosPorKeyset() {
+        List<Curso> primeiraPagina = cursoRepository.findAllByOrderByNomeAscIdAsc(Limit.of(2));
+        assertThat(primeiraPagina).extracting(Curso::getCodigo).containsExactly("WEB001", "JAVA001");
+
+        Curso ultimo = primeiraPagina.get(1);
+        List<Curso> segundaPagina = cursoRepository.findPaginaApos(ultimo.getNome(), ultimo.getId(), Limit.of(2));
+        assertThat(segundaPagina).extracting(Curso::getCodigo).containsExactly("SPRING001");
+    }
+
+    @Test
+    @DisplayName("Deve listar cursos não matriculados pelo aluno respeitando o limite")
+    void deveListarCursosNaoMatriculadosComLimite() {
+        Aluno aluno = entityManager.persist(Aluno.builder()
+            .nome("Aluno Anti-join")
+            .email(new Email("antijoin@example.com"))
+            .matricula("MAT-ANTI")
+            .criadoEm(LocalDateTime.now())
+            .build());
+        entityManager.persist(Matricula.builder()
+            .aluno(aluno)
+            .curso(cursoRepository.findByCodigo("JAVA001").orElseThrow())
+            .status(MatriculaStatus.MATRICULADO)
+            .dataMatricula(LocalDateTime.now())
+            .build());
+        entityManager.flush();
+
+        List<Curso> disponiveis = cursoRepository.findCursosNotEnrolledByAluno(aluno.getId(), Limit.of(10));
+        assertThat(disponiveis).extracting(Curso::getCodigo).containsExactly("WEB001", "SPRING001");
+
+        List<Curso> limitados = cursoRepository.findCursosNotEnrolledByAluno(aluno.getId(), Limit.of(1));
+        assertThat(limitados).extracting(Curso::getCodigo).containsExactly("WEB001");
+    }
+
+    @Test
+    @DisplayName("Deve paginar por keyset os cursos em que o aluno não está matriculado")
+    void devePaginarCursosNaoMatriculadosPorKeyset() {
+        Aluno aluno = entityManager.persist(Aluno.builder()
+            .nome("Aluno Liberados")
+            .email(new Email("liberados@example.com"))
+            .matricula("MAT-LIB")
+            .criadoEm(LocalDateTime.now())
+            .build());
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(Curso.builder()
+                .codigo("EXTRA00" + i)
+                .nome("Extra " + i)
+                .descricao("Curso extra")
+                .cargaHoraria(new CargaHoraria(10))
+                .build());
+        }
+        Matricula matricula = Matricula.builder()
+            .aluno(aluno)
+            .curso(cursoRepository.findByCodigo("JAVA001").orElseThrow())
+            .status(MatriculaStatus.MATRICULADO)
+            .dataMatricula(LocalDateTime.now())
+            .build();
+        matricula.concluir(8.0);
+        entityManager.persistAndFlush(matricula);
+
+        List<Curso> primeiraPagina = cursoRepository.findCursosNotEnrolledByAluno(aluno.getId(), Limit.of(3));
+        Curso ultimo = primeiraPagina.get(primeiraPagina.size() - 1);
+
+        assertThat(primeiraPagina)
+            .extracting(Curso::getCodigo)
+            .containsExactly("WEB001", "EXTRA000", "EXTRA001");
+        assertThat(cursoRepository.findCursosNotEnrolledByAlunoApos(aluno.getId(), ultimo.getNome(), ultimo.getId(), Limit.of(3)))
+            .extracting(Curso::getCodigo)
+            .containsExactly("EXTRA002", "EXTRA003", "EXTRA004");
+    }
+
+    @Test
+    @DisplayName("Deve listar as arestas de pré-requisitos sem carregar entidades")
+    void deveListarArestasDePrerequisitos() {
+        entityManager.persistAndFlush(Curso.builder()
+            .codigo("GRAFO001")
+            .nome("Grafo")
+            .descricao("Curso com pré-requisitos")
+            .cargaHoraria(new CargaHoraria(10))
+            .prerequisitos(new HashSet<>(Set.of("JAVA001", "WEB001")))
+            .build());
+
+        assertThat(cursoRepository.findAllArestasPrerequisitos())
+            .extracting(CursoRepository.ArestaPrerequisito::getCodigo, CursoRepository.ArestaPrerequisito::getPrerequisito)
+            .contains(
+                tuple("GRAFO001", "JAVA001"),
+                tuple("GRAFO001", "WEB001"),
+                tuple("SPRING001", null));
+        assertThat(cursoRepository.findArestasPrerequisitosByCodigo("GRAFO001")).hasSize(2);
+        assertThat(cursoRepository.findArestasPrerequisitosByCodigo("INEXISTENTE")).isEmpty();
+    }
 }
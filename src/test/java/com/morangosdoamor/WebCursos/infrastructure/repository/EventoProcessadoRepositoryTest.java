@@ -0,0 +1,55 @@
+package com.morangosdoamor.WebCursos.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.morangosdoamor.WebCursos.infrastructure.messaging.idempotencia.EventoProcessado;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class EventoProcessadoRepositoryTest {
+
+    @Autowired
+    private EventoProcessadoRepository eventoProcessadoRepository;
+
+    @Test
+    @DisplayName("Deve ignorar registro repetido do mesmo evento pelo mesmo consumidor")
+    void deveIgnorarRegistroRepetido() {
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.now();
+
+        assertThat(eventoProcessadoRepository.registrar("email-notification", eventId, agora)).isEqualTo(1);
+        assertThat(eventoProcessadoRepository.registrar("email-notification", eventId, agora)).isZero();
+        assertThat(eventoProcessadoRepository.registrar("ai-recommendation", eventId, agora)).isEqualTo(1);
+
+        assertThat(eventoProcessadoRepository.existsById(new EventoProcessado.Chave("email-notification", eventId)))
+            .isTrue();
+        assertThat(eventoProcessadoRepository.findEventIdsProcessados("email-notification",
+            List.of(eventId, UUID.randomUUID()))).containsExactly(eventId);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas registros anteriores ao limite de retenção")
+    void deveRemoverRegistrosExpirados() {
+        UUID antigo = UUID.randomUUID();
+        UUID recente = UUID.randomUUID();
+        LocalDateTime agora = LocalDateTime.now();
+        eventoProcessadoRepository.registrar("email-notification", antigo, agora.minusDays(10));
+        eventoProcessadoRepository.registrar("email-notification", recente, agora);
+
+        int removidos = eventoProcessadoRepository.removerProcessadosAntesDe(agora.minusDays(7));
+
+        assertThat(removidos).isEqualTo(1);
+        assertThat(eventoProcessadoRepository.findEventIdsProcessados("email-notification", List.of(antigo, recente)))
+            .containsExactly(recente);
+    }
+}
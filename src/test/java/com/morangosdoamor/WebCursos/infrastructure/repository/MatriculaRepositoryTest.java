@@ -0,0 +1,161 @@
+package com.morangosdoamor.WebCursos.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.morangosdoamor.WebCursos.domain.entity.Aluno;
+import com.morangosdoamor.WebCursos.domain.entity.Curso;
+import com.morangosdoamor.WebCursos.domain.entity.Matricula;
+import com.morangosdoamor.WebCursos.domain.valueobject.CargaHoraria;
+import com.morangosdoamor.WebCursos.domain.valueobject.Email;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class MatriculaRepositoryTest {
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Aluno ana;
+    private Aluno bruno;
+    private Curso java;
+    private Curso sql;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        ana = persistirAluno("ana");
+        bruno = persistirAluno("bruno");
+        java = persistirCurso("LOTE-JAVA");
+        sql = persistirCurso("LOTE-SQL");
+    }
+
+    private Aluno persistirAluno(String nome) {
+        return entityManager.persist(Aluno.builder()
+            .nome(nome)
+            .email(new Email(nome + "@lote.com"))
+            .matricula("MAT-" + nome)
+            .criadoEm(LocalDateTime.now())
+            .build());
+    }
+
+    private Curso persistirCurso(String codigo) {
+        return entityManager.persist(Curso.builder()
+            .codigo(codigo)
+            .nome(codigo)
+            .descricao("Curso " + codigo)
+            .cargaHoraria(new CargaHoraria(40))
+            .build());
+    }
+
+    private Matricula novaMatricula(Aluno aluno, Curso curso) {
+        Matricula matricula = Matricula.builder().aluno(aluno).curso(curso).build();
+        matricula.registrarMatricula();
+        return matricula;
+    }
+
+    @Test
+    @DisplayName("deve listar apenas os pares (aluno, curso) já matriculados do lote")
+    void deveListarParesExistentes() {
+        entityManager.persist(novaMatricula(ana, java));
+        entityManager.persist(novaMatricula(bruno, sql));
+        entityManager.flush();
+
+        List<MatriculaRepository.ParAlunoCurso> pares =
+            matriculaRepository.findParesExistentes(Set.of(ana.getId()), Set.of(java.getId(), sql.getId()));
+
+        assertThat(pares)
+            .extracting(MatriculaRepository.ParAlunoCurso::getAlunoId, MatriculaRepository.ParAlunoCurso::getCursoId)
+            .containsExactly(tuple(ana.getId(), java.getId()));
+    }
+
+    @Test
+    @DisplayName("deve listar apenas os cursos concluídos com nota de aprovação")
+    void deveListarCursosAprovados() {
+        Matricula aprovada = novaMatricula(ana, java);
+        aprovada.concluir(8.0);
+        Matricula reprovada = novaMatricula(ana, sql);
+        reprovada.concluir(5.0);
+        entityManager.persist(aprovada);
+        entityManager.persist(reprovada);
+        entityManager.persist(novaMatricula(bruno, java));
+        entityManager.flush();
+
+        assertThat(matriculaRepository.findCodigosAprovados(ana.getId(), Matricula.NOTA_MINIMA_APROVACAO))
+            .containsExactly("LOTE-JAVA");
+        assertThat(matriculaRepository.findCursosAprovados(Set.of(ana.getId(), bruno.getId()), Matricula.NOTA_MINIMA_APROVACAO))
+            .extracting(MatriculaRepository.CursoAprovado::getAlunoId, MatriculaRepository.CursoAprovado::getCodigo)
+            .containsExactly(tuple(ana.getId(), "LOTE-JAVA"));
+    }
+
+    @Test
+    @DisplayName("deve gerar IDs UUID v7 em ordem de inserção")
+    void deveGerarIdsOrdenadosPorTempo() {
+        Matricula primeira = matriculaRepository.save(novaMatricula(ana, java));
+        Matricula segunda = matriculaRepository.save(novaMatricula(bruno, sql));
+
+        assertThat(primeira.getId().version()).isEqualTo(7);
+        assertThat(ana.getId().version()).isEqualTo(7);
+        assertThat(java.getId().version()).isEqualTo(7);
+        assertThat(Long.compareUnsigned(segunda.getId().getMostSignificantBits(),
+            primeira.getId().getMostSignificantBits())).isPositive();
+    }
+
+    @Test
+    @DisplayName("deve inserir matrículas do lote em batch JDBC")
+    void deveInserirMatriculasEmBatch() {
+        entityManager.flush();
+        List<Matricula> matriculas = new ArrayList<>();
+        for (Aluno aluno : List.of(ana, bruno)) {
+            for (Curso curso : List.of(java, sql)) {
+                matriculas.add(novaMatricula(aluno, curso));
+            }
+        }
+        statistics.clear();
+
+        matriculaRepository.saveAll(matriculas);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deve carregar matrículas com aluno e curso e atualizá-las em batch JDBC")
+    void deveConcluirMatriculasEmBatch() {
+        Matricula primeira = entityManager.persist(novaMatricula(ana, java));
+        Matricula segunda = entityManager.persist(novaMatricula(bruno, sql));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Matricula> matriculas = matriculaRepository.findAllByIdIn(Set.of(primeira.getId(), segunda.getId()));
+        matriculas.forEach(matricula -> matricula.concluir(8.0));
+        assertThat(matriculas).extracting(matricula -> matricula.getAluno().getNome())
+            .containsExactlyInAnyOrder("ana", "bruno");
+        entityManager.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.morangosdoamor.WebCursos.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.morangosdoamor.WebCursos.infrastructure.messaging.outbox.OutboxEvento;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEventoRepositoryTest {
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Test
+    @DisplayName("Deve buscar lote de eventos pendentes em ordem de criação")
+    void deveBuscarLoteEmOrdemDeCriacao() {
+        LocalDateTime agora = LocalDateTime.now();
+        outboxEventoRepository.saveAll(List.of(
+            criarEvento("{\"ordem\":2}", agora.plusSeconds(1)),
+            criarEvento("{\"ordem\":1}", agora),
+            criarEvento("{\"ordem\":3}", agora.plusSeconds(2))));
+
+        List<OutboxEvento> lote = outboxEventoRepository.findByOrderByCriadoEmAsc(Limit.of(2));
+
+        assertThat(lote).extracting(OutboxEvento::getPayload).containsExactly("{\"ordem\":1}", "{\"ordem\":2}");
+    }
+
+    private OutboxEvento criarEvento(String payload, LocalDateTime criadoEm) {
+        return OutboxEvento.builder()
+            .exchange("webcursos.exchange")
+            .routingKey("curso.concluido")
+            .tipo("CursoConcluidoEvent")
+            .payload(payload)
+            .criadoEm(criadoEm)
+            .build();
+    }
+}
@@ -30,6 +30,8 @@ import com.morangosdoamor.WebCursos.infrastructure.repository.AlunoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.CursoRepository;
 import com.morangosdoamor.WebCursos.infrastructure.repository.MatriculaRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.util.List;
 
 /**
@@ -54,6 +56,9 @@ class CursoIntegrationTest {
     @Autowired
     private MatriculaRepository matriculaRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         // Limpa os dados antes de cada teste para garantir isolamento
@@ -208,6 +213,11 @@ class CursoIntegrationTest {
         // Verifica que JAVA001 não está nos cursos liberados (já foi concluído)
         assertThat(cursosLiberadosDepois.getBody())
             .noneMatch(c -> c.codigo().equals("JAVA001"));
+
+        // 6. Verifica as métricas de serviços (@Timed) e de repositórios (Spring Data)
+        assertThat(meterRegistry.get("webcursos.servico").tag("method", "concluir").timer().count()).isPositive();
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+            .tag("repository", "MatriculaRepository").timers()).isNotEmpty();
     }
 
     @Test